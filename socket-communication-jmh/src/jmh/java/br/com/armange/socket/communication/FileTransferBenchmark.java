@@ -0,0 +1,161 @@
+package br.com.armange.socket.communication;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Time of a file transfer over loopback, by file size, through the {@link ChannelFileCommunication} with the
+ * receiver on {@code transferFrom} and on a memory mapping, and through a naive copy between the streams of the file
+ * and of the socket as the baseline. The larger sizes need as much free disk space twice, and are best run alone,
+ * e.g. with {@code -PjmhInclude=FileTransferBenchmark}.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileTransferBenchmark {
+    private static final int MEGABYTE = 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    @Param({"1", "64", "1024", "4096"})
+    public int megabytes;
+
+    private Path directory;
+    private Path source;
+    private Path target;
+    private ServerSocketChannel server;
+    private ExecutorService receiver;
+    private FileCommunication transferred;
+    private FileCommunication mapped;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-transfer-benchmark");
+        source = directory.resolve("source");
+        target = directory.resolve("target");
+        server = ServerSocketChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        receiver = Executors.newSingleThreadExecutor();
+        transferred = ChannelFileCommunication.newBuilder().build();
+        mapped = ChannelFileCommunication.newBuilder().setMappedReceive(true).build();
+
+        final ByteBuffer block = ByteBuffer.allocate(MEGABYTE);
+
+        new Random(20261015).nextBytes(block.array());
+
+        try (final FileChannel file = FileChannel.open(source, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < megabytes; i++) {
+                block.clear();
+
+                while (block.hasRemaining()) {
+                    file.write(block);
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        receiver.shutdownNow();
+        server.close();
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(target);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long channelTransfer() throws Exception {
+        return transfer(transferred);
+    }
+
+    @Benchmark
+    public long channelTransferMapped() throws Exception {
+        return transfer(mapped);
+    }
+
+    @Benchmark
+    public long streamCopy() throws Exception {
+        final Future<Long> received = receiver.submit(() -> {
+            try (final SocketChannel channel = server.accept();
+                    final DataInputStream input = new DataInputStream(channel.socket().getInputStream());
+                    final OutputStream output = Files.newOutputStream(target)) {
+                return copy(input, output, input.readLong());
+            }
+        });
+
+        try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress());
+                final DataOutputStream output = new DataOutputStream(channel.socket().getOutputStream());
+                final InputStream input = Files.newInputStream(source)) {
+            final long length = Files.size(source);
+
+            output.writeLong(length);
+            copy(input, output, length);
+            output.flush();
+        }
+
+        return received.get();
+    }
+
+    private long transfer(final FileCommunication communication) throws Exception {
+        final Future<Long> received = receiver.submit(() -> {
+            try (final SocketChannel channel = server.accept()) {
+                return communication.receive(channel, target);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            communication.send(source, channel);
+        }
+
+        return received.get();
+    }
+
+    private static long copy(final InputStream input, final OutputStream output, final long length)
+            throws IOException {
+        final byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        long copied = 0;
+
+        while (copied < length) {
+            final int read = input.read(buffer, 0, (int) Math.min(buffer.length, length - copied));
+
+            if (read < 0) {
+                throw new IOException("The stream was closed before the end of the file");
+            }
+
+            output.write(buffer, 0, read);
+            copied += read;
+        }
+
+        return copied;
+    }
+}
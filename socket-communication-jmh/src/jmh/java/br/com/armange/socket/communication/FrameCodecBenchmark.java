@@ -0,0 +1,93 @@
+package br.com.armange.socket.communication;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput of the {@link FrameCodec} encoding and of the {@link FrameDecoder} decoding of a receive buffer with
+ * {@value #FRAME_COUNT} coalesced frames, by payload size. Run it with {@code -PjmhProfilers=gc} to check that neither
+ * of them allocates.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameCodecBenchmark {
+    private static final int FRAME_COUNT = 64;
+
+    @Param({"16", "256", "4096"})
+    public int payloadLength;
+
+    private ByteBuffer payload;
+    private ByteBuffer encoded;
+    private ByteBuffer target;
+    private FrameDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        payload = ByteBuffer.allocate(payloadLength);
+        target = ByteBuffer.allocate(FRAME_COUNT * (FrameCodec.MAX_HEADER_SIZE + payloadLength));
+        encoded = ByteBuffer.allocate(target.capacity());
+        decoder = new FrameDecoder();
+
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            payload.clear();
+            FrameCodec.encode(encoded, BaseCommunication.STRING, (byte) 0, payload);
+        }
+
+        encoded.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAME_COUNT)
+    public ByteBuffer encode() {
+        target.clear();
+
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            payload.clear();
+            FrameCodec.encode(target, BaseCommunication.STRING, (byte) 0, payload);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAME_COUNT)
+    public ByteBuffer encodeHeader() {
+        target.clear();
+
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            FrameCodec.encodeHeader(target, BaseCommunication.FILE, (byte) 0, payloadLength);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAME_COUNT)
+    public int decode() throws ProtocolException {
+        int checksum = 0;
+
+        encoded.rewind();
+
+        while (decoder.decode(encoded)) {
+            checksum += decoder.getType() + encoded.remaining();
+            decoder.finish(encoded);
+        }
+
+        return checksum;
+    }
+}
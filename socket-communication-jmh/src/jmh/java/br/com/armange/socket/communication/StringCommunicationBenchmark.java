@@ -0,0 +1,267 @@
+package br.com.armange.socket.communication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Throughput and allocation rate of {@value #MESSAGE_COUNT} small UTF-8 messages written and read through the
+ * {@link ChannelStringCommunication}, and through {@code String.getBytes} and a {@link DataOutputStream} as the
+ * baseline, with ASCII messages on the single-byte fast path and with non-ASCII messages on the encoder. Run it with
+ * the GC profiler, where {@code gc.alloc.rate.norm} is the number of bytes allocated per message:
+ *
+ * <pre>
+ * gradle jmh -PjmhInclude=StringCommunicationBenchmark -PjmhProfilers=gc
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringCommunicationBenchmark {
+    private static final int MESSAGE_COUNT = 64;
+
+    @Param({"ascii", "non-ascii"})
+    public String content;
+
+    private String[] messages;
+    private ChannelStringCommunication writer;
+    private DataOutputStream stream;
+    private byte[] framed;
+    private byte[] lengthPrefixed;
+    private ReplayingChannel replaying;
+
+    /**
+     * Channel which discards the written bytes.
+     */
+    private static class DiscardingChannel implements ByteChannel, GatheringByteChannel {
+
+        @Override
+        public long write(final ByteBuffer[] sources, final int offset, final int length) {
+            long count = 0;
+
+            for (int i = offset; i < offset + length; i++) {
+                count += sources[i].remaining();
+                sources[i].position(sources[i].limit());
+            }
+
+            return count;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] sources) {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public int write(final ByteBuffer source) {
+            return (int) write(new ByteBuffer[] {source}, 0, 1);
+        }
+
+        @Override
+        public int read(final ByteBuffer target) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /**
+     * Channel which keeps the written bytes, to prepare the replayed frames.
+     */
+    private static class MemoryChannel extends DiscardingChannel {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        @Override
+        public long write(final ByteBuffer[] sources, final int offset, final int length) {
+            long count = 0;
+
+            for (int i = offset; i < offset + length; i++) {
+                while (sources[i].hasRemaining()) {
+                    bytes.write(sources[i].get());
+                    count++;
+                }
+            }
+
+            return count;
+        }
+    }
+
+    /**
+     * Channel which reads the given bytes from the start again after each rewind.
+     */
+    private static class ReplayingChannel implements ByteChannel {
+        private final ByteBuffer readable;
+
+        ReplayingChannel(final byte[] readable) {
+            this.readable = ByteBuffer.wrap(readable);
+        }
+
+        ReplayingChannel rewind() {
+            readable.rewind();
+            return this;
+        }
+
+        @Override
+        public int read(final ByteBuffer target) {
+            if (!readable.hasRemaining()) {
+                return -1;
+            }
+
+            final int length = Math.min(target.remaining(), readable.remaining());
+            final int limit = readable.limit();
+
+            readable.limit(readable.position() + length);
+            target.put(readable);
+            readable.limit(limit);
+
+            return length;
+        }
+
+        @Override
+        public int write(final ByteBuffer source) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        final String text = "ascii".equals(content) ? "message number " : "mensagem n\u00famero ";
+        final ByteArrayOutputStream lengthPrefixedBytes = new ByteArrayOutputStream();
+        final DataOutputStream lengthPrefixedStream = new DataOutputStream(lengthPrefixedBytes);
+
+        messages = new String[MESSAGE_COUNT];
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages[i] = text + i;
+            writeLengthPrefixed(lengthPrefixedStream, messages[i]);
+        }
+
+        final MemoryChannel memory = new MemoryChannel();
+
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(memory)
+                .build()) {
+            for (final String message : messages) {
+                communication.write(message);
+            }
+        }
+
+        framed = memory.bytes.toByteArray();
+        lengthPrefixed = lengthPrefixedBytes.toByteArray();
+        replaying = new ReplayingChannel(framed);
+        writer = ChannelStringCommunication.newBuilder().setChannel(new DiscardingChannel()).build();
+        stream = new DataOutputStream(new BufferedOutputStream(new OutputStream() {
+
+            @Override
+            public void write(final int b) {}
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {}
+        }));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writer.close();
+    }
+
+    private static void writeLengthPrefixed(final DataOutputStream output, final String message) throws IOException {
+        final byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void channelWrite() throws IOException {
+        for (final String message : messages) {
+            writer.write(message);
+        }
+
+        writer.flush();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public void streamWrite() throws IOException {
+        for (final String message : messages) {
+            writeLengthPrefixed(stream, message);
+        }
+
+        stream.flush();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public int channelRead() throws IOException {
+        int length = 0;
+
+        try (final ChannelStringCommunication reader = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(replaying.rewind())
+                .build()) {
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                length += reader.read().length();
+            }
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGE_COUNT)
+    public int streamRead() throws IOException {
+        final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new ByteArrayInputStream(lengthPrefixed)));
+        int length = 0;
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            final byte[] bytes = new byte[input.readInt()];
+
+            input.readFully(bytes);
+            length += new String(bytes, StandardCharsets.UTF_8).length();
+        }
+
+        return length;
+    }
+}
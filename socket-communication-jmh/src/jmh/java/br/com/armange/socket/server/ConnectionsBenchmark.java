@@ -0,0 +1,170 @@
+package br.com.armange.socket.server;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import br.com.armange.socket.channel.Connection;
+import br.com.armange.socket.channel.ConnectionHandler;
+
+/**
+ * Loopback load test of the concurrent connections held by a {@link NioSocketServer}. The server runs in this process
+ * and the client in a child process with the same class path, so each side only needs one descriptor per connection
+ * within its own open files limit. The client opens the connections from a single selector, exchanges one echoed byte
+ * on each one and holds all of them open until this process has printed the number of connections held and of server
+ * threads:
+ *
+ * <pre>
+ * ulimit -n 16384
+ * java -cp socket-communication-jmh-0.0.1-SNAPSHOT-jmh.jar br.com.armange.socket.server.ConnectionsBenchmark 10000 4
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ConnectionsBenchmark {
+    private static final int DEFAULT_CONNECTIONS = 10_000;
+    private static final long TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+    private static final String CLIENT = "client";
+    private static final String ECHOED = "Connections opened and echoed: ";
+
+    private static final ConnectionHandler ECHO = new ConnectionHandler() {
+        @Override
+        public void onRead(final Connection connection, final ByteBuffer buffer) {
+            final ByteBuffer echo = ByteBuffer.allocate(buffer.remaining());
+
+            echo.put(buffer).flip();
+            connection.write(echo);
+        }
+    };
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && CLIENT.equals(args[0])) {
+            runClient(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        } else {
+            runServer(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONNECTIONS,
+                    args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    private static void runServer(final int connections, final int reactors) throws IOException,
+            InterruptedException {
+        final int threadsBefore = Thread.activeCount();
+
+        try (final NioSocketServer server = NioSocketServer
+                .newBuilder()
+                .setAddress(new InetSocketAddress("127.0.0.1", 0))
+                .setReactorCount(reactors)
+                .setBufferSize(64)
+                .setHandler(ECHO)
+                .build()) {
+            server.start();
+
+            final Process client = startClient(server.getLocalAddress().getPort(), connections);
+
+            try (final BufferedReader output = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = output.readLine()) != null) {
+                    System.out.println(line);
+
+                    if (line.startsWith(ECHOED)) {
+                        System.out.println("Connections held by the server: " + server.getConnectionCount());
+                        System.out.println("Server threads: " + (Thread.activeCount() - threadsBefore)
+                                + " (" + server.getReactorCount() + " reactors and 1 acceptor)");
+
+                        //The client holds its connections until its input is closed.
+                        client.getOutputStream().close();
+                    }
+                }
+            } finally {
+                client.destroy();
+                client.waitFor();
+            }
+        }
+    }
+
+    private static Process startClient(final int port, final int connections) throws IOException {
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ConnectionsBenchmark.class.getName(), CLIENT, String.valueOf(port), String.valueOf(connections))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static void runClient(final int port, final int connections) throws IOException {
+        final long start = System.nanoTime();
+        final List<SocketChannel> channels = new ArrayList<>(connections);
+
+        try (final Selector selector = Selector.open()) {
+            final int echoed = exchange(new InetSocketAddress("127.0.0.1", port), connections, selector, channels);
+            final long elapsed = System.nanoTime() - start;
+
+            System.out.println("Elapsed: " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+            System.out.println(ECHOED + echoed + " of " + connections);
+            System.out.flush();
+
+            while (System.in.read() != -1) {
+                //Waits for the server to report the connections it holds.
+            }
+        } finally {
+            for (final SocketChannel channel : channels) {
+                channel.close();
+            }
+        }
+    }
+
+    private static int exchange(final InetSocketAddress address, final int connections, final Selector selector,
+            final List<SocketChannel> channels) throws IOException {
+        final ByteBuffer ping = ByteBuffer.allocateDirect(1);
+        final ByteBuffer pong = ByteBuffer.allocateDirect(1);
+        final long deadline = System.nanoTime() + TIMEOUT;
+        int echoed = 0;
+
+        for (int i = 0; i < connections; i++) {
+            final SocketChannel channel = SocketChannel.open();
+
+            channels.add(channel);
+            channel.configureBlocking(false);
+            channel.connect(address);
+            channel.register(selector, SelectionKey.OP_CONNECT);
+        }
+
+        while (echoed < connections && System.nanoTime() < deadline) {
+            selector.select(100);
+
+            for (final SelectionKey key : selector.selectedKeys()) {
+                final SocketChannel channel = (SocketChannel) key.channel();
+
+                if (key.isConnectable() && channel.finishConnect()) {
+                    ping.clear();
+                    channel.write(ping);
+                    key.interestOps(SelectionKey.OP_READ);
+                } else if (key.isReadable()) {
+                    pong.clear();
+
+                    if (channel.read(pong) > 0) {
+                        echoed++;
+                        key.interestOps(0);
+                    }
+                }
+            }
+
+            selector.selectedKeys().clear();
+        }
+
+        return echoed;
+    }
+}
@@ -0,0 +1,301 @@
+package br.com.armange.socket.channel;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking connection of a {@link Reactor}, with its own read buffer and write queue.
+ * <p>
+ * Every read, write and close is performed by the reactor thread. The writes of other threads are queued and flushed
+ * by a single reactor task, so many writes between two selections are written together by a gathering write. When
+ * the socket does not accept every queued byte, the connection waits for it to be writable instead of retrying.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class Connection implements AutoCloseable {
+    private final SocketChannel channel;
+    private final Reactor reactor;
+    private final ConnectionHandler handler;
+    private final ByteBuffer readBuffer;
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Runnable scheduledFlush = this::scheduledFlush;
+    private final CompletableFuture<Connection> opened = new CompletableFuture<>();
+    private SelectionKey key;
+    private boolean closeWhenFlushed;
+    //The frame larger than the read buffer, accumulated by a FrameHandler.
+    ByteBuffer largeFrame;
+    private volatile boolean closed;
+    private volatile Object attachment;
+
+    Connection(final SocketChannel channel, final Reactor reactor, final ConnectionHandler handler,
+            final int bufferSize) {
+        this.channel = channel;
+        this.reactor = reactor;
+        this.handler = handler;
+        this.readBuffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Queues the buffer to be written, from its position to its limit. The buffer belongs to the connection until it
+     * is written, so it must not be changed afterwards.
+     * @param buffer the bytes to be written.
+     * @return false if the connection is closed, so the buffer will never be written.
+     */
+    public boolean write(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "The {buffer} parameter is required");
+
+        if (closed) {
+            return false;
+        }
+
+        writeQueue.add(buffer);
+
+        if (reactor.inEventLoop()) {
+            flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            reactor.execute(scheduledFlush);
+        }
+
+        return true;
+    }
+
+    /**
+     * Closes the connection after flushing the writes already queued. The connection keeps being read meanwhile.
+     */
+    @Override
+    public void close() {
+        if (reactor.inEventLoop()) {
+            closeWhenFlushed();
+        } else {
+            reactor.execute(this::closeWhenFlushed);
+        }
+    }
+
+    /**
+     * @return the future completed when the connection is opened, or exceptionally if it is closed before.
+     */
+    public CompletableFuture<Connection> opened() {
+        return opened;
+    }
+
+    /**
+     * @return true until the connection is closed.
+     */
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * @return the address of the peer, or null if it is unknown.
+     */
+    public SocketAddress getRemoteAddress() {
+        try {
+            return channel.getRemoteAddress();
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the number of bytes of the read buffer.
+     */
+    public int getBufferSize() {
+        return readBuffer.capacity();
+    }
+
+    /**
+     * @param <T> the type of the attachment.
+     * @return the object attached to this connection by its handler, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getAttachment() {
+        return (T) attachment;
+    }
+
+    /**
+     * @param attachment the object attached to this connection, such as the state of a protocol.
+     */
+    public void setAttachment(final Object attachment) {
+        this.attachment = attachment;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    void register(final Selector selector, final boolean connecting) {
+        try {
+            key = channel.register(selector, connecting ? SelectionKey.OP_CONNECT : SelectionKey.OP_READ, this);
+        } catch (final ClosedChannelException e) {
+            close(e);
+            return;
+        }
+
+        if (!connecting) {
+            open();
+        }
+    }
+
+    void finishConnect() {
+        try {
+            if (!channel.finishConnect()) {
+                return;
+            }
+        } catch (final IOException e) {
+            close(e);
+            return;
+        }
+
+        key.interestOps(SelectionKey.OP_READ);
+        open();
+    }
+
+    private void open() {
+        reactor.connectionOpened();
+        opened.complete(this);
+
+        try {
+            handler.onOpen(this);
+        } catch (final RuntimeException e) {
+            close(e);
+            return;
+        }
+
+        //The writes queued before the opening.
+        flush();
+    }
+
+    void read() {
+        try {
+            if (channel.read(readBuffer) < 0) {
+                close(null);
+                return;
+            }
+
+            readBuffer.flip();
+            handler.onRead(this, readBuffer);
+
+            if (!readBuffer.hasRemaining()) {
+                readBuffer.clear();
+            } else if (readBuffer.position() == 0 && readBuffer.limit() == readBuffer.capacity()) {
+                throw new IOException("The read buffer of " + readBuffer.capacity() + " bytes is full");
+            } else {
+                readBuffer.compact();
+            }
+        } catch (final IOException | RuntimeException e) {
+            close(e);
+        }
+    }
+
+    void flush() {
+        if (closed || !opened.isDone()) {
+            return;
+        }
+
+        try {
+            final ByteBuffer[] buffers = reactor.gatherBuffers();
+
+            while (!writeQueue.isEmpty()) {
+                int count = 0;
+
+                for (final ByteBuffer buffer : writeQueue) {
+                    if (count == buffers.length) {
+                        break;
+                    }
+
+                    buffers[count++] = buffer;
+                }
+
+                channel.write(buffers, 0, count);
+
+                for (int i = 0; i < count; i++) {
+                    buffers[i] = null;
+                }
+
+                ByteBuffer buffer;
+
+                while ((buffer = writeQueue.peek()) != null && !buffer.hasRemaining()) {
+                    writeQueue.poll();
+                }
+
+                if (buffer != null && buffer.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+
+            if ((key.interestOps() & SelectionKey.OP_WRITE) != 0) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            }
+
+            if (closeWhenFlushed) {
+                close(null);
+            }
+        } catch (final IOException | RuntimeException e) {
+            close(e);
+        }
+    }
+
+    void close(final Throwable cause) {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        if (key != null) {
+            key.cancel();
+        }
+
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            if (cause != null) {
+                cause.addSuppressed(e);
+            }
+        }
+
+        writeQueue.clear();
+        largeFrame = null;
+
+        if (!opened.isDone()) {
+            opened.completeExceptionally(cause == null ? new ClosedChannelException() : cause);
+        } else {
+            reactor.connectionClosed();
+
+            try {
+                handler.onClose(this, cause);
+            } catch (final RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        flushScheduled.set(false);
+        flush();
+    }
+
+    private void closeWhenFlushed() {
+        if (writeQueue.isEmpty()) {
+            close(null);
+        } else {
+            closeWhenFlushed = true;
+        }
+    }
+}
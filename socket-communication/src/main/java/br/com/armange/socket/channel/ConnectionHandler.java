@@ -0,0 +1,38 @@
+package br.com.armange.socket.channel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Handler of the events of the connections of a {@link ReactorGroup}.
+ * <p>
+ * The events of a connection are always called by its reactor thread, one at a time, so a handler must never block:
+ * a blocked handler stalls every connection of the same reactor.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public interface ConnectionHandler {
+
+    /**
+     * Called once, when the connection is registered into its reactor.
+     * @param connection the opened connection.
+     */
+    default void onOpen(final Connection connection) {}
+
+    /**
+     * Called when bytes are read from the connection. The bytes not consumed from the buffer are kept, in front of
+     * the next bytes read, so a partial message can be left for the next call. The buffer belongs to the connection
+     * and must not be kept after the call.
+     * @param connection the connection which was read.
+     * @param buffer the read buffer of the connection, ready to be consumed.
+     */
+    void onRead(Connection connection, ByteBuffer buffer);
+
+    /**
+     * Called once, when the connection is closed.
+     * @param connection the closed connection.
+     * @param cause the exception which closed the connection, or null if it was closed normally or by the peer.
+     */
+    default void onClose(final Connection connection, final Throwable cause) {}
+}
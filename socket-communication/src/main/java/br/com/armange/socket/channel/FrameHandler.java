@@ -0,0 +1,110 @@
+package br.com.armange.socket.channel;
+
+import java.io.UncheckedIOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ConnectionHandler} of length-prefixed frames: every frame is a four-byte length followed by that many bytes.
+ * <p>
+ * The frames coalesced into a single read are handled one by one, and a partial frame is kept in the read buffer
+ * until its remaining bytes are read. A frame is handed as a window of the read buffer, without copying, unless it is
+ * larger than the buffer, in which case it is accumulated into a buffer of its own. The frame state is kept by the
+ * connection, so a single handler can be shared by every connection.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public abstract class FrameHandler implements ConnectionHandler {
+    /**
+     * 4 bytes as the size of the length prefix of a frame.
+     */
+    public static final int LENGTH_SIZE = 4;
+    /**
+     * 16 megabytes as the default maximum size of a frame.
+     */
+    public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private final int maxFrameSize;
+
+    protected FrameHandler() {
+        this(DEFAULT_MAX_FRAME_SIZE);
+    }
+
+    /**
+     * @param maxFrameSize the maximum size of a frame, which protects the receiver from a huge length.
+     */
+    protected FrameHandler(final int maxFrameSize) {
+        if (maxFrameSize < 1) {
+            throw new IllegalArgumentException("The {maxFrameSize} parameter must be greater than zero");
+        }
+
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * Called for every complete frame, in the reactor thread of the connection.
+     * @param connection the connection which was read.
+     * @param frame the bytes of the frame, without its length prefix. It must not be kept after the call.
+     */
+    protected abstract void onFrame(Connection connection, ByteBuffer frame);
+
+    @Override
+    public final void onRead(final Connection connection, final ByteBuffer buffer) {
+        if (connection.largeFrame != null && !accumulate(connection, buffer)) {
+            return;
+        }
+
+        while (buffer.remaining() >= LENGTH_SIZE) {
+            final int position = buffer.position();
+            final int length = buffer.getInt(position);
+
+            if (length < 0 || length > maxFrameSize) {
+                throw new UncheckedIOException(new ProtocolException(
+                        "The frame length " + length + " is not within 0-" + maxFrameSize));
+            }
+
+            if (buffer.remaining() - LENGTH_SIZE >= length) {
+                final int limit = buffer.limit();
+                final int end = position + LENGTH_SIZE + length;
+
+                buffer.position(position + LENGTH_SIZE).limit(end);
+
+                try {
+                    onFrame(connection, buffer);
+                } finally {
+                    buffer.limit(limit).position(end);
+                }
+            } else if (LENGTH_SIZE + length > buffer.capacity()) {
+                buffer.position(position + LENGTH_SIZE);
+                connection.largeFrame = ByteBuffer.allocate(length);
+
+                if (!accumulate(connection, buffer)) {
+                    return;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private boolean accumulate(final Connection connection, final ByteBuffer buffer) {
+        final ByteBuffer largeFrame = connection.largeFrame;
+        final int limit = buffer.limit();
+
+        buffer.limit(buffer.position() + Math.min(buffer.remaining(), largeFrame.remaining()));
+        largeFrame.put(buffer);
+        buffer.limit(limit);
+
+        if (largeFrame.hasRemaining()) {
+            return false;
+        }
+
+        connection.largeFrame = null;
+        largeFrame.flip();
+        onFrame(connection, largeFrame);
+
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.armange.socket.channel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Event loop of a single thread over its own {@link Selector}. The other threads hand it tasks, such as registrations
+ * and flushes, and wake the selector up at most once until it selects again.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class Reactor implements Runnable {
+    private static final int MAX_GATHERED_BUFFERS = 64;
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final ByteBuffer[] gatherBuffers = new ByteBuffer[MAX_GATHERED_BUFFERS];
+    private volatile Thread thread;
+    private volatile boolean running = true;
+    //Written only by the reactor thread.
+    private volatile int connectionCount;
+
+    Reactor() throws IOException {
+        this.selector = Selector.open();
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+
+        try {
+            while (running) {
+                selector.select();
+                wakeupPending.set(false);
+                runTasks();
+                processSelectedKeys();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            running = false;
+            runTasks();
+            closeConnections();
+        }
+    }
+
+    void execute(final Runnable task) {
+        tasks.add(task);
+
+        if (!inEventLoop() && wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    boolean inEventLoop() {
+        return thread == Thread.currentThread();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    ByteBuffer[] gatherBuffers() {
+        return gatherBuffers;
+    }
+
+    int getConnectionCount() {
+        return connectionCount;
+    }
+
+    void connectionOpened() {
+        connectionCount++;
+    }
+
+    void connectionClosed() {
+        connectionCount--;
+    }
+
+    private void runTasks() {
+        Runnable task;
+
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            final Connection connection = (Connection) key.attachment();
+
+            keys.remove();
+
+            if (key.isValid() && key.isConnectable()) {
+                connection.finishConnect();
+            }
+
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+
+            if (key.isValid() && key.isReadable()) {
+                connection.read();
+            }
+        }
+    }
+
+    private void closeConnections() {
+        for (final SelectionKey key : selector.keys()) {
+            ((Connection) key.attachment()).close(null);
+        }
+
+        try {
+            selector.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.armange.socket.channel;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group of I/O reactors, each one a thread with its own {@link java.nio.channels.Selector}, which share the
+ * connections round-robin. A connection is always handled by the same reactor, so its events are never concurrent,
+ * and a handful of reactors can hold many thousands of idle connections.
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * try (final ReactorGroup reactors = new ReactorGroup(2, ReactorGroup.DEFAULT_BUFFER_SIZE, "reactor-")) {
+ *     final Connection connection = reactors.register(socketChannel, anyConnectionHandler);
+ *
+ *     connection.write(ByteBuffer.wrap(bytes));
+ * }
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ReactorGroup implements AutoCloseable {
+    /**
+     * 4096 bytes as the default size of the read buffer of every connection.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private final Reactor[] reactors;
+    private final Thread[] threads;
+    private final int bufferSize;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates and starts the reactors.
+     * @param reactorCount the number of reactors, usually one per core.
+     * @param bufferSize the size of the read buffer of every connection, which bounds a message left partially read.
+     * @param namePrefix the name prefix of the reactor threads.
+     * @throws IOException if a selector cannot be opened.
+     */
+    public ReactorGroup(final int reactorCount, final int bufferSize, final String namePrefix) throws IOException {
+        if (reactorCount < 1) {
+            throw new IllegalArgumentException("The {reactorCount} parameter must be greater than zero");
+        }
+
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The {bufferSize} parameter must be greater than zero");
+        }
+
+        Objects.requireNonNull(namePrefix, "The {namePrefix} parameter is required");
+
+        this.reactors = new Reactor[reactorCount];
+        this.threads = new Thread[reactorCount];
+        this.bufferSize = bufferSize;
+
+        try {
+            for (int i = 0; i < reactorCount; i++) {
+                reactors[i] = new Reactor();
+            }
+        } catch (final IOException e) {
+            for (final Reactor reactor : reactors) {
+                if (reactor != null) {
+                    reactor.selector().close();
+                }
+            }
+
+            throw e;
+        }
+
+        for (int i = 0; i < reactorCount; i++) {
+            threads[i] = new Thread(reactors[i], namePrefix + i);
+            threads[i].start();
+        }
+    }
+
+    /**
+     * Registers a connected channel into the next reactor, which reads it and calls the handler. The channel is
+     * configured as non-blocking and without Nagle's algorithm.
+     * @param channel the connected channel.
+     * @param handler the handler of the connection events.
+     * @return the connection, which can be written before it is opened.
+     * @throws IOException if the channel cannot be configured, in which case it is closed.
+     * @throws RejectedExecutionException if this group is closed, in which case the channel is closed.
+     */
+    public Connection register(final SocketChannel channel, final ConnectionHandler handler) throws IOException {
+        Objects.requireNonNull(channel, "The {channel} parameter is required");
+        Objects.requireNonNull(handler, "The {handler} parameter is required");
+
+        return register(channel, handler, null);
+    }
+
+    /**
+     * Connects to the address without blocking, and registers the connection into the next reactor.
+     * @param address the address of the peer.
+     * @param handler the handler of the connection events.
+     * @return the connection, which can be written before it is connected. Its {@link Connection#opened()} future
+     * is completed when it is connected.
+     * @throws IOException if the channel cannot be opened or the connection fails at once.
+     * @throws RejectedExecutionException if this group is closed.
+     */
+    public Connection connect(final InetSocketAddress address, final ConnectionHandler handler) throws IOException {
+        Objects.requireNonNull(address, "The {address} parameter is required");
+        Objects.requireNonNull(handler, "The {handler} parameter is required");
+
+        return register(SocketChannel.open(), handler, address);
+    }
+
+    private Connection register(final SocketChannel channel, final ConnectionHandler handler,
+            final InetSocketAddress address) throws IOException {
+        final Reactor reactor = nextReactor();
+        final boolean connecting;
+
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+            if (!reactor.isRunning()) {
+                throw new RejectedExecutionException("The reactor group is closed");
+            }
+
+            connecting = address != null && !channel.connect(address);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        final Connection connection = new Connection(channel, reactor, handler, bufferSize);
+
+        reactor.execute(() -> connection.register(reactor.selector(), connecting));
+
+        return connection;
+    }
+
+    /**
+     * @return the number of open connections of every reactor.
+     */
+    public int getConnectionCount() {
+        int connectionCount = 0;
+
+        for (final Reactor reactor : reactors) {
+            connectionCount += reactor.getConnectionCount();
+        }
+
+        return connectionCount;
+    }
+
+    /**
+     * @return the number of reactors.
+     */
+    public int getReactorCount() {
+        return reactors.length;
+    }
+
+    /**
+     * Stops the reactors, closing their connections, and waits for their threads to finish.
+     */
+    @Override
+    public void close() {
+        for (final Reactor reactor : reactors) {
+            reactor.shutdown();
+        }
+
+        for (final Thread thread : threads) {
+            if (thread != Thread.currentThread()) {
+                try {
+                    thread.join();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    Reactor nextReactor() {
+        return reactors[Math.floorMod(next.getAndIncrement(), reactors.length)];
+    }
+}
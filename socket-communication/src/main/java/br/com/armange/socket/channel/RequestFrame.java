@@ -0,0 +1,61 @@
+package br.com.armange.socket.channel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the frames of a request-response protocol over a {@link FrameHandler}: a one-byte kind and an eight-byte
+ * correlation id, followed by the payload. A response carries the id of its request, so many requests can be in
+ * flight on the same connection and be answered in any order.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public final class RequestFrame {
+    /**
+     * Kind of a request, whose payload is handled by the server.
+     */
+    public static final byte REQUEST = 0;
+    /**
+     * Kind of a successful response, whose payload is the result.
+     */
+    public static final byte RESPONSE = 1;
+    /**
+     * Kind of a failed response, whose payload is the UTF-8 message of the failure.
+     */
+    public static final byte ERROR = 2;
+    /**
+     * Kind of a health check, answered at once with a {@link #PONG} of the same id.
+     */
+    public static final byte PING = 3;
+    /**
+     * Kind of the answer of a {@link #PING}.
+     */
+    public static final byte PONG = 4;
+    /**
+     * 9 bytes as the size of the kind and correlation id.
+     */
+    public static final int HEADER_SIZE = 9;
+
+    private RequestFrame() {}
+
+    /**
+     * @param kind the kind of the frame.
+     * @param id the correlation id.
+     * @param payload the payload, from its position to its limit, or null for an empty one. It is not changed.
+     * @return a new buffer with the whole frame, including its length prefix, ready to be written.
+     */
+    public static ByteBuffer encode(final byte kind, final long id, final ByteBuffer payload) {
+        final int payloadSize = payload == null ? 0 : payload.remaining();
+        final ByteBuffer frame = ByteBuffer.allocate(FrameHandler.LENGTH_SIZE + HEADER_SIZE + payloadSize);
+
+        frame.putInt(HEADER_SIZE + payloadSize).put(kind).putLong(id);
+
+        if (payload != null) {
+            frame.put(payload.duplicate());
+        }
+
+        frame.flip();
+
+        return frame;
+    }
+}
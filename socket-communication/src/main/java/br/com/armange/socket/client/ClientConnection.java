@@ -0,0 +1,145 @@
+package br.com.armange.socket.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import br.com.armange.socket.channel.Connection;
+import br.com.armange.socket.channel.FrameHandler;
+import br.com.armange.socket.channel.RequestFrame;
+
+/**
+ * Pooled connection of an {@link EndpointPool}, whose requests are pipelined: they are written without waiting for
+ * the previous responses, which are matched to their requests by the correlation id.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class ClientConnection extends FrameHandler {
+    private final EndpointPool pool;
+    private final Map<Long, PendingRequest> inFlight = new ConcurrentHashMap<>();
+    private volatile Connection connection;
+    private volatile long lastUsed = System.nanoTime();
+    private volatile long lastChecked = lastUsed;
+    //The requests in flight, without the health checks. Guarded by the pool.
+    int load;
+
+    ClientConnection(final EndpointPool pool) {
+        this.pool = pool;
+    }
+
+    void opened(final Connection connection) {
+        this.connection = connection;
+    }
+
+    void send(final PendingRequest request) {
+        lastUsed = System.nanoTime();
+        inFlight.put(request.id, request);
+
+        if (!connection.write(request.frame) && inFlight.remove(request.id, request)) {
+            pool.release(this);
+            request.result.completeExceptionally(new ClosedChannelException());
+        }
+    }
+
+    /**
+     * Sends a health check, which closes the connection unless it is answered before the request timeout.
+     */
+    void check(final long now) {
+        final PendingRequest ping = pool.newRequest(RequestFrame.PING, null, true);
+
+        lastChecked = now;
+        ping.result.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                connection.close();
+            }
+        });
+        inFlight.put(ping.id, ping);
+        connection.write(ping.frame);
+    }
+
+    /**
+     * Fails the requests in flight whose deadline has passed. Their late responses are ignored.
+     */
+    void expire(final long now) {
+        for (final PendingRequest request : inFlight.values()) {
+            if (request.isExpired(now) && inFlight.remove(request.id, request)) {
+                if (!request.healthCheck) {
+                    pool.release(this);
+                }
+
+                request.result.completeExceptionally(new TimeoutException("The request was not answered in "
+                        + TimeUnit.NANOSECONDS.toMillis(pool.getRequestTimeout()) + " milliseconds"));
+            }
+        }
+    }
+
+    void close() {
+        connection.close();
+    }
+
+    boolean isOpen() {
+        return connection.isOpen();
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    long getLastChecked() {
+        return lastChecked;
+    }
+
+    @Override
+    protected void onFrame(final Connection connection, final ByteBuffer frame) {
+        if (frame.remaining() < RequestFrame.HEADER_SIZE) {
+            throw new UncheckedIOException(new ProtocolException("The frame has no response header"));
+        }
+
+        final byte kind = frame.get();
+        final PendingRequest request = inFlight.remove(frame.getLong());
+
+        if (request == null) {
+            //The request has timed out.
+            return;
+        }
+
+        final ByteBuffer payload = ByteBuffer.allocate(frame.remaining());
+
+        payload.put(frame).flip();
+        lastUsed = System.nanoTime();
+
+        if (!request.healthCheck) {
+            pool.release(this);
+        }
+
+        if (kind == RequestFrame.RESPONSE || kind == RequestFrame.PONG) {
+            request.result.complete(payload);
+        } else if (kind == RequestFrame.ERROR) {
+            request.result.completeExceptionally(new IOException(StandardCharsets.UTF_8.decode(payload).toString()));
+        } else {
+            final ProtocolException failure = new ProtocolException("The frame kind " + kind + " is not a response");
+
+            request.result.completeExceptionally(failure);
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    @Override
+    public void onClose(final Connection connection, final Throwable cause) {
+        pool.remove(this);
+
+        for (final PendingRequest request : inFlight.values()) {
+            if (inFlight.remove(request.id, request)) {
+                request.result.completeExceptionally(cause == null ? new ClosedChannelException() : cause);
+            }
+        }
+    }
+}
@@ -1,5 +1,36 @@
 package br.com.armange.socket.client;
 
-public interface ClientSocket {
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Client of socket connections, which sends requests and receives their responses asynchronously.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.client.PooledClientSocket
+ */
+public interface ClientSocket extends AutoCloseable {
+
+    /**
+     * Sends the message to the endpoint, without blocking.
+     * @param endpoint the address of the server.
+     * @param message the payload of the request, from its position to its limit. It is copied before this method
+     * returns, so it can be reused.
+     * @return the future completed by the payload of the response, or exceptionally if the request fails or times
+     * out.
+     */
+    CompletableFuture<ByteBuffer> request(InetSocketAddress endpoint, ByteBuffer message);
+
+    /**
+     * @return the number of open connections of every endpoint.
+     */
+    int getConnectionCount();
+
+    /**
+     * Closes every connection, failing the requests not answered yet.
+     */
+    @Override
+    void close();
 }
@@ -0,0 +1,272 @@
+package br.com.armange.socket.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import br.com.armange.socket.channel.Connection;
+
+/**
+ * Bounded pool of the connections of a single endpoint of a {@link PooledClientSocket}.
+ * <p>
+ * A request is sent through the least loaded connection with a free pipelining slot. When every connection is full,
+ * the request waits for a slot, and a new connection is opened unless the pool is at its maximum size. The requests
+ * are written and their futures completed out of the pool lock.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class EndpointPool {
+    private final PooledClientSocket client;
+    private final InetSocketAddress endpoint;
+    private final List<ClientConnection> connections = new ArrayList<>();
+    private final Deque<PendingRequest> waiters = new ArrayDeque<>();
+    private int connectingCount;
+
+    EndpointPool(final PooledClientSocket client, final InetSocketAddress endpoint) {
+        this.client = client;
+        this.endpoint = endpoint;
+    }
+
+    void dispatch(final PendingRequest request) {
+        final ClientConnection connection;
+        final boolean closed;
+
+        synchronized (this) {
+            //The client may have been closed after it checked, and its closing drains the waiting requests.
+            closed = client.isClosed();
+            connection = closed ? null : reserve();
+
+            if (connection == null && !closed) {
+                waiters.add(request);
+
+                if (connections.size() + connectingCount < client.getMaxConnections()) {
+                    connectingCount++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        if (closed) {
+            request.result.completeExceptionally(new IllegalStateException("The client socket is closed"));
+        } else if (connection == null) {
+            connect();
+        } else {
+            connection.send(request);
+        }
+    }
+
+    /**
+     * Frees a pipelining slot of the connection, sending the next waiting request through it.
+     */
+    void release(final ClientConnection connection) {
+        final PendingRequest request;
+
+        synchronized (this) {
+            connection.load--;
+            request = connections.contains(connection) && connection.isOpen() ? waiters.poll() : null;
+
+            if (request != null) {
+                connection.load++;
+            }
+        }
+
+        if (request != null) {
+            connection.send(request);
+        }
+    }
+
+    /**
+     * Removes the closed connection, replacing it if there are waiting requests.
+     */
+    void remove(final ClientConnection connection) {
+        synchronized (this) {
+            if (!connections.remove(connection) || waiters.isEmpty()
+                    || connections.size() + connectingCount >= client.getMaxConnections()) {
+                return;
+            }
+
+            connectingCount++;
+        }
+
+        connect();
+    }
+
+    /**
+     * Expires the waiting requests, closes the connections idle for longer than the idle timeout and checks the
+     * health of the ones idle for longer than the health check interval.
+     */
+    void maintain(final long now) {
+        final List<PendingRequest> expired = new ArrayList<>();
+        final List<ClientConnection> evicted = new ArrayList<>();
+        final List<ClientConnection> checked = new ArrayList<>();
+        final ClientConnection[] snapshot;
+
+        synchronized (this) {
+            for (final Iterator<PendingRequest> iterator = waiters.iterator(); iterator.hasNext();) {
+                final PendingRequest request = iterator.next();
+
+                if (request.isExpired(now)) {
+                    iterator.remove();
+                    expired.add(request);
+                }
+            }
+
+            for (final Iterator<ClientConnection> iterator = connections.iterator(); iterator.hasNext();) {
+                final ClientConnection connection = iterator.next();
+
+                if (connection.load == 0 && now - connection.getLastUsed() >= client.getIdleTimeout()) {
+                    iterator.remove();
+                    evicted.add(connection);
+                } else if (connection.load == 0
+                        && now - connection.getLastUsed() >= client.getHealthCheckInterval()
+                        && now - connection.getLastChecked() >= client.getHealthCheckInterval()) {
+                    checked.add(connection);
+                }
+            }
+
+            snapshot = connections.toArray(new ClientConnection[connections.size()]);
+        }
+
+        for (final PendingRequest request : expired) {
+            request.result.completeExceptionally(new TimeoutException("No connection to " + endpoint
+                    + " was available before the request timeout"));
+        }
+
+        for (final ClientConnection connection : evicted) {
+            connection.close();
+        }
+
+        for (final ClientConnection connection : checked) {
+            connection.check(now);
+        }
+
+        for (final ClientConnection connection : snapshot) {
+            connection.expire(now);
+        }
+    }
+
+    /**
+     * Fails every waiting request, as the client is closed.
+     */
+    void close() {
+        final List<PendingRequest> failed;
+
+        synchronized (this) {
+            failed = new ArrayList<>(waiters);
+            waiters.clear();
+        }
+
+        for (final PendingRequest request : failed) {
+            request.result.completeExceptionally(new IllegalStateException("The client socket is closed"));
+        }
+    }
+
+    synchronized int getConnectionCount() {
+        return connections.size();
+    }
+
+    PendingRequest newRequest(final byte kind, final ByteBuffer payload, final boolean healthCheck) {
+        return client.newRequest(kind, payload, healthCheck);
+    }
+
+    long getRequestTimeout() {
+        return client.getRequestTimeout();
+    }
+
+    private ClientConnection reserve() {
+        ClientConnection leastLoaded = null;
+
+        for (final ClientConnection connection : connections) {
+            if (connection.load < client.getMaxPipelinedRequests()
+                    && (leastLoaded == null || connection.load < leastLoaded.load)) {
+                leastLoaded = connection;
+            }
+        }
+
+        if (leastLoaded != null) {
+            leastLoaded.load++;
+        }
+
+        return leastLoaded;
+    }
+
+    private void connect() {
+        final ClientConnection connection = new ClientConnection(this);
+
+        try {
+            client.getReactors().connect(endpoint, connection).opened().whenComplete((opened, throwable) -> {
+                if (throwable == null) {
+                    opened(connection, opened);
+                } else {
+                    connectFailed(throwable);
+                }
+            });
+        } catch (final IOException | RejectedExecutionException e) {
+            connectFailed(e);
+        }
+    }
+
+    private void opened(final ClientConnection connection, final Connection opened) {
+        final List<PendingRequest> requests = new ArrayList<>();
+        final boolean replaced;
+
+        connection.opened(opened);
+
+        synchronized (this) {
+            connectingCount--;
+            replaced = !connection.isOpen();
+
+            //The connection closed before being added was not found by its removal, so it is replaced here.
+            if (replaced) {
+                if (waiters.isEmpty() || connections.size() + connectingCount >= client.getMaxConnections()) {
+                    return;
+                }
+
+                connectingCount++;
+            } else {
+                connections.add(connection);
+
+                while (connection.load < client.getMaxPipelinedRequests() && !waiters.isEmpty()) {
+                    requests.add(waiters.poll());
+                    connection.load++;
+                }
+            }
+        }
+
+        if (replaced) {
+            connect();
+        }
+
+        for (final PendingRequest request : requests) {
+            connection.send(request);
+        }
+    }
+
+    private void connectFailed(final Throwable cause) {
+        final List<PendingRequest> failed = new ArrayList<>();
+
+        synchronized (this) {
+            connectingCount--;
+
+            //The other connections serve the waiting requests when they free a slot.
+            if (connections.isEmpty() && connectingCount == 0) {
+                failed.addAll(waiters);
+                waiters.clear();
+            }
+        }
+
+        for (final PendingRequest request : failed) {
+            request.result.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.armange.socket.client;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Request of a {@link PooledClientSocket} which was not answered yet, either waiting for a connection or in flight.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class PendingRequest {
+    final long id;
+    final ByteBuffer frame;
+    //The System.nanoTime() after which the request times out.
+    final long deadline;
+    //A health check does not take a pipelining slot of its connection.
+    final boolean healthCheck;
+    final CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+
+    PendingRequest(final long id, final ByteBuffer frame, final long deadline, final boolean healthCheck) {
+        this.id = id;
+        this.frame = frame;
+        this.deadline = deadline;
+        this.healthCheck = healthCheck;
+    }
+
+    boolean isExpired(final long now) {
+        return now - deadline >= 0;
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.armange.socket.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.com.armange.socket.channel.ReactorGroup;
+import br.com.armange.socket.channel.RequestFrame;
+
+/**
+ * Asynchronous {@link ClientSocket} with a bounded pool of reusable connections per endpoint.
+ * <p>
+ * The requests are pipelined: every connection carries many requests at once, each one with its own correlation id,
+ * so the responses can arrive in any order (see {@link RequestFrame}). A new connection is opened only when every
+ * pooled connection of the endpoint is at its pipelining limit, and the requests wait for a free slot when the pool
+ * is at its maximum size. The connections idle for longer than the idle timeout are closed, and the ones idle for
+ * longer than the health check interval are checked with a ping, which closes them unless it is answered.
+ * </p>
+ * <p>
+ * The connections are handled by a {@link ReactorGroup}, and the timeouts, evictions and health checks by a single
+ * maintenance thread every 100 milliseconds. The futures are completed in a reactor thread, so their dependent
+ * stages must not block, or they must be asynchronous.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * try (final ClientSocket client = PooledClientSocket
+ *          .newBuilder()
+ *          .setMaxConnections(2) //The maximum number of connections per endpoint.
+ *          .setMaxPipelinedRequests(32) //The maximum number of requests in flight per connection.
+ *          .setRequestTimeout(5000) //The timeout of every request.
+ *          .build()) {
+ *     client.request(anyEndpoint, ByteBuffer.wrap(bytes)).thenAccept(anyResponseConsumer);
+ * }
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.server.RequestConnectionHandler
+ */
+public class PooledClientSocket implements ClientSocket {
+    /**
+     * 4 connections as the default maximum number of connections per endpoint.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 4;
+    /**
+     * 64 requests as the default maximum number of requests in flight per connection.
+     */
+    public static final int DEFAULT_MAX_PIPELINED_REQUESTS = 64;
+    /**
+     * 60 seconds as the default idle time after which a connection is closed.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+    /**
+     * 15 seconds as the default idle time after which the health of a connection is checked.
+     */
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = TimeUnit.SECONDS.toMillis(15);
+    /**
+     * 30 seconds as the default timeout of a request.
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private static final long MAINTENANCE_PERIOD = 100;
+
+    private final int maxConnections;
+    private final int maxPipelinedRequests;
+    private final long idleTimeout;
+    private final long healthCheckInterval;
+    private final long requestTimeout;
+    private final ReactorGroup reactors;
+    private final ScheduledExecutorService maintenance;
+    private final Map<InetSocketAddress, EndpointPool> pools = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private volatile boolean closed;
+
+    private PooledClientSocket(final Builder builder) throws IOException {
+        this.maxConnections = builder.maxConnections;
+        this.maxPipelinedRequests = builder.maxPipelinedRequests;
+        this.idleTimeout = TimeUnit.MILLISECONDS.toNanos(builder.idleTimeout);
+        this.healthCheckInterval = TimeUnit.MILLISECONDS.toNanos(builder.healthCheckInterval);
+        this.requestTimeout = TimeUnit.MILLISECONDS.toNanos(builder.requestTimeout);
+        this.reactors = new ReactorGroup(builder.reactorCount, builder.bufferSize, "socket-client-reactor-");
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "socket-client-maintenance");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.maintenance.scheduleWithFixedDelay(this::maintain, MAINTENANCE_PERIOD, MAINTENANCE_PERIOD,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return a new object to configure a client.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> request(final InetSocketAddress endpoint, final ByteBuffer message) {
+        Objects.requireNonNull(endpoint, "The {endpoint} parameter is required");
+        Objects.requireNonNull(message, "The {message} parameter is required");
+
+        final PendingRequest request = newRequest(RequestFrame.REQUEST, message, false);
+
+        if (closed) {
+            request.result.completeExceptionally(new IllegalStateException("The client socket is closed"));
+        } else {
+            pools.computeIfAbsent(endpoint, key -> new EndpointPool(this, key)).dispatch(request);
+        }
+
+        return request.result;
+    }
+
+    @Override
+    public int getConnectionCount() {
+        int connectionCount = 0;
+
+        for (final EndpointPool pool : pools.values()) {
+            connectionCount += pool.getConnectionCount();
+        }
+
+        return connectionCount;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        maintenance.shutdownNow();
+        reactors.close();
+
+        for (final EndpointPool pool : pools.values()) {
+            pool.close();
+        }
+    }
+
+    PendingRequest newRequest(final byte kind, final ByteBuffer payload, final boolean healthCheck) {
+        final long id = nextId.incrementAndGet();
+
+        return new PendingRequest(id, RequestFrame.encode(kind, id, payload), System.nanoTime() + requestTimeout,
+                healthCheck);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    ReactorGroup getReactors() {
+        return reactors;
+    }
+
+    int getMaxConnections() {
+        return maxConnections;
+    }
+
+    int getMaxPipelinedRequests() {
+        return maxPipelinedRequests;
+    }
+
+    long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    long getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    long getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    private void maintain() {
+        final long now = System.nanoTime();
+
+        for (final EndpointPool pool : pools.values()) {
+            try {
+                pool.maintain(now);
+            } catch (final RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    /**
+     * Configuration of a {@link PooledClientSocket}.
+     */
+    public static class Builder {
+        private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+        private int maxPipelinedRequests = DEFAULT_MAX_PIPELINED_REQUESTS;
+        private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private long healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+        private long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        private int reactorCount = 1;
+        private int bufferSize = ReactorGroup.DEFAULT_BUFFER_SIZE;
+
+        private Builder() {}
+
+        /**
+         * @param maxConnections the maximum number of connections per endpoint.
+         * @return the current client builder.
+         */
+        public Builder setMaxConnections(final int maxConnections) {
+            this.maxConnections = requirePositive(maxConnections, "maxConnections");
+
+            return this;
+        }
+
+        /**
+         * @param maxPipelinedRequests the maximum number of requests in flight per connection.
+         * @return the current client builder.
+         */
+        public Builder setMaxPipelinedRequests(final int maxPipelinedRequests) {
+            this.maxPipelinedRequests = requirePositive(maxPipelinedRequests, "maxPipelinedRequests");
+
+            return this;
+        }
+
+        /**
+         * @param milliseconds the idle time after which a connection is closed.
+         * @return the current client builder.
+         */
+        public Builder setIdleTimeout(final long milliseconds) {
+            this.idleTimeout = requirePositive(milliseconds, "milliseconds");
+
+            return this;
+        }
+
+        /**
+         * @param milliseconds the idle time after which the health of a connection is checked.
+         * @return the current client builder.
+         */
+        public Builder setHealthCheckInterval(final long milliseconds) {
+            this.healthCheckInterval = requirePositive(milliseconds, "milliseconds");
+
+            return this;
+        }
+
+        /**
+         * @param milliseconds the time after which a request not answered fails, including the time it waits for a
+         * connection.
+         * @return the current client builder.
+         */
+        public Builder setRequestTimeout(final long milliseconds) {
+            this.requestTimeout = requirePositive(milliseconds, "milliseconds");
+
+            return this;
+        }
+
+        /**
+         * @param reactorCount the number of I/O reactor threads.
+         * @return the current client builder.
+         */
+        public Builder setReactorCount(final int reactorCount) {
+            this.reactorCount = requirePositive(reactorCount, "reactorCount");
+
+            return this;
+        }
+
+        /**
+         * @param bufferSize the size of the read buffer of every connection.
+         * @return the current client builder.
+         */
+        public Builder setBufferSize(final int bufferSize) {
+            this.bufferSize = requirePositive(bufferSize, "bufferSize");
+
+            return this;
+        }
+
+        /**
+         * @return a new client, whose reactor threads are started.
+         * @throws IOException if a selector cannot be opened.
+         */
+        public PooledClientSocket build() throws IOException {
+            return new PooledClientSocket(this);
+        }
+
+        private static int requirePositive(final int value, final String name) {
+            return (int) requirePositive((long) value, name);
+        }
+
+        private static long requirePositive(final long value, final String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException("The {" + name + "} parameter must be greater than zero");
+            }
+
+            return value;
+        }
+    }
+}
@@ -1,5 +1,34 @@
 package br.com.armange.socket.communication;
 
+/**
+ * Wire contract shared by every kind of communication: each message is a binary frame with a varint payload length,
+ * the type tag of its communication kind, the flags of that kind and the payload (see {@link FrameCodec} and
+ * {@link FrameDecoder}). The type tag lets the kinds share a connection, and the meaning of the flags is defined by
+ * each kind.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
 public interface BaseCommunication {
+    /**
+     * Type tag of the {@link StringCommunication} frames.
+     */
+    byte STRING = 1;
+    /**
+     * Type tag of the {@link CommandCommunication} frames.
+     */
+    byte COMMAND = 2;
+    /**
+     * Type tag of the {@link FileCommunication} frames.
+     */
+    byte FILE = 3;
+    /**
+     * Type tag of the {@link InstanceCommunication} frames.
+     */
+    byte INSTANCE = 4;
 
+    /**
+     * @return the type tag of the frames of this communication.
+     */
+    byte getType();
 }
@@ -0,0 +1,394 @@
+package br.com.armange.socket.communication;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.SelectableChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@link FileCommunication} over blocking channels, which moves the bytes of the files without copying them into the
+ * Java heap.
+ * <p>
+ * The sender writes every chunk by {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * which is a {@code sendfile} from the page cache to the socket on Linux, after writing its header alone. The
+ * receiver reads every chunk through a direct buffer of its own or, optionally, straight into a
+ * {@link MappedByteBuffer} of the chunk region. A {@code transferFrom} of a socket is not used, as it copies through
+ * a buffer of only 8 kilobytes. Only the headers, and the first bytes of a chunk read together with its header, go
+ * through the heap.
+ * </p>
+ * <p>
+ * A resumable receiver keeps the bytes of an existing target and asks the sender for the remaining ones, so an
+ * interrupted transfer is resumed by transferring the same file again to the same target.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * final FileCommunication communication = ChannelFileCommunication
+ *          .newBuilder()
+ *          .setChunkSize(4 * 1024 * 1024) //The size of the chunks sent.
+ *          .setResumable(true) //Whether an existing target is resumed.
+ *          .build();
+ *
+ * communication.send(anyFile, anySocketChannel); //By the sender.
+ * communication.receive(anySocketChannel, anyTarget); //By the receiver.
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ChannelFileCommunication implements FileCommunication {
+    /**
+     * 8 megabytes as the default size of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final int OFFSET_SIZE = Long.BYTES;
+    private static final int CONTROL_BUFFER_SIZE = 8 * 1024;
+    private static final int RECEIVE_BUFFER_SIZE = 256 * 1024;
+    private static final byte CHUNK = 0;
+
+    private final int chunkSize;
+    private final boolean resumable;
+    private final boolean mappedReceive;
+
+    private ChannelFileCommunication(final Builder builder) {
+        this.chunkSize = builder.chunkSize;
+        this.resumable = builder.resumable;
+        this.mappedReceive = builder.mappedReceive;
+    }
+
+    /**
+     * @return a new object to configure a file communication.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public long send(final Path source, final ByteChannel channel) throws IOException {
+        Objects.requireNonNull(source, "The {source} parameter is required");
+        requireBlocking(channel);
+
+        try (final FileChannel file = FileChannel.open(source, StandardOpenOption.READ)) {
+            final long length = file.size();
+            final ByteBuffer control = ByteBuffer.allocate(CONTROL_BUFFER_SIZE);
+
+            writeLong(channel, control, START, length);
+            control.clear().flip();
+
+            final long offset = readLong(channel, control, new FrameDecoder(OFFSET_SIZE), RESUME);
+
+            if (offset < 0 || offset > length) {
+                throw new ProtocolException("The resume offset " + offset + " is not within 0-" + length);
+            }
+
+            for (long position = offset; position < length;) {
+                final int chunk = (int) Math.min(chunkSize, length - position);
+
+                control.clear();
+                FrameCodec.encodeHeader(control, FILE, CHUNK, OFFSET_SIZE + chunk);
+                control.putLong(position).flip();
+                writeFully(channel, control);
+
+                for (final long end = position + chunk; position < end;) {
+                    final long transferred = file.transferTo(position, end - position, channel);
+
+                    if (transferred == 0 && file.size() < end) {
+                        throw new EOFException("The file was truncated to " + file.size() + " bytes while sent");
+                    }
+
+                    position += transferred;
+                }
+            }
+
+            return length - offset;
+        }
+    }
+
+    @Override
+    public long receive(final ByteChannel channel, final Path target) throws IOException {
+        Objects.requireNonNull(target, "The {target} parameter is required");
+        requireBlocking(channel);
+
+        final ByteBuffer control = ByteBuffer.allocate(CONTROL_BUFFER_SIZE);
+        final FrameDecoder decoder = new FrameDecoder(Integer.MAX_VALUE);
+
+        control.flip();
+
+        final long length = readLong(channel, control, decoder, START);
+
+        if (length < 0) {
+            throw new ProtocolException("The file length " + length + " is negative");
+        }
+
+        try (final FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final long offset = resumable ? Math.min(file.size(), length) : 0;
+
+            final ByteBuffer direct = mappedReceive
+                    ? null
+                    : ByteBuffer.allocateDirect((int) Math.max(1, Math.min(RECEIVE_BUFFER_SIZE, length - offset)));
+
+            file.truncate(resumable ? length : 0);
+            writeLong(channel, ByteBuffer.allocate(FrameCodec.MAX_HEADER_SIZE + OFFSET_SIZE), RESUME, offset);
+
+            for (long position = offset; position < length;) {
+                final int chunk = readChunkHeader(channel, control, decoder, position, length);
+
+                if (mappedReceive) {
+                    receiveMapped(channel, control, file, position, chunk);
+                } else {
+                    receiveDirect(channel, control, direct, file, position, chunk);
+                }
+
+                position += chunk;
+            }
+
+            return length - offset;
+        }
+    }
+
+    private static int readChunkHeader(final ByteChannel channel, final ByteBuffer control,
+            final FrameDecoder decoder, final long position, final long length) throws IOException {
+        while (!decoder.decodeHeader(control)) {
+            fill(channel, control);
+        }
+
+        requireFrame(decoder, CHUNK);
+
+        if (decoder.getPayloadLength() < OFFSET_SIZE) {
+            throw new ProtocolException("The file chunk has no offset");
+        }
+
+        while (control.remaining() < OFFSET_SIZE) {
+            fill(channel, control);
+        }
+
+        final long offset = control.getLong();
+        final int chunk = decoder.getPayloadLength() - OFFSET_SIZE;
+
+        if (offset != position || chunk > length - position) {
+            throw new ProtocolException("The file chunk of " + chunk + " bytes at " + offset
+                    + " does not follow the " + position + " bytes received of " + length);
+        }
+
+        return chunk;
+    }
+
+    private static void receiveDirect(final ByteChannel channel, final ByteBuffer control, final ByteBuffer direct,
+            final FileChannel file, final long position, final int chunk) throws IOException {
+        long received = writeBuffered(control, chunk, buffered -> writeFully(file, buffered, position));
+
+        while (received < chunk) {
+            direct.clear().limit((int) Math.min(direct.capacity(), chunk - received));
+
+            if (channel.read(direct) < 0) {
+                throw new EOFException("The channel was closed before the end of the file");
+            }
+
+            direct.flip();
+            received += writeFully(file, direct, position + received);
+        }
+    }
+
+    private static void receiveMapped(final ByteChannel channel, final ByteBuffer control,
+            final FileChannel file, final long position, final int chunk) throws IOException {
+        if (chunk == 0) {
+            return;
+        }
+
+        //The mapping is released by the garbage collector, and the chunk size bounds the mapped memory.
+        final MappedByteBuffer mapped = file.map(MapMode.READ_WRITE, position, chunk);
+
+        try {
+            writeBuffered(control, chunk, mapped::put);
+
+            while (mapped.hasRemaining()) {
+                if (channel.read(mapped) < 0) {
+                    throw new EOFException("The channel was closed before the end of the file");
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            truncate(file, position + mapped.position(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the bytes of a mapped chunk which were not received, as mapping the chunk extends the target to its end,
+     * and a resumed transfer starts at the end of the target.
+     */
+    private static void truncate(final FileChannel file, final long received, final Exception failure) {
+        try {
+            file.truncate(received);
+        } catch (final IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Writes the first bytes of the chunk, which were read into the control buffer together with its header.
+     */
+    private static int writeBuffered(final ByteBuffer control, final int chunk, final BufferedWriter writer)
+            throws IOException {
+        final int buffered = Math.min(control.remaining(), chunk);
+
+        if (buffered > 0) {
+            final int limit = control.limit();
+
+            control.limit(control.position() + buffered);
+            writer.write(control);
+            control.limit(limit);
+        }
+
+        return buffered;
+    }
+
+    private static long readLong(final ByteChannel channel, final ByteBuffer control, final FrameDecoder decoder,
+            final byte flags) throws IOException {
+        while (!decoder.decode(control)) {
+            fill(channel, control);
+        }
+
+        requireFrame(decoder, flags);
+
+        if (control.remaining() != OFFSET_SIZE) {
+            throw new ProtocolException("The file frame has " + control.remaining() + " bytes instead of a long");
+        }
+
+        final long value = control.getLong();
+
+        decoder.finish(control);
+
+        return value;
+    }
+
+    private static void writeLong(final ByteChannel channel, final ByteBuffer control, final byte flags,
+            final long value) throws IOException {
+        control.clear();
+        FrameCodec.encodeHeader(control, FILE, flags, OFFSET_SIZE);
+        control.putLong(value).flip();
+        writeFully(channel, control);
+    }
+
+    private static void requireFrame(final FrameDecoder decoder, final byte flags) throws ProtocolException {
+        if (decoder.getType() != FILE || decoder.getFlags() != flags) {
+            throw new ProtocolException("The frame of type " + decoder.getType() + " and flags " + decoder.getFlags()
+                    + " is not the expected file frame");
+        }
+    }
+
+    private static int writeFully(final FileChannel file, final ByteBuffer buffer, final long position)
+            throws IOException {
+        final int length = buffer.remaining();
+
+        for (long filePosition = position; buffer.hasRemaining();) {
+            filePosition += file.write(buffer, filePosition);
+        }
+
+        return length;
+    }
+
+    private static void writeFully(final ByteChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads more bytes into the control buffer, which is kept in read mode.
+     */
+    private static void fill(final ByteChannel channel, final ByteBuffer control) throws IOException {
+        control.compact();
+
+        try {
+            if (!control.hasRemaining()) {
+                throw new ProtocolException("The file frame header is larger than " + control.capacity() + " bytes");
+            }
+
+            if (channel.read(control) < 0) {
+                throw new EOFException("The channel was closed before the end of the file");
+            }
+        } finally {
+            control.flip();
+        }
+    }
+
+    private static void requireBlocking(final ByteChannel channel) {
+        Objects.requireNonNull(channel, "The {channel} parameter is required");
+
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("The {channel} parameter must be in blocking mode");
+        }
+    }
+
+    @FunctionalInterface
+    private interface BufferedWriter {
+        void write(ByteBuffer buffered) throws IOException;
+    }
+
+    /**
+     * Configuration of a {@link ChannelFileCommunication}. By default, the chunks have
+     * {@value ChannelFileCommunication#DEFAULT_CHUNK_SIZE} bytes, an existing target is overwritten and the chunks are
+     * received through a direct buffer.
+     */
+    public static class Builder {
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private boolean resumable;
+        private boolean mappedReceive;
+
+        private Builder() {}
+
+        /**
+         * @param chunkSize the maximum number of bytes of a chunk sent.
+         * @return the current file communication builder.
+         */
+        public Builder setChunkSize(final int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("The {chunkSize} parameter must be greater than zero");
+            }
+
+            this.chunkSize = chunkSize;
+
+            return this;
+        }
+
+        /**
+         * @param flag whether the bytes of an existing target are kept, and only the remaining ones are received.
+         * @return the current file communication builder.
+         */
+        public Builder setResumable(final boolean flag) {
+            this.resumable = flag;
+
+            return this;
+        }
+
+        /**
+         * @param flag whether the chunks are read straight into a memory mapping of the target. A failed transfer
+         * truncates the target to the bytes received, but a receiver killed while it receives a chunk
+         * leaves the rest of the chunk as zeros, which a resumable receiver would then keep.
+         * @return the current file communication builder.
+         */
+        public Builder setMappedReceive(final boolean flag) {
+            this.mappedReceive = flag;
+
+            return this;
+        }
+
+        /**
+         * @return a new file communication.
+         */
+        public ChannelFileCommunication build() {
+            return new ChannelFileCommunication(this);
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package br.com.armange.socket.communication;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link StringCommunication} over a blocking channel, made for many small messages.
+ * <p>
+ * The messages are encoded straight into pooled direct buffers, and the buffers of a batch are written together by a
+ * single gathering write. A text whose characters are all single bytes in the charset, which is every ASCII text in
+ * UTF-8 and every Latin-1 text in ISO-8859-1, is copied byte by byte, without a charset encoder nor decoder. The
+ * other texts are encoded and decoded by a single {@link CharsetEncoder} and {@link CharsetDecoder} of the
+ * communication, between reused heap buffers on which they run their array loops, and whose malformed and unmappable
+ * characters are replaced.
+ * </p>
+ * <p>
+ * A communication keeps the state of its channel, so it must be used by a single writer thread and a single reader
+ * thread, and it must be closed to give its buffers back to the pool. The channel is not closed by it.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * try (final ChannelStringCommunication communication = ChannelStringCommunication
+ *          .newBuilder()
+ *          .setChannel(anySocketChannel) //The blocking channel of the messages.
+ *          .setCharset(StandardCharsets.UTF_8) //The charset of the messages.
+ *          .build()) {
+ *     communication.write("first");
+ *     communication.write("second");
+ *     communication.flush(); //Both are written by a single write.
+ * }
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ChannelStringCommunication implements StringCommunication, AutoCloseable {
+    /**
+     * 64 kilobytes as the default number of queued bytes which are written without waiting for a flush.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 1024;
+    private static final int MAX_GATHERED_BUFFERS = 64;
+    private static final byte NO_FLAGS = 0;
+    private static final DirectBufferPool BUFFERS = new DirectBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+    private final ByteChannel channel;
+    private final int batchSize;
+    //The first character which is not a single byte of the charset, or zero if no character is.
+    private final int singleByteLimit;
+    private final CharsetEncoder encoder;
+    private final CharsetDecoder decoder;
+    private final FrameDecoder frameDecoder;
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_GATHERED_BUFFERS];
+    private int batchCount;
+    private int batchBytes;
+    private CharBuffer writeChars = CharBuffer.allocate(0);
+    private ByteBuffer writeBytes = ByteBuffer.allocate(0);
+    private ByteBuffer readBuffer;
+    private ByteBuffer readBytes = ByteBuffer.allocate(0);
+    private CharBuffer readChars = CharBuffer.allocate(0);
+    private boolean closed;
+
+    private ChannelStringCommunication(final Builder builder) {
+        this.channel = builder.channel;
+        this.batchSize = builder.batchSize;
+        this.singleByteLimit = singleByteLimitOf(builder.charset);
+        this.encoder = builder.charset
+                .newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.decoder = builder.charset
+                .newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.frameDecoder = new FrameDecoder(builder.maxMessageLength);
+        this.readBuffer = BUFFERS.acquire();
+        this.readBuffer.flip();
+    }
+
+    /**
+     * @return a new object to configure a string communication.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public void write(final CharSequence message) throws IOException {
+        Objects.requireNonNull(message, "The {message} parameter is required");
+        requireOpen();
+
+        if (singleByteLimit == 0 || !writeSingleBytes(message)) {
+            writeEncoded(message);
+        }
+
+        if (batchBytes >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        requireOpen();
+
+        if (batchCount == 0) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < batchCount; i++) {
+                batch[i].flip();
+            }
+
+            if (channel instanceof GatheringByteChannel) {
+                for (long remaining = batchBytes; remaining > 0;) {
+                    remaining -= ((GatheringByteChannel) channel).write(batch, 0, batchCount);
+                }
+            } else {
+                for (int i = 0; i < batchCount; i++) {
+                    while (batch[i].hasRemaining()) {
+                        channel.write(batch[i]);
+                    }
+                }
+            }
+        } finally {
+            for (int i = 0; i < batchCount; i++) {
+                if (batch[i].isDirect()) {
+                    BUFFERS.release(batch[i]);
+                }
+
+                batch[i] = null;
+            }
+
+            batchCount = 0;
+            batchBytes = 0;
+        }
+    }
+
+    @Override
+    public String read() throws IOException {
+        requireOpen();
+
+        while (!frameDecoder.decode(readBuffer)) {
+            if (frameDecoder.getPendingFrameSize() > readBuffer.capacity()) {
+                return readLarge();
+            }
+
+            if (!fill()) {
+                if (readBuffer.hasRemaining()) {
+                    throw new EOFException("The channel reached its end within a message");
+                }
+
+                return null;
+            }
+        }
+
+        return decodeFrame(readBuffer);
+    }
+
+    /**
+     * Writes the queued messages and gives the buffers back to the pool.
+     * @throws IOException if the queued messages cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            flush();
+        } finally {
+            closed = true;
+            BUFFERS.release(readBuffer);
+            readBuffer = null;
+        }
+    }
+
+    /**
+     * Encodes a message whose characters are all single bytes, in a single pass which gives up at the first other
+     * character.
+     */
+    private boolean writeSingleBytes(final CharSequence message) throws IOException {
+        final int length = message.length();
+        final int frameSize = FrameCodec.headerSize(length) + length;
+        final ByteBuffer target = reserve(frameSize);
+        final int start = target.position();
+
+        FrameCodec.encodeHeader(target, STRING, NO_FLAGS, length);
+
+        for (int i = 0; i < length; i++) {
+            final char character = message.charAt(i);
+
+            if (character >= singleByteLimit) {
+                target.position(start);
+                return false;
+            }
+
+            target.put((byte) character);
+        }
+
+        batchBytes += frameSize;
+
+        return true;
+    }
+
+    private void writeEncoded(final CharSequence message) throws IOException {
+        final int length = message.length();
+        final int maxLength = (int) Math.ceil(length * (double) encoder.maxBytesPerChar());
+
+        if (writeChars.capacity() < length) {
+            writeChars = CharBuffer.allocate(length);
+        }
+
+        if (writeBytes.capacity() < maxLength) {
+            writeBytes = ByteBuffer.allocate(maxLength);
+        }
+
+        if (message instanceof String) {
+            ((String) message).getChars(0, length, writeChars.array(), 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                writeChars.array()[i] = message.charAt(i);
+            }
+        }
+
+        writeChars.clear().limit(length);
+        writeBytes.clear();
+        encoder.reset();
+        requireUnderflow(encoder.encode(writeChars, writeBytes, true));
+        requireUnderflow(encoder.flush(writeBytes));
+        writeBytes.flip();
+
+        final int frameSize = FrameCodec.headerSize(writeBytes.remaining()) + writeBytes.remaining();
+
+        FrameCodec.encode(reserve(frameSize), STRING, NO_FLAGS, writeBytes);
+        batchBytes += frameSize;
+    }
+
+    /**
+     * @return the last buffer of the batch if it has room for the frame, otherwise a new one.
+     */
+    private ByteBuffer reserve(final int frameSize) throws IOException {
+        if (batchCount > 0 && batch[batchCount - 1].remaining() >= frameSize) {
+            return batch[batchCount - 1];
+        }
+
+        if (batchCount == batch.length) {
+            flush();
+        }
+
+        final ByteBuffer buffer = frameSize <= BUFFER_SIZE ? BUFFERS.acquire() : ByteBuffer.allocate(frameSize);
+
+        batch[batchCount++] = buffer;
+
+        return buffer;
+    }
+
+    private String readLarge() throws IOException {
+        final ByteBuffer frame = ByteBuffer.allocate(frameDecoder.getPendingFrameSize());
+
+        frame.put(readBuffer);
+
+        while (frame.hasRemaining()) {
+            if (channel.read(frame) < 0) {
+                throw new EOFException("The channel reached its end within a message");
+            }
+        }
+
+        frame.flip();
+        frameDecoder.decode(frame);
+
+        return decodeFrame(frame);
+    }
+
+    private String decodeFrame(final ByteBuffer buffer) throws IOException {
+        try {
+            if (frameDecoder.getType() != STRING) {
+                throw new ProtocolException("The frame of type " + frameDecoder.getType() + " is not a string");
+            }
+
+            return decode(buffer);
+        } finally {
+            frameDecoder.finish(buffer);
+        }
+    }
+
+    private String decode(final ByteBuffer payload) throws CharacterCodingException {
+        final int length = payload.remaining();
+
+        final boolean singleBytes = singleByteLimit > 0 && isSingleBytes(payload);
+
+        if (readBytes.capacity() < length) {
+            readBytes = ByteBuffer.allocate(length);
+        }
+
+        readBytes.clear();
+        readBytes.put(payload).flip();
+
+        if (singleBytes) {
+            return new String(readBytes.array(), 0, length, StandardCharsets.ISO_8859_1);
+        }
+
+        final int maxLength = (int) Math.ceil(length * (double) decoder.maxCharsPerByte());
+
+        if (readChars.capacity() < maxLength) {
+            readChars = CharBuffer.allocate(maxLength);
+        }
+
+        readChars.clear();
+        decoder.reset();
+        requireUnderflow(decoder.decode(readBytes, readChars, true));
+        requireUnderflow(decoder.flush(readChars));
+        readChars.flip();
+
+        return readChars.toString();
+    }
+
+    private boolean isSingleBytes(final ByteBuffer payload) {
+        if (singleByteLimit > 0xFF) {
+            return true;
+        }
+
+        for (int i = payload.position(); i < payload.limit(); i++) {
+            if ((payload.get(i) & 0xFF) >= singleByteLimit) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads more bytes into the read buffer, which is kept in read mode.
+     * @return false if the channel reached its end.
+     */
+    private boolean fill() throws IOException {
+        readBuffer.compact();
+
+        try {
+            return channel.read(readBuffer) >= 0;
+        } finally {
+            readBuffer.flip();
+        }
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("The string communication is closed");
+        }
+    }
+
+    private static void requireUnderflow(final CoderResult result) throws CharacterCodingException {
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+    }
+
+    private static int singleByteLimitOf(final Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)) {
+            return 0x80;
+        } else if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            return 0x100;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Configuration of a {@link ChannelStringCommunication}. By default, the messages are UTF-8 texts, and the
+     * batch is written every {@value ChannelStringCommunication#DEFAULT_BATCH_SIZE} bytes.
+     */
+    public static class Builder {
+        private ByteChannel channel;
+        private Charset charset = StandardCharsets.UTF_8;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int maxMessageLength = FrameDecoder.DEFAULT_MAX_PAYLOAD_LENGTH;
+
+        private Builder() {}
+
+        /**
+         * @param channel the blocking channel of the messages, whose gathering writes are used if it has them.
+         * @return the current string communication builder.
+         */
+        public Builder setChannel(final ByteChannel channel) {
+            this.channel = Objects.requireNonNull(channel, "The {channel} parameter is required");
+
+            return this;
+        }
+
+        /**
+         * @param charset the charset of the messages.
+         * @return the current string communication builder.
+         */
+        public Builder setCharset(final Charset charset) {
+            this.charset = Objects.requireNonNull(charset, "The {charset} parameter is required");
+
+            return this;
+        }
+
+        /**
+         * @param batchSize the number of queued bytes which are written without waiting for a flush.
+         * @return the current string communication builder.
+         */
+        public Builder setBatchSize(final int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The {batchSize} parameter must be greater than zero");
+            }
+
+            this.batchSize = batchSize;
+
+            return this;
+        }
+
+        /**
+         * @param maxMessageLength the maximum number of encoded bytes of a message read.
+         * @return the current string communication builder.
+         */
+        public Builder setMaxMessageLength(final int maxMessageLength) {
+            if (maxMessageLength < 1) {
+                throw new IllegalArgumentException("The {maxMessageLength} parameter must be greater than zero");
+            }
+
+            this.maxMessageLength = maxMessageLength;
+
+            return this;
+        }
+
+        /**
+         * @return a new string communication, which holds a pooled buffer until it is closed.
+         */
+        public ChannelStringCommunication build() {
+            Objects.requireNonNull(channel, "The {channel} parameter is required");
+
+            return new ChannelStringCommunication(this);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package br.com.armange.socket.communication;
 
-public interface CommandCommunication {
+public interface CommandCommunication extends BaseCommunication {
 
+    @Override
+    default byte getType() {
+        return COMMAND;
+    }
 }
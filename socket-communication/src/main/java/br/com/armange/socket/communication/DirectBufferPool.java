@@ -0,0 +1,58 @@
+package br.com.armange.socket.communication;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of direct buffers of a single size. A direct buffer is expensive to allocate and is released only by
+ * the garbage collector, so the buffers of short-lived communications are reused instead. Beyond the maximum, the
+ * released buffers are left to the garbage collector.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class DirectBufferPool {
+    private final int bufferSize;
+    private final int maxPooledBuffers;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    DirectBufferPool(final int bufferSize, final int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    /**
+     * @return a cleared buffer, either pooled or new.
+     */
+    ByteBuffer acquire() {
+        final ByteBuffer buffer = buffers.poll();
+
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        pooledBuffers.decrementAndGet();
+
+        return buffer;
+    }
+
+    /**
+     * @param buffer a buffer of this pool, which must not be used afterwards.
+     */
+    void release(final ByteBuffer buffer) {
+        if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+            pooledBuffers.decrementAndGet();
+            return;
+        }
+
+        buffer.clear();
+        buffers.add(buffer);
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+}
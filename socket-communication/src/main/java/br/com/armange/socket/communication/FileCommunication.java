@@ -1,5 +1,54 @@
 package br.com.armange.socket.communication;
 
-public interface FileCommunication {
+import java.io.IOException;
+import java.nio.channels.ByteChannel;
+import java.nio.file.Path;
 
+/**
+ * Communication of files, whose frames are:
+ *
+ * <ul>
+ * <li>{@link #START}, from the sender: the file length, as a long.</li>
+ * <li>{@link #RESUME}, from the receiver: the offset from which the file is wanted, as a long.</li>
+ * <li>chunk, without flags, from the sender: the offset of the chunk, as a long, and its bytes.</li>
+ * </ul>
+ *
+ * The chunks carry their offset, so an interrupted transfer is resumed by a new one from the bytes already received.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.communication.ChannelFileCommunication
+ */
+public interface FileCommunication extends BaseCommunication {
+    /**
+     * Flag of the frame which starts the transfer of a file.
+     */
+    byte START = 0x01;
+    /**
+     * Flag of the frame which answers a {@link #START} with the offset from which the file is wanted.
+     */
+    byte RESUME = 0x02;
+
+    @Override
+    default byte getType() {
+        return FILE;
+    }
+
+    /**
+     * Sends the file, blocking until it is entirely written.
+     * @param source the file to be sent.
+     * @param channel the blocking channel connected to the receiver.
+     * @return the number of bytes of the file which were sent, which excludes the ones the receiver already had.
+     * @throws IOException if the file cannot be read, the channel fails or the receiver breaks the protocol.
+     */
+    long send(Path source, ByteChannel channel) throws IOException;
+
+    /**
+     * Receives a file, blocking until it is entirely read.
+     * @param channel the blocking channel connected to the sender.
+     * @param target the file which receives the bytes, created if it does not exist.
+     * @return the number of bytes which were received, which excludes the ones of a resumed target.
+     * @throws IOException if the file cannot be written, the channel fails or the sender breaks the protocol.
+     */
+    long receive(ByteChannel channel, Path target) throws IOException;
 }
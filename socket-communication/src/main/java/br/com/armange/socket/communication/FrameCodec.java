@@ -0,0 +1,111 @@
+package br.com.armange.socket.communication;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Encoder of the frames of the {@link BaseCommunication} wire format:
+ *
+ * <pre>
+ * +----------------------+----------+-----------+-----------------+
+ * | payload length       | type     | flags     | payload         |
+ * | varint, 1 to 5 bytes | 1 byte   | 1 byte    | length bytes    |
+ * +----------------------+----------+-----------+-----------------+
+ * </pre>
+ *
+ * The length is an unsigned LEB128 varint, so the header of a frame with less than 128 bytes of payload has only 3
+ * bytes. The encoding writes straight into the target buffer, without allocating, and the header can be encoded
+ * alone so that a large payload is written by a gathering write instead of being copied.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.communication.FrameDecoder
+ */
+public final class FrameCodec {
+    /**
+     * 7 bytes as the maximum size of a frame header.
+     */
+    public static final int MAX_HEADER_SIZE = 7;
+
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private FrameCodec() {}
+
+    /**
+     * @param payloadLength the number of bytes of the payload.
+     * @return the number of bytes of the header of a frame with that payload.
+     */
+    public static int headerSize(final int payloadLength) {
+        requireLength(payloadLength);
+
+        return varintSize(payloadLength) + 2;
+    }
+
+    /**
+     * Writes the header of a frame at the position of the target, either entirely or not at all.
+     * @param target the buffer which receives the header.
+     * @param type the type tag of the frame.
+     * @param flags the flags of the frame.
+     * @param payloadLength the number of bytes of the payload, which must follow the header.
+     * @throws BufferOverflowException if the target has no room for the whole header.
+     */
+    public static void encodeHeader(final ByteBuffer target, final byte type, final byte flags,
+            final int payloadLength) {
+        if (target.remaining() < headerSize(payloadLength)) {
+            throw new BufferOverflowException();
+        }
+
+        int value = payloadLength;
+
+        while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+            target.put((byte) ((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION));
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+
+        target.put((byte) value).put(type).put(flags);
+    }
+
+    /**
+     * Writes a whole frame at the position of the target, either entirely or not at all.
+     * @param target the buffer which receives the frame.
+     * @param type the type tag of the frame.
+     * @param flags the flags of the frame.
+     * @param payload the payload, from its position to its limit. Its position is moved to its limit.
+     * @throws BufferOverflowException if the target has no room for the whole frame.
+     */
+    public static void encode(final ByteBuffer target, final byte type, final byte flags, final ByteBuffer payload) {
+        Objects.requireNonNull(payload, "The {payload} parameter is required");
+
+        final int payloadLength = payload.remaining();
+
+        if (target.remaining() < headerSize(payloadLength) + payloadLength) {
+            throw new BufferOverflowException();
+        }
+
+        encodeHeader(target, type, flags, payloadLength);
+        target.put(payload);
+    }
+
+    static int varintSize(final int value) {
+        if ((value & (~0 << 7)) == 0) {
+            return 1;
+        } else if ((value & (~0 << 14)) == 0) {
+            return 2;
+        } else if ((value & (~0 << 21)) == 0) {
+            return 3;
+        } else if ((value & (~0 << 28)) == 0) {
+            return 4;
+        }
+
+        return 5;
+    }
+
+    private static void requireLength(final int payloadLength) {
+        if (payloadLength < 0) {
+            throw new IllegalArgumentException("The {payloadLength} parameter must not be negative");
+        }
+    }
+}
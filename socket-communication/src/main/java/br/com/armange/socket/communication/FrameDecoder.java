@@ -0,0 +1,199 @@
+package br.com.armange.socket.communication;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental decoder of the frames of the {@link BaseCommunication} wire format (see {@link FrameCodec}).
+ * <p>
+ * The decoder reads the frames of a receive buffer in place: a complete frame is exposed by narrowing the buffer to
+ * its payload, without copying nor allocating, and the buffer is restored by {@link #finish(ByteBuffer)}. A partial
+ * frame is not consumed, so the buffer can be compacted and filled by the next read before decoding again, and the
+ * frames coalesced into a single read are decoded one by one. A decoder keeps the header of the pending frame, so
+ * it must be used by a single connection.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * while (decoder.decode(buffer)) {
+ *     handle(decoder.getType(), decoder.getFlags(), buffer); //The buffer holds the payload only.
+ *     decoder.finish(buffer);
+ * }
+ *
+ * buffer.compact();
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public final class FrameDecoder {
+    /**
+     * 16 megabytes as the default maximum size of a payload.
+     */
+    public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 16 * 1024 * 1024;
+
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private final int maxPayloadLength;
+    //The header of the pending frame, or zero until it is decoded.
+    private int headerSize;
+    private int payloadLength;
+    private byte type;
+    private byte flags;
+    //The limit of the buffer narrowed to a payload, or -1.
+    private int limit = -1;
+
+    public FrameDecoder() {
+        this(DEFAULT_MAX_PAYLOAD_LENGTH);
+    }
+
+    /**
+     * @param maxPayloadLength the maximum size of a payload, which protects the receiver from a huge length.
+     */
+    public FrameDecoder(final int maxPayloadLength) {
+        if (maxPayloadLength < 1) {
+            throw new IllegalArgumentException("The {maxPayloadLength} parameter must be greater than zero");
+        }
+
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    /**
+     * Decodes the frame at the position of the buffer. If it is complete, the buffer is narrowed to its payload until
+     * {@link #finish(ByteBuffer)}; otherwise, the buffer is not changed.
+     * @param buffer the receive buffer, in read mode.
+     * @return true if a complete frame was decoded.
+     * @throws ProtocolException if the header is malformed or the payload is longer than the maximum.
+     */
+    public boolean decode(final ByteBuffer buffer) throws ProtocolException {
+        if (limit >= 0) {
+            throw new IllegalStateException("The decoded frame is not finished");
+        }
+
+        if (headerSize == 0 && !parseHeader(buffer)) {
+            return false;
+        }
+
+        if (buffer.remaining() - headerSize < payloadLength) {
+            return false;
+        }
+
+        final int payloadStart = buffer.position() + headerSize;
+
+        limit = buffer.limit();
+        buffer.limit(payloadStart + payloadLength);
+        buffer.position(payloadStart);
+
+        return true;
+    }
+
+    /**
+     * Decodes only the header at the position of the buffer, for a payload streamed by the caller, such as a file
+     * chunk larger than the buffer. If it is complete, the buffer is positioned after it; otherwise, the buffer is not
+     * changed.
+     * @param buffer the receive buffer, in read mode.
+     * @return true if a complete header was decoded, whose payload length is {@link #getPayloadLength()}.
+     * @throws ProtocolException if the header is malformed or the payload is longer than the maximum.
+     */
+    public boolean decodeHeader(final ByteBuffer buffer) throws ProtocolException {
+        if (limit >= 0) {
+            throw new IllegalStateException("The decoded frame is not finished");
+        }
+
+        if (headerSize == 0 && !parseHeader(buffer)) {
+            return false;
+        }
+
+        buffer.position(buffer.position() + headerSize);
+        headerSize = 0;
+
+        return true;
+    }
+
+    /**
+     * Restores the buffer narrowed by {@link #decode(ByteBuffer)}, positioned after the decoded frame.
+     * @param buffer the receive buffer.
+     */
+    public void finish(final ByteBuffer buffer) {
+        if (limit < 0) {
+            throw new IllegalStateException("There is no decoded frame");
+        }
+
+        final int end = buffer.limit();
+
+        buffer.limit(limit);
+        buffer.position(end);
+        limit = -1;
+        headerSize = 0;
+    }
+
+    /**
+     * @return the type tag of the decoded frame.
+     */
+    public byte getType() {
+        return type;
+    }
+
+    /**
+     * @return the flags of the decoded frame.
+     */
+    public byte getFlags() {
+        return flags;
+    }
+
+    /**
+     * @return the payload length of the decoded frame, or of the pending one once its header is received.
+     */
+    public int getPayloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * @return the number of bytes of the whole pending frame once its header is received, which tells whether a
+     * receive buffer is large enough for it, or zero.
+     */
+    public int getPendingFrameSize() {
+        return headerSize == 0 ? 0 : headerSize + payloadLength;
+    }
+
+    private boolean parseHeader(final ByteBuffer buffer) throws ProtocolException {
+        final int position = buffer.position();
+        final int available = buffer.remaining();
+        int length = 0;
+        int size = 0;
+        int current;
+
+        do {
+            if (size == available) {
+                return false;
+            }
+
+            if (size == MAX_VARINT_SIZE) {
+                throw new ProtocolException("The frame length has more than " + MAX_VARINT_SIZE + " bytes");
+            }
+
+            current = buffer.get(position + size);
+            length |= (current & 0x7F) << (7 * size++);
+        } while ((current & 0x80) != 0);
+
+        if (size == MAX_VARINT_SIZE && (current & 0xF8) != 0) {
+            throw new ProtocolException("The frame length does not fit an int");
+        }
+
+        if (length > maxPayloadLength) {
+            throw new ProtocolException("The frame length " + length + " is not within 0-" + maxPayloadLength);
+        }
+
+        if (available < size + 2) {
+            return false;
+        }
+
+        this.payloadLength = length;
+        this.type = buffer.get(position + size);
+        this.flags = buffer.get(position + size + 1);
+        this.headerSize = size + 2;
+
+        return true;
+    }
+}
@@ -1,5 +1,9 @@
 package br.com.armange.socket.communication;
 
-public interface InstanceCommunication {
+public interface InstanceCommunication extends BaseCommunication {
 
+    @Override
+    default byte getType() {
+        return INSTANCE;
+    }
 }
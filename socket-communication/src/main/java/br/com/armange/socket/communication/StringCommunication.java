@@ -1,5 +1,39 @@
 package br.com.armange.socket.communication;
 
-public interface StringCommunication {
+import java.io.IOException;
 
+/**
+ * Communication of text messages, each one a frame whose payload is the encoded text.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.communication.ChannelStringCommunication
+ */
+public interface StringCommunication extends BaseCommunication {
+
+    @Override
+    default byte getType() {
+        return STRING;
+    }
+
+    /**
+     * Queues the message, which is written together with the next ones by the next {@link #flush()}, or as soon as
+     * the queued messages reach the batch size.
+     * @param message the text of the message.
+     * @throws IOException if the batch is written and the channel fails.
+     */
+    void write(CharSequence message) throws IOException;
+
+    /**
+     * Writes the queued messages, blocking until they are entirely written.
+     * @throws IOException if the channel fails.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reads the next message, blocking until it is entirely read.
+     * @return the text of the message, or null if the channel reached its end.
+     * @throws IOException if the channel fails, reaches its end within a message or breaks the protocol.
+     */
+    String read() throws IOException;
 }
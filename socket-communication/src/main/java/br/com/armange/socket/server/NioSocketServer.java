@@ -0,0 +1,264 @@
+package br.com.armange.socket.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import br.com.armange.socket.channel.ConnectionHandler;
+import br.com.armange.socket.channel.ReactorGroup;
+
+/**
+ * Non-blocking {@link SocketServer} with a multi-reactor event loop.
+ * <p>
+ * A single acceptor thread accepts the connections and hands them round-robin to the I/O reactors (see
+ * {@link br.com.armange.socket.channel.ReactorGroup}), one per core by default, which read and write them without
+ * blocking. Every connection has its own read buffer and write queue, and its events are handled by the
+ * {@link br.com.armange.socket.channel.ConnectionHandler} of the server, always in the thread of its reactor.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * try (final SocketServer server = NioSocketServer
+ *          .newBuilder()
+ *          .setPort(4321) //The port of the server.
+ *          .setReactorCount(4) //The number of reactor threads.
+ *          .setHandler(anyConnectionHandler) //The handler of the connection events.
+ *          .build()) {
+ *     server.start();
+ * }
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class NioSocketServer implements SocketServer {
+    /**
+     * 1024 pending connections as the default accept backlog.
+     */
+    public static final int DEFAULT_BACKLOG = 1024;
+
+    private static final long ACCEPT_BACKOFF = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final InetSocketAddress address;
+    private final int backlog;
+    private final int reactorCount;
+    private final int bufferSize;
+    private final ConnectionHandler handler;
+    private volatile ServerSocketChannel serverChannel;
+    private volatile ReactorGroup reactors;
+    private Thread acceptor;
+
+    private NioSocketServer(final Builder builder) {
+        this.address = builder.address;
+        this.backlog = builder.backlog;
+        this.reactorCount = builder.reactorCount;
+        this.bufferSize = builder.bufferSize;
+        this.handler = builder.handler;
+    }
+
+    /**
+     * @return a new object to configure a server.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+        if (serverChannel != null) {
+            throw new IllegalStateException("The server is already started");
+        }
+
+        final ReactorGroup reactors = new ReactorGroup(reactorCount, bufferSize, "socket-reactor-");
+        final ServerSocketChannel serverChannel = ServerSocketChannel.open();
+
+        try {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(address, backlog);
+        } catch (final IOException | RuntimeException e) {
+            serverChannel.close();
+            reactors.close();
+            throw e;
+        }
+
+        this.reactors = reactors;
+        this.serverChannel = serverChannel;
+        this.acceptor = new Thread(() -> accept(serverChannel, reactors), "socket-acceptor");
+        this.acceptor.start();
+    }
+
+    @Override
+    public boolean isRunning() {
+        final ServerSocketChannel serverChannel = this.serverChannel;
+
+        return serverChannel != null && serverChannel.isOpen();
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        try {
+            return isRunning() ? (InetSocketAddress) serverChannel.getLocalAddress() : null;
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public int getConnectionCount() {
+        final ReactorGroup reactors = this.reactors;
+
+        return reactors == null ? 0 : reactors.getConnectionCount();
+    }
+
+    /**
+     * @return the number of I/O reactor threads.
+     */
+    public int getReactorCount() {
+        return reactorCount;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (serverChannel == null) {
+            return;
+        }
+
+        try {
+            serverChannel.close();
+            acceptor.join();
+        } catch (final IOException e) {
+            //The acceptor stops anyway, as the channel is not open.
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reactors.close();
+        }
+    }
+
+    private void accept(final ServerSocketChannel serverChannel, final ReactorGroup reactors) {
+        while (serverChannel.isOpen()) {
+            final SocketChannel channel;
+
+            try {
+                channel = serverChannel.accept();
+            } catch (final ClosedChannelException e) {
+                return;
+            } catch (final IOException e) {
+                //E.g. too many open files: the pending connections are accepted when a connection is closed.
+                LockSupport.parkNanos(ACCEPT_BACKOFF);
+                continue;
+            }
+
+            try {
+                reactors.register(channel, handler);
+            } catch (final RejectedExecutionException e) {
+                return;
+            } catch (final IOException e) {
+                //The channel was reset by the peer, and closed by the registration.
+            }
+        }
+    }
+
+    /**
+     * Configuration of a {@link NioSocketServer}. By default, the server listens on every local address of an
+     * ephemeral port, with one reactor per available processor.
+     */
+    public static class Builder {
+        private InetSocketAddress address = new InetSocketAddress(0);
+        private int backlog = DEFAULT_BACKLOG;
+        private int reactorCount = Runtime.getRuntime().availableProcessors();
+        private int bufferSize = ReactorGroup.DEFAULT_BUFFER_SIZE;
+        private ConnectionHandler handler;
+
+        private Builder() {}
+
+        /**
+         * @param port the port of the server, or zero for an ephemeral one.
+         * @return the current server builder.
+         */
+        public Builder setPort(final int port) {
+            this.address = new InetSocketAddress(port);
+
+            return this;
+        }
+
+        /**
+         * @param address the address of the server.
+         * @return the current server builder.
+         */
+        public Builder setAddress(final InetSocketAddress address) {
+            this.address = Objects.requireNonNull(address, "The {address} parameter is required");
+
+            return this;
+        }
+
+        /**
+         * @param backlog the maximum number of pending connections.
+         * @return the current server builder.
+         */
+        public Builder setBacklog(final int backlog) {
+            if (backlog < 1) {
+                throw new IllegalArgumentException("The {backlog} parameter must be greater than zero");
+            }
+
+            this.backlog = backlog;
+
+            return this;
+        }
+
+        /**
+         * @param reactorCount the number of I/O reactor threads.
+         * @return the current server builder.
+         */
+        public Builder setReactorCount(final int reactorCount) {
+            if (reactorCount < 1) {
+                throw new IllegalArgumentException("The {reactorCount} parameter must be greater than zero");
+            }
+
+            this.reactorCount = reactorCount;
+
+            return this;
+        }
+
+        /**
+         * @param bufferSize the size of the read buffer of every connection.
+         * @return the current server builder.
+         */
+        public Builder setBufferSize(final int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("The {bufferSize} parameter must be greater than zero");
+            }
+
+            this.bufferSize = bufferSize;
+
+            return this;
+        }
+
+        /**
+         * @param handler the handler of the events of every connection.
+         * @return the current server builder.
+         */
+        public Builder setHandler(final ConnectionHandler handler) {
+            this.handler = Objects.requireNonNull(handler, "The {handler} parameter is required");
+
+            return this;
+        }
+
+        /**
+         * @return a new server, not started yet.
+         */
+        public NioSocketServer build() {
+            Objects.requireNonNull(handler, "The {handler} parameter is required");
+
+            return new NioSocketServer(this);
+        }
+    }
+}
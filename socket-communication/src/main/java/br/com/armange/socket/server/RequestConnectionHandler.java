@@ -0,0 +1,86 @@
+package br.com.armange.socket.server;
+
+import java.io.UncheckedIOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import br.com.armange.socket.channel.Connection;
+import br.com.armange.socket.channel.FrameHandler;
+import br.com.armange.socket.channel.RequestFrame;
+
+/**
+ * Server side of the request-response protocol of {@link RequestFrame}. Every request is handed to the
+ * {@link RequestHandler} as soon as it is read, so the requests pipelined by a client are handled concurrently when
+ * the handler completes them asynchronously, and every response carries the correlation id of its request. The
+ * health checks are answered at once.
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * NioSocketServer
+ *          .newBuilder()
+ *          .setHandler(new RequestConnectionHandler(request -&gt; CompletableFuture.completedFuture(anyResponse)))
+ *          .build()
+ *          .start();
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.client.PooledClientSocket
+ */
+public class RequestConnectionHandler extends FrameHandler {
+    private final RequestHandler handler;
+
+    /**
+     * @param handler the handler of the requests.
+     */
+    public RequestConnectionHandler(final RequestHandler handler) {
+        this.handler = Objects.requireNonNull(handler, "The {handler} parameter is required");
+    }
+
+    @Override
+    protected void onFrame(final Connection connection, final ByteBuffer frame) {
+        if (frame.remaining() < RequestFrame.HEADER_SIZE) {
+            throw new UncheckedIOException(new ProtocolException("The frame has no request header"));
+        }
+
+        final byte kind = frame.get();
+        final long id = frame.getLong();
+
+        if (kind == RequestFrame.PING) {
+            connection.write(RequestFrame.encode(RequestFrame.PONG, id, null));
+        } else if (kind == RequestFrame.REQUEST) {
+            handle(frame).whenComplete((response, throwable) -> connection.write(throwable == null
+                    ? RequestFrame.encode(RequestFrame.RESPONSE, id, response)
+                    : RequestFrame.encode(RequestFrame.ERROR, id, errorOf(throwable))));
+        } else {
+            throw new UncheckedIOException(new ProtocolException("The frame kind " + kind + " is not a request"));
+        }
+    }
+
+    private CompletionStage<ByteBuffer> handle(final ByteBuffer request) {
+        try {
+            return Objects.requireNonNull(handler.handle(request), "The request handler returned no stage");
+        } catch (final RuntimeException e) {
+            final CompletableFuture<ByteBuffer> failure = new CompletableFuture<>();
+
+            failure.completeExceptionally(e);
+
+            return failure;
+        }
+    }
+
+    private static ByteBuffer errorOf(final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        final String message = cause.getMessage() == null ? cause.getClass().getName() : cause.getMessage();
+
+        return ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+    }
+}
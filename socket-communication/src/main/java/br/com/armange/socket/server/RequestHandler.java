@@ -0,0 +1,23 @@
+package br.com.armange.socket.server;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Handler of the requests of a {@link RequestConnectionHandler}.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@FunctionalInterface
+public interface RequestHandler {
+
+    /**
+     * Called in the reactor thread of the connection, so it must not block: a slow request should be completed by
+     * another thread.
+     * @param request the payload of the request. It is a window of the read buffer, so it must be copied if it is
+     * used after the call.
+     * @return the stage completed by the payload of the response, or exceptionally by the failure sent to the client.
+     */
+    CompletionStage<ByteBuffer> handle(ByteBuffer request);
+}
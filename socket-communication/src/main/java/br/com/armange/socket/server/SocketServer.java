@@ -1,5 +1,42 @@
 package br.com.armange.socket.server;
 
-public interface SocketServer {
+import java.io.IOException;
+import java.net.InetSocketAddress;
 
+/**
+ * Server of socket connections.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see br.com.armange.socket.server.NioSocketServer
+ */
+public interface SocketServer extends AutoCloseable {
+
+    /**
+     * Binds the server address and starts accepting connections.
+     * @throws IOException if the address cannot be bound.
+     */
+    void start() throws IOException;
+
+    /**
+     * @return true from the start until the close of this server.
+     */
+    boolean isRunning();
+
+    /**
+     * @return the bound address, whose port is the chosen one if the server was configured with port zero, or null
+     * if the server is not running.
+     */
+    InetSocketAddress getLocalAddress();
+
+    /**
+     * @return the number of open connections.
+     */
+    int getConnectionCount();
+
+    /**
+     * Stops accepting connections and closes the open ones.
+     */
+    @Override
+    void close();
 }
@@ -0,0 +1,357 @@
+package br.com.armange.socket.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import br.com.armange.socket.server.NioSocketServer;
+import br.com.armange.socket.server.RequestConnectionHandler;
+import br.com.armange.socket.server.RequestHandler;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class PooledClientSocketTest {
+    private static final RequestHandler ECHO = request -> {
+        final ByteBuffer response = ByteBuffer.allocate(request.remaining());
+
+        response.put(request).flip();
+
+        return CompletableFuture.completedFuture(response);
+    };
+
+    private static NioSocketServer startServer(final RequestHandler handler) throws IOException {
+        final NioSocketServer server = NioSocketServer
+                .newBuilder()
+                .setAddress(new InetSocketAddress("127.0.0.1", 0))
+                .setReactorCount(2)
+                .setHandler(new RequestConnectionHandler(handler))
+                .build();
+
+        server.start();
+
+        return server;
+    }
+
+    private static ByteBuffer bufferOf(final String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String textOf(final CompletableFuture<ByteBuffer> response) throws Exception {
+        return StandardCharsets.UTF_8.decode(response.get(5, TimeUnit.SECONDS)).toString();
+    }
+
+    private static void awaitConnectionCount(final ClientSocket client, final int connectionCount)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (client.getConnectionCount() != connectionCount && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assert.assertEquals(connectionCount, client.getConnectionCount());
+    }
+
+    /**
+     * Echo handler whose responses are sent only when they are answered by the test.
+     */
+    private static class DeferredHandler implements RequestHandler {
+        private final List<CompletableFuture<Void>> answers = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<ByteBuffer> handle(final ByteBuffer request) {
+            final CompletableFuture<Void> answer = new CompletableFuture<>();
+            final ByteBuffer response = ByteBuffer.allocate(request.remaining());
+
+            response.put(request).flip();
+
+            synchronized (answers) {
+                answers.add(answer);
+            }
+
+            return answer.thenApply(ignored -> response);
+        }
+
+        int getRequestCount() {
+            synchronized (answers) {
+                return answers.size();
+            }
+        }
+
+        void answer(final int index) {
+            synchronized (answers) {
+                answers.get(index).complete(null);
+            }
+        }
+
+        void awaitRequestCount(final int requestCount) throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (getRequestCount() < requestCount && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            Assert.assertTrue(getRequestCount() >= requestCount);
+        }
+    }
+
+    @Test
+    public void requestAndResponse() throws Exception {
+        try (final NioSocketServer server = startServer(ECHO);
+                final PooledClientSocket client = PooledClientSocket.newBuilder().build()) {
+            Assert.assertEquals("ping", textOf(client.request(server.getLocalAddress(), bufferOf("ping"))));
+        }
+    }
+
+    @Test
+    public void reuseConnections() throws Exception {
+        try (final NioSocketServer server = startServer(ECHO);
+                final PooledClientSocket client = PooledClientSocket.newBuilder().build()) {
+            for (int i = 0; i < 100; i++) {
+                Assert.assertEquals("message" + i,
+                        textOf(client.request(server.getLocalAddress(), bufferOf("message" + i))));
+            }
+
+            Assert.assertEquals(1, client.getConnectionCount());
+            Assert.assertEquals(1, server.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void requestMessagesLargerThanTheBuffer() throws Exception {
+        final byte[] message = new byte[100_000];
+
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) i;
+        }
+
+        try (final NioSocketServer server = startServer(ECHO);
+                final PooledClientSocket client = PooledClientSocket.newBuilder().setBufferSize(1024).build()) {
+            final ByteBuffer response = client
+                    .request(server.getLocalAddress(), ByteBuffer.wrap(message))
+                    .get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(ByteBuffer.wrap(message), response);
+        }
+    }
+
+    @Test
+    public void pipelineRequestsWithinTheMaxConnections() throws Exception {
+        final DeferredHandler handler = new DeferredHandler();
+
+        try (final NioSocketServer server = startServer(handler);
+                final PooledClientSocket client = PooledClientSocket
+                        .newBuilder()
+                        .setMaxConnections(2)
+                        .setMaxPipelinedRequests(5)
+                        .build()) {
+            final List<CompletableFuture<ByteBuffer>> responses = new ArrayList<>();
+
+            for (int i = 0; i < 30; i++) {
+                responses.add(client.request(server.getLocalAddress(), bufferOf("message" + i)));
+            }
+
+            //2 connections with 5 requests in flight each, and the others waiting for a slot.
+            handler.awaitRequestCount(10);
+            Thread.sleep(100);
+
+            Assert.assertEquals(10, handler.getRequestCount());
+            Assert.assertEquals(2, client.getConnectionCount());
+
+            for (int i = 0; i < 30; i++) {
+                handler.awaitRequestCount(i + 1);
+                handler.answer(i);
+            }
+
+            for (int i = 0; i < 30; i++) {
+                Assert.assertEquals("message" + i, textOf(responses.get(i)));
+            }
+
+            Assert.assertEquals(2, client.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void matchResponsesAnsweredOutOfOrder() throws Exception {
+        final DeferredHandler handler = new DeferredHandler();
+
+        try (final NioSocketServer server = startServer(handler);
+                final PooledClientSocket client = PooledClientSocket.newBuilder().setMaxConnections(1).build()) {
+            final List<CompletableFuture<ByteBuffer>> responses = new ArrayList<>();
+
+            for (int i = 0; i < 10; i++) {
+                responses.add(client.request(server.getLocalAddress(), bufferOf("message" + i)));
+            }
+
+            handler.awaitRequestCount(10);
+
+            for (int i = 9; i >= 0; i--) {
+                handler.answer(i);
+            }
+
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals("message" + i, textOf(responses.get(i)));
+            }
+
+            Assert.assertEquals(1, client.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void failTheRequestsFailedByTheServer() throws Exception {
+        final RequestHandler failing = request -> {
+            throw new IllegalArgumentException("Unknown request");
+        };
+
+        try (final NioSocketServer server = startServer(failing);
+                final PooledClientSocket client = PooledClientSocket.newBuilder().build()) {
+            try {
+                client.request(server.getLocalAddress(), bufferOf("ping")).get(5, TimeUnit.SECONDS);
+                Assert.fail("The request should have failed");
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IOException);
+                Assert.assertEquals("Unknown request", e.getCause().getMessage());
+            }
+
+            //The connection is still usable.
+            Assert.assertEquals(1, client.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void timeOutTheRequestsNotAnswered() throws Exception {
+        try (final NioSocketServer server = startServer(request -> new CompletableFuture<>());
+                final PooledClientSocket client = PooledClientSocket.newBuilder().setRequestTimeout(200).build()) {
+            try {
+                client.request(server.getLocalAddress(), bufferOf("ping")).get(5, TimeUnit.SECONDS);
+                Assert.fail("The request should have timed out");
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+        }
+    }
+
+    @Test
+    public void failTheRequestsOfAnUnreachableEndpoint() throws Exception {
+        final InetSocketAddress endpoint;
+
+        try (final NioSocketServer server = startServer(ECHO)) {
+            endpoint = server.getLocalAddress();
+        }
+
+        try (final PooledClientSocket client = PooledClientSocket.newBuilder().build()) {
+            try {
+                client.request(endpoint, bufferOf("ping")).get(5, TimeUnit.SECONDS);
+                Assert.fail("The request should have failed");
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IOException);
+            }
+
+            Assert.assertEquals(0, client.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void evictIdleConnections() throws Exception {
+        try (final NioSocketServer server = startServer(ECHO);
+                final PooledClientSocket client = PooledClientSocket.newBuilder().setIdleTimeout(200).build()) {
+            Assert.assertEquals("ping", textOf(client.request(server.getLocalAddress(), bufferOf("ping"))));
+            Assert.assertEquals(1, client.getConnectionCount());
+
+            awaitConnectionCount(client, 0);
+
+            Assert.assertEquals("pong", textOf(client.request(server.getLocalAddress(), bufferOf("pong"))));
+            Assert.assertEquals(1, client.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void keepHealthyIdleConnections() throws Exception {
+        try (final NioSocketServer server = startServer(ECHO);
+                final PooledClientSocket client = PooledClientSocket
+                        .newBuilder()
+                        .setHealthCheckInterval(100)
+                        .setRequestTimeout(1000)
+                        .build()) {
+            Assert.assertEquals("ping", textOf(client.request(server.getLocalAddress(), bufferOf("ping"))));
+
+            Thread.sleep(500);
+
+            Assert.assertEquals(1, client.getConnectionCount());
+            Assert.assertEquals("pong", textOf(client.request(server.getLocalAddress(), bufferOf("pong"))));
+            Assert.assertEquals(1, client.getConnectionCount());
+        }
+    }
+
+    @Test
+    public void releaseTheConnectionsClosedByThePeer() throws Exception {
+        try (final ServerSocketChannel server = ServerSocketChannel.open();
+                final PooledClientSocket client = PooledClientSocket
+                        .newBuilder()
+                        .setMaxConnections(1)
+                        .setMaxPipelinedRequests(1)
+                        .build()) {
+            server.bind(new InetSocketAddress("127.0.0.1", 0));
+
+            final Thread closer = new Thread(() -> {
+                while (server.isOpen()) {
+                    try (final SocketChannel channel = server.accept()) {
+                        //Closed at once.
+                    } catch (final IOException e) {
+                        return;
+                    }
+                }
+            });
+
+            closer.setDaemon(true);
+            closer.start();
+
+            for (int i = 0; i < 20; i++) {
+                try {
+                    client.request((InetSocketAddress) server.getLocalAddress(), bufferOf("ping")).get(5,
+                            TimeUnit.SECONDS);
+                    Assert.fail("The request should have failed");
+                } catch (final ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof IOException);
+                }
+            }
+
+            awaitConnectionCount(client, 0);
+        }
+    }
+
+    @Test
+    public void failTheRequestsOfAClosedClient() throws Exception {
+        final CompletableFuture<ByteBuffer> response;
+
+        try (final NioSocketServer server = startServer(request -> new CompletableFuture<>())) {
+            final PooledClientSocket client = PooledClientSocket.newBuilder().build();
+
+            response = client.request(server.getLocalAddress(), bufferOf("ping"));
+            client.close();
+
+            try {
+                response.get(5, TimeUnit.SECONDS);
+                Assert.fail("The request should have failed");
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IOException
+                        || e.getCause() instanceof IllegalStateException);
+            }
+
+            Assert.assertTrue(client.request(server.getLocalAddress(), bufferOf("ping")).isCompletedExceptionally());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package br.com.armange.socket.communication;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ChannelFileCommunicationTest {
+    private Path directory;
+    private Path source;
+    private Path target;
+    private byte[] content;
+
+    @FunctionalInterface
+    private interface Endpoint {
+        long transfer(SocketChannel channel) throws IOException;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-communication");
+        source = directory.resolve("source");
+        target = directory.resolve("target");
+        content = new byte[10_123];
+        new Random(20261015).nextBytes(content);
+        Files.write(source, content);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(target);
+        Files.delete(directory);
+    }
+
+    private long[] transfer(final FileCommunication sender, final FileCommunication receiver) throws Exception {
+        return transfer(channel -> sender.send(source, channel), channel -> receiver.receive(channel, target));
+    }
+
+    /**
+     * Sends through a loopback connection, and returns the number of bytes sent and received.
+     */
+    private long[] transfer(final Endpoint sender, final Endpoint receiver) throws Exception {
+        try (final ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress("127.0.0.1", 0));
+
+            final CompletableFuture<Long> received = CompletableFuture.supplyAsync(() -> {
+                try (final SocketChannel channel = server.accept()) {
+                    return receiver.transfer(channel);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+                final long sent = sender.transfer(channel);
+
+                return new long[] {sent, received.get(5, TimeUnit.SECONDS)};
+            }
+        }
+    }
+
+    private static FileCommunication newCommunication(final boolean mapped) {
+        return ChannelFileCommunication.newBuilder().setChunkSize(1000).setMappedReceive(mapped).build();
+    }
+
+    @Test
+    public void transferFilesInChunks() throws Exception {
+        final FileCommunication communication = newCommunication(false);
+        final long[] counts = transfer(communication, communication);
+
+        Assert.assertArrayEquals(new long[] {content.length, content.length}, counts);
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void transferChunksLargerThanTheReceiveBuffer() throws Exception {
+        final FileCommunication communication = ChannelFileCommunication.newBuilder().build();
+
+        content = new byte[1024 * 1024 + 1];
+        new Random(15102026).nextBytes(content);
+        Files.write(source, content);
+
+        final long[] counts = transfer(communication, communication);
+
+        Assert.assertArrayEquals(new long[] {content.length, content.length}, counts);
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void receiveIntoMappedFiles() throws Exception {
+        final FileCommunication communication = newCommunication(true);
+        final long[] counts = transfer(communication, communication);
+
+        Assert.assertArrayEquals(new long[] {content.length, content.length}, counts);
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void transferEmptyFiles() throws Exception {
+        final FileCommunication communication = newCommunication(false);
+
+        content = new byte[0];
+        Files.write(source, content);
+
+        final long[] counts = transfer(communication, communication);
+
+        Assert.assertArrayEquals(new long[] {0, 0}, counts);
+        Assert.assertEquals(0, Files.size(target));
+    }
+
+    @Test
+    public void resumeFromTheBytesAlreadyReceived() throws Exception {
+        final FileCommunication sender = newCommunication(false);
+        final FileCommunication receiver = ChannelFileCommunication.newBuilder().setResumable(true).build();
+
+        Files.write(target, Arrays.copyOf(content, 4321));
+
+        final long[] counts = transfer(sender, receiver);
+
+        Assert.assertArrayEquals(new long[] {content.length - 4321, content.length - 4321}, counts);
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void resumeInterruptedMappedReceives() throws Exception {
+        final FileCommunication receiver = ChannelFileCommunication
+                .newBuilder()
+                .setResumable(true)
+                .setMappedReceive(true)
+                .build();
+        final Endpoint interruptedSender = channel -> {
+            final ByteBuffer control = ByteBuffer.allocate(64);
+
+            FrameCodec.encodeHeader(control, BaseCommunication.FILE, FileCommunication.START, Long.BYTES);
+            control.putLong(content.length).flip();
+            channel.write(control);
+            control.clear().limit(FrameCodec.headerSize(Long.BYTES) + Long.BYTES);
+
+            while (control.hasRemaining()) {
+                channel.read(control);
+            }
+
+            control.clear();
+            FrameCodec.encodeHeader(control, BaseCommunication.FILE, (byte) 0, Long.BYTES + 1000);
+            control.putLong(0).flip();
+            channel.write(new ByteBuffer[] {control, ByteBuffer.wrap(content, 0, 400)});
+            channel.shutdownOutput();
+
+            return 400;
+        };
+
+        try {
+            transfer(interruptedSender, channel -> receiver.receive(channel, target));
+            Assert.fail("The interrupted transfer should fail");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause().getCause() instanceof EOFException);
+        }
+
+        Assert.assertEquals(400, Files.size(target));
+
+        final long[] counts = transfer(newCommunication(false), receiver);
+
+        Assert.assertArrayEquals(new long[] {content.length - 400, content.length - 400}, counts);
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void overwriteExistingTargetsUnlessResumable() throws Exception {
+        final FileCommunication communication = newCommunication(false);
+
+        Files.write(target, new byte[content.length * 2]);
+
+        final long[] counts = transfer(communication, communication);
+
+        Assert.assertArrayEquals(new long[] {content.length, content.length}, counts);
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void rejectOtherFrames() throws Exception {
+        final FileCommunication communication = newCommunication(false);
+        final Endpoint stringSender = channel -> {
+            final ByteBuffer frame = ByteBuffer.allocate(16);
+
+            FrameCodec.encode(frame, BaseCommunication.STRING, (byte) 0, ByteBuffer.wrap(new byte[] {1}));
+            frame.flip();
+            channel.write(frame);
+
+            return 0;
+        };
+
+        try {
+            transfer(stringSender, channel -> communication.receive(channel, target));
+            Assert.fail("The frame should be rejected");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause().getCause() instanceof ProtocolException);
+        }
+    }
+
+    @Test
+    public void requireBlockingChannels() throws IOException {
+        try (final SocketChannel channel = SocketChannel.open()) {
+            channel.configureBlocking(false);
+
+            try {
+                newCommunication(false).send(source, channel);
+                Assert.fail("The channel should be rejected");
+            } catch (final IllegalArgumentException e) {
+                Assert.assertEquals("The {channel} parameter must be in blocking mode", e.getMessage());
+            }
+        }
+    }
+}
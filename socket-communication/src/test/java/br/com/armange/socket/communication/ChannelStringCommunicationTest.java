@@ -0,0 +1,242 @@
+package br.com.armange.socket.communication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ChannelStringCommunicationTest {
+    private static final List<String> MESSAGES = Arrays.asList(
+            "",
+            "ascii",
+            "latin-1: a\u00e7\u00e3o, caf\u00e9",
+            "cjk: \u6f22\u5b57",
+            "supplementary: \ud83d\ude00",
+            String.join("", Collections.nCopies(50_000, "large ")),
+            String.join("", Collections.nCopies(20_000, "grand \u00e9 ")));
+
+    /**
+     * Channel which keeps the written bytes, counting the writes, and reads the given bytes in small pieces.
+     */
+    private static class MemoryChannel implements ByteChannel, GatheringByteChannel {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final ByteBuffer readable;
+        private int writeCount;
+
+        MemoryChannel(final byte[] readable) {
+            this.readable = ByteBuffer.wrap(readable);
+        }
+
+        @Override
+        public int read(final ByteBuffer target) {
+            if (!readable.hasRemaining()) {
+                return -1;
+            }
+
+            final int length = Math.min(Math.min(target.remaining(), readable.remaining()), 1000);
+
+            for (int i = 0; i < length; i++) {
+                target.put(readable.get());
+            }
+
+            return length;
+        }
+
+        @Override
+        public int write(final ByteBuffer source) {
+            return (int) write(new ByteBuffer[] {source}, 0, 1);
+        }
+
+        @Override
+        public long write(final ByteBuffer[] sources, final int offset, final int length) {
+            long count = 0;
+
+            writeCount++;
+
+            for (int i = offset; i < offset + length; i++) {
+                while (sources[i].hasRemaining()) {
+                    written.write(sources[i].get());
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] sources) {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static byte[] writeAll(final Charset charset, final List<String> messages) throws IOException {
+        final MemoryChannel channel = new MemoryChannel(new byte[0]);
+
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(channel)
+                .setCharset(charset)
+                .build()) {
+            for (final String message : messages) {
+                communication.write(message);
+            }
+        }
+
+        return channel.written.toByteArray();
+    }
+
+    private static void assertRoundTrip(final Charset charset, final List<String> expected) throws IOException {
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(new MemoryChannel(writeAll(charset, MESSAGES)))
+                .setCharset(charset)
+                .build()) {
+            for (final String message : expected) {
+                Assert.assertEquals(message, communication.read());
+            }
+
+            Assert.assertNull(communication.read());
+        }
+    }
+
+    @Test
+    public void roundTripUtf8() throws IOException {
+        assertRoundTrip(StandardCharsets.UTF_8, MESSAGES);
+    }
+
+    @Test
+    public void roundTripUtf16() throws IOException {
+        assertRoundTrip(StandardCharsets.UTF_16, MESSAGES);
+    }
+
+    @Test
+    public void replaceUnmappableCharacters() throws IOException {
+        assertRoundTrip(StandardCharsets.ISO_8859_1, Arrays.asList(
+                "",
+                "ascii",
+                "latin-1: a\u00e7\u00e3o, caf\u00e9",
+                "cjk: ??",
+                "supplementary: ?",
+                MESSAGES.get(5),
+                MESSAGES.get(6)));
+    }
+
+    @Test
+    public void writeSingleBytesWithoutEncoding() throws IOException {
+        final byte[] written = writeAll(StandardCharsets.UTF_8, Collections.singletonList("abc"));
+
+        Assert.assertArrayEquals(new byte[] {3, BaseCommunication.STRING, 0, 'a', 'b', 'c'}, written);
+    }
+
+    @Test
+    public void batchSmallWritesIntoASingleWrite() throws IOException {
+        final MemoryChannel channel = new MemoryChannel(new byte[0]);
+
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(channel)
+                .build()) {
+            for (int i = 0; i < 1000; i++) {
+                communication.write(i % 2 == 0 ? "message " + i : "mensagem \u00e9 " + i);
+            }
+
+            Assert.assertEquals(0, channel.writeCount);
+
+            communication.flush();
+
+            Assert.assertEquals(1, channel.writeCount);
+        }
+    }
+
+    @Test
+    public void writeBatchesReachingTheBatchSize() throws IOException {
+        final MemoryChannel channel = new MemoryChannel(new byte[0]);
+
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(channel)
+                .setBatchSize(100)
+                .build()) {
+            for (int i = 0; i < 10; i++) {
+                communication.write("0123456789012345678901234567890123456789");
+            }
+
+            Assert.assertEquals(3, channel.writeCount);
+        }
+
+        Assert.assertEquals(4, channel.writeCount);
+        Assert.assertEquals(10 * 43, channel.written.size());
+    }
+
+    @Test
+    public void failMessagesCutByTheEnd() throws IOException {
+        final byte[] written = writeAll(StandardCharsets.UTF_8, Collections.singletonList("message"));
+
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(new MemoryChannel(Arrays.copyOf(written, written.length - 1)))
+                .build()) {
+            communication.read();
+            Assert.fail("The message should be incomplete");
+        } catch (final EOFException e) {
+            Assert.assertEquals("The channel reached its end within a message", e.getMessage());
+        }
+    }
+
+    @Test
+    public void rejectOtherFrames() throws IOException {
+        final ByteBuffer frame = ByteBuffer.allocate(16);
+
+        FrameCodec.encode(frame, BaseCommunication.FILE, (byte) 0, ByteBuffer.wrap(new byte[] {1}));
+
+        try (final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(new MemoryChannel(Arrays.copyOf(frame.array(), frame.position())))
+                .build()) {
+            communication.read();
+            Assert.fail("The frame should be rejected");
+        } catch (final ProtocolException e) {
+            Assert.assertEquals("The frame of type 3 is not a string", e.getMessage());
+        }
+    }
+
+    @Test
+    public void rejectUseAfterClose() throws IOException {
+        final ChannelStringCommunication communication = ChannelStringCommunication
+                .newBuilder()
+                .setChannel(new MemoryChannel(new byte[0]))
+                .build();
+
+        communication.close();
+
+        try {
+            communication.write("message");
+            Assert.fail("The communication should be closed");
+        } catch (final IllegalStateException e) {
+            Assert.assertEquals("The string communication is closed", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package br.com.armange.socket.communication;
+
+import java.net.ProtocolException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class FrameCodecTest {
+    private static final int FUZZ_ITERATIONS = 500;
+
+    private static ByteBuffer frameOf(final byte type, final byte flags, final byte[] payload) {
+        final ByteBuffer frame = ByteBuffer.allocate(FrameCodec.headerSize(payload.length) + payload.length);
+
+        FrameCodec.encode(frame, type, flags, ByteBuffer.wrap(payload));
+        frame.flip();
+
+        return frame;
+    }
+
+    @Test
+    public void encodeTheLengthAsVarint() {
+        final int[] lengths = {0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, 268_435_455, 268_435_456,
+            Integer.MAX_VALUE};
+        final int[] headerSizes = {3, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7};
+
+        for (int i = 0; i < lengths.length; i++) {
+            final ByteBuffer header = ByteBuffer.allocate(FrameCodec.MAX_HEADER_SIZE);
+
+            FrameCodec.encodeHeader(header, BaseCommunication.STRING, (byte) 5, lengths[i]);
+
+            Assert.assertEquals(headerSizes[i], FrameCodec.headerSize(lengths[i]));
+            Assert.assertEquals(headerSizes[i], header.position());
+            Assert.assertEquals(BaseCommunication.STRING, header.get(headerSizes[i] - 2));
+            Assert.assertEquals(5, header.get(headerSizes[i] - 1));
+        }
+    }
+
+    @Test
+    public void decodeAnEncodedFrame() throws ProtocolException {
+        final ByteBuffer buffer = frameOf(BaseCommunication.FILE, (byte) 3, new byte[] {1, 2, 3});
+        final FrameDecoder decoder = new FrameDecoder();
+
+        Assert.assertTrue(decoder.decode(buffer));
+        Assert.assertEquals(BaseCommunication.FILE, decoder.getType());
+        Assert.assertEquals(3, decoder.getFlags());
+        Assert.assertEquals(ByteBuffer.wrap(new byte[] {1, 2, 3}), buffer);
+
+        decoder.finish(buffer);
+
+        Assert.assertFalse(buffer.hasRemaining());
+        Assert.assertFalse(decoder.decode(buffer));
+    }
+
+    @Test
+    public void notEncodeWithoutRoom() {
+        final ByteBuffer target = ByteBuffer.allocate(5);
+
+        try {
+            FrameCodec.encode(target, BaseCommunication.STRING, (byte) 0, ByteBuffer.allocate(3));
+            Assert.fail("The frame should not fit");
+        } catch (final BufferOverflowException e) {
+            Assert.assertEquals(0, target.position());
+        }
+    }
+
+    @Test
+    public void notConsumePartialFrames() throws ProtocolException {
+        final ByteBuffer frame = frameOf(BaseCommunication.COMMAND, (byte) 0, new byte[200]);
+        final FrameDecoder decoder = new FrameDecoder();
+
+        for (int length = 0; length < frame.limit(); length++) {
+            final ByteBuffer partial = frame.duplicate();
+
+            partial.limit(length);
+
+            Assert.assertFalse(decoder.decode(partial));
+            Assert.assertEquals(0, partial.position());
+            Assert.assertEquals(length, partial.limit());
+        }
+
+        Assert.assertEquals(frame.limit(), decoder.getPendingFrameSize());
+        Assert.assertTrue(decoder.decode(frame));
+        Assert.assertEquals(200, frame.remaining());
+    }
+
+    @Test
+    public void rejectLengthsAboveTheMaximum() {
+        final ByteBuffer frame = frameOf(BaseCommunication.STRING, (byte) 0, new byte[11]);
+
+        try {
+            new FrameDecoder(10).decode(frame);
+            Assert.fail("The length should be rejected");
+        } catch (final ProtocolException e) {
+            Assert.assertEquals(0, frame.position());
+        }
+    }
+
+    @Test
+    public void rejectMalformedLengths() {
+        final byte[][] lengths = {
+            {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0},
+            {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x08, 0, 0}
+        };
+
+        for (final byte[] length : lengths) {
+            try {
+                new FrameDecoder(Integer.MAX_VALUE).decode(ByteBuffer.wrap(length));
+                Assert.fail("The length should be rejected");
+            } catch (final ProtocolException e) {
+                //Expected.
+            }
+        }
+    }
+
+    /**
+     * Encodes random frames into a stream, and decodes it through a small receive buffer filled by reads of random
+     * sizes, as a socket would.
+     */
+    @Test
+    public void fuzzStreamsSplitAtRandom() throws ProtocolException {
+        final Random random = new Random(20261015);
+
+        for (int iteration = 0; iteration < FUZZ_ITERATIONS; iteration++) {
+            final List<byte[]> payloads = new ArrayList<>();
+            final List<Integer> headers = new ArrayList<>();
+            final ByteBuffer stream = ByteBuffer.allocate(64 * 1024);
+
+            while (true) {
+                final byte[] payload = new byte[random.nextInt(4) == 0 ? random.nextInt(300) : random.nextInt(20)];
+                final byte type = (byte) random.nextInt(256);
+                final byte flags = (byte) random.nextInt(256);
+
+                random.nextBytes(payload);
+
+                if (stream.remaining() < FrameCodec.headerSize(payload.length) + payload.length) {
+                    break;
+                }
+
+                FrameCodec.encode(stream, type, flags, ByteBuffer.wrap(payload));
+                payloads.add(payload);
+                headers.add((type & 0xFF) << 8 | flags & 0xFF);
+            }
+
+            stream.flip();
+
+            final ByteBuffer buffer = ByteBuffer.allocate(310 + random.nextInt(200));
+            final FrameDecoder decoder = new FrameDecoder(300);
+            int decoded = 0;
+
+            while (stream.hasRemaining()) {
+                final int read = Math.min(stream.remaining(), Math.min(buffer.remaining(), 1 + random.nextInt(64)));
+                final ByteBuffer chunk = stream.duplicate();
+
+                chunk.limit(chunk.position() + read);
+                buffer.put(chunk);
+                stream.position(stream.position() + read);
+                buffer.flip();
+
+                while (decoder.decode(buffer)) {
+                    final byte[] payload = new byte[buffer.remaining()];
+
+                    buffer.get(payload);
+                    Assert.assertArrayEquals(payloads.get(decoded), payload);
+                    Assert.assertEquals((int) headers.get(decoded),
+                            (decoder.getType() & 0xFF) << 8 | decoder.getFlags() & 0xFF);
+                    decoder.finish(buffer);
+                    decoded++;
+                }
+
+                buffer.compact();
+            }
+
+            Assert.assertEquals(payloads.size(), decoded);
+            Assert.assertEquals(0, buffer.position());
+        }
+    }
+
+    /**
+     * Decodes random bytes, which must either be decoded as frames or be rejected as a protocol failure, without any
+     * other exception and without reading out of the buffer.
+     */
+    @Test
+    public void fuzzGarbage() {
+        final Random random = new Random(15102026);
+
+        for (int iteration = 0; iteration < FUZZ_ITERATIONS * 10; iteration++) {
+            final byte[] bytes = new byte[random.nextInt(64)];
+
+            random.nextBytes(bytes);
+
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final FrameDecoder decoder = new FrameDecoder(1 + random.nextInt(64));
+
+            try {
+                while (decoder.decode(buffer)) {
+                    Assert.assertTrue(buffer.limit() <= bytes.length);
+                    decoder.finish(buffer);
+                }
+
+                Assert.assertTrue(decoder.getPendingFrameSize() == 0
+                        || decoder.getPendingFrameSize() > buffer.remaining());
+            } catch (final ProtocolException e) {
+                Assert.assertTrue(buffer.limit() == bytes.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.armange.socket.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import br.com.armange.socket.channel.Connection;
+import br.com.armange.socket.channel.ConnectionHandler;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class NioSocketServerTest {
+    private static final ConnectionHandler ECHO = new ConnectionHandler() {
+        @Override
+        public void onRead(final Connection connection, final ByteBuffer buffer) {
+            final ByteBuffer echo = ByteBuffer.allocate(buffer.remaining());
+
+            echo.put(buffer).flip();
+            connection.write(echo);
+        }
+    };
+
+    private static NioSocketServer newServer(final ConnectionHandler handler) {
+        return NioSocketServer
+                .newBuilder()
+                .setAddress(new InetSocketAddress("127.0.0.1", 0))
+                .setReactorCount(2)
+                .setHandler(handler)
+                .build();
+    }
+
+    private static byte[] readFully(final SocketChannel channel, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+
+        return buffer.array();
+    }
+
+    private static void awaitConnectionCount(final SocketServer server, final int connectionCount)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (server.getConnectionCount() != connectionCount && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assert.assertEquals(connectionCount, server.getConnectionCount());
+    }
+
+    @Test
+    public void echoMessages() throws Exception {
+        try (final NioSocketServer server = newServer(ECHO)) {
+            server.start();
+
+            try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+                channel.write(ByteBuffer.wrap("ping".getBytes("UTF-8")));
+
+                Assert.assertEquals("ping", new String(readFully(channel, 4), "UTF-8"));
+            }
+        }
+    }
+
+    @Test
+    public void holdManyConnections() throws Exception {
+        final int connectionCount = 200;
+        final List<SocketChannel> channels = new ArrayList<>();
+
+        try (final NioSocketServer server = newServer(ECHO)) {
+            server.start();
+
+            for (int i = 0; i < connectionCount; i++) {
+                channels.add(SocketChannel.open(server.getLocalAddress()));
+            }
+
+            awaitConnectionCount(server, connectionCount);
+
+            for (final SocketChannel channel : channels) {
+                channel.write(ByteBuffer.wrap(new byte[] {7}));
+            }
+
+            for (final SocketChannel channel : channels) {
+                Assert.assertEquals(7, readFully(channel, 1)[0]);
+                channel.close();
+            }
+
+            awaitConnectionCount(server, 0);
+        } finally {
+            for (final SocketChannel channel : channels) {
+                channel.close();
+            }
+        }
+    }
+
+    @Test
+    public void keepPartialMessagesForNextRead() throws Exception {
+        final CompletableFuture<Integer> message = new CompletableFuture<>();
+
+        try (final NioSocketServer server = newServer(new ConnectionHandler() {
+            @Override
+            public void onRead(final Connection connection, final ByteBuffer buffer) {
+                if (buffer.remaining() >= 4) {
+                    message.complete(buffer.getInt());
+                }
+            }
+        })) {
+            server.start();
+
+            try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+                channel.write(ByteBuffer.wrap(new byte[] {0, 0}));
+                Thread.sleep(50);
+                channel.write(ByteBuffer.wrap(new byte[] {1, 2}));
+
+                Assert.assertEquals(258, message.get(5, TimeUnit.SECONDS).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void closeConnectionsWhenClosed() throws Exception {
+        final CompletableFuture<Connection> closedConnection = new CompletableFuture<>();
+        final NioSocketServer server = newServer(new ConnectionHandler() {
+            @Override
+            public void onRead(final Connection connection, final ByteBuffer buffer) {
+                buffer.position(buffer.limit());
+            }
+
+            @Override
+            public void onClose(final Connection connection, final Throwable cause) {
+                closedConnection.complete(connection);
+            }
+        });
+
+        server.start();
+
+        try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            awaitConnectionCount(server, 1);
+            server.close();
+
+            Assert.assertFalse(server.isRunning());
+            Assert.assertFalse(closedConnection.get(5, TimeUnit.SECONDS).isOpen());
+            Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    public void flushWritesBeforeClosing() throws Exception {
+        final byte[] response = new byte[256 * 1024];
+
+        try (final NioSocketServer server = newServer(new ConnectionHandler() {
+            @Override
+            public void onOpen(final Connection connection) {
+                connection.write(ByteBuffer.wrap(response));
+                connection.close();
+            }
+
+            @Override
+            public void onRead(final Connection connection, final ByteBuffer buffer) {}
+        })) {
+            server.start();
+
+            try (final SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+                Assert.assertArrayEquals(response, readFully(channel, response.length));
+                Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+            }
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void requireHandler() {
+        NioSocketServer.newBuilder().build();
+    }
+}
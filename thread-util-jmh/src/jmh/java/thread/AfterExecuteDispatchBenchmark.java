@@ -0,0 +1,71 @@
+package thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of {@link thread.ScheduledCaughtExecutorService#afterExecute(Runnable, Throwable)} as the number of consumers
+ * grows, with the consumers carried by the task or registered globally in the executor.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AfterExecuteDispatchBenchmark {
+    @Param({"0", "1", "4", "16", "64"})
+    public int consumers;
+
+    @Param({"TASK", "GLOBAL"})
+    public Registration registration;
+
+    private ScheduledCaughtExecutorService executor;
+    private Runnable task;
+    private long calls;
+
+    @Setup
+    public void setUp() {
+        final BiConsumer<Runnable, Throwable> consumer = (runnable, throwable) -> calls++;
+        BiConsumer<Runnable, Throwable> taskConsumer = null;
+
+        executor = new ScheduledCaughtExecutorService(1);
+
+        for (int i = 0; i < consumers; i++) {
+            if (registration == Registration.GLOBAL) {
+                executor.addAfterExecuteConsumer(consumer);
+            } else {
+                taskConsumer = taskConsumer == null ? consumer : taskConsumer.andThen(consumer);
+            }
+        }
+
+        task = (Runnable) executor.schedule(() -> {}, 1, TimeUnit.DAYS, taskConsumer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long dispatch() {
+        executor.afterExecute(task, null);
+
+        return calls;
+    }
+
+    public enum Registration {
+        TASK,
+        GLOBAL
+    }
+}
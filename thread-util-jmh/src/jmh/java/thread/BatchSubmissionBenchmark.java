@@ -0,0 +1,72 @@
+package thread;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of starting many executions with timeout by {@link thread.ThreadBuilder#startAll(java.util.Collection)} and by a
+ * loop of {@link thread.ThreadBuilder#startAndBuildOther()}, until every execution is done.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchSubmissionBenchmark {
+    private static final long TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+    private static final Runnable NO_OP = () -> {};
+
+    @Param({"100", "10000"})
+    public int executions;
+
+    private SchedulerEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = SchedulerEngine.newEngine();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Benchmark
+    public ExecutorResult batch() {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setTimeout(TIMEOUT)
+                .startAll(Collections.nCopies(executions, NO_OP));
+
+        result.allDone().join();
+
+        return result;
+    }
+
+    @Benchmark
+    public ExecutorResult loop() {
+        final ThreadBuilder builder = ThreadBuilder.newBuilder(engine).setTimeout(TIMEOUT).setExecution(NO_OP);
+
+        for (int i = 1; i < executions; i++) {
+            builder.startAndBuildOther();
+        }
+
+        final ExecutorResult result = builder.start();
+
+        result.allDone().join();
+
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+package thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Throughput of {@link thread.ThreadBuilder#start()} without delay from 1 to 64 submitting threads, inside an engine
+ * of the scheduled pool backend and inside an engine of the fork-join backend. Both engines have one execution thread
+ * per available processor. Only the submission is measured, and the executions left are halted at the end of every
+ * iteration.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ForkJoinScalingBenchmark {
+    private static final Runnable NO_OP = () -> {};
+
+    @Param({"SCHEDULED_POOL", "FORK_JOIN"})
+    public Backend backend;
+
+    private SchedulerEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = backend.newEngine(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ExecutorResult start01Thread() {
+        return start();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public ExecutorResult start02Threads() {
+        return start();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ExecutorResult start04Threads() {
+        return start();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ExecutorResult start08Threads() {
+        return start();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public ExecutorResult start16Threads() {
+        return start();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public ExecutorResult start32Threads() {
+        return start();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public ExecutorResult start64Threads() {
+        return start();
+    }
+
+    private ExecutorResult start() {
+        return ThreadBuilder.newBuilder(engine).setExecution(NO_OP).start();
+    }
+
+    public enum Backend {
+        SCHEDULED_POOL {
+            @Override
+            SchedulerEngine newEngine(final int parallelism) {
+                return SchedulerEngine.newEngine(parallelism);
+            }
+        },
+        FORK_JOIN {
+            @Override
+            SchedulerEngine newEngine(final int parallelism) {
+                return SchedulerEngine.newForkJoinEngine(parallelism);
+            }
+        };
+
+        abstract SchedulerEngine newEngine(int parallelism);
+    }
+}
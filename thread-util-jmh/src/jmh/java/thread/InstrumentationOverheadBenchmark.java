@@ -0,0 +1,52 @@
+package thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of the {@link thread.ExecutorInstrumentation} on a round trip through the executor, with the instrumentation
+ * installed and without it.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstrumentationOverheadBenchmark {
+    private static final Runnable NO_OP = () -> {};
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private SchedulerEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = SchedulerEngine.newEngine(1);
+
+        if (instrumented) {
+            engine.getExecutor().setInstrumentation(new ExecutorInstrumentation());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Benchmark
+    public Object roundTrip() throws Exception {
+        return engine.getExecutor().schedule(NO_OP, 0, TimeUnit.NANOSECONDS).get();
+    }
+}
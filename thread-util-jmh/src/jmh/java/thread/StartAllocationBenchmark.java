@@ -0,0 +1,86 @@
+package thread;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Allocation of a start by a reused {@link thread.ThreadBuilder} of a shared engine, against the allocation of a bare
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} schedule, which is the floor of any scheduled task. The
+ * difference is what the builder adds per task. Run it with the GC profiler:
+ *
+ * <pre>
+ * gradle jmh -PjmhInclude=StartAllocationBenchmark -PjmhProfilers=gc
+ * </pre>
+ *
+ * and compare the {@code gc.alloc.rate.norm} (bytes per operation) of the benchmarks. The started futures are far away
+ * and the oldest one is cancelled by every operation, so the queue does not grow.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StartAllocationBenchmark {
+    private static final long FAR_AWAY = TimeUnit.HOURS.toMillis(1);
+    private static final Runnable NO_OP = () -> {};
+
+    @Param({"false", "true"})
+    public boolean timeout;
+
+    private SchedulerEngine engine;
+    private ScheduledThreadPoolExecutor baseline;
+    private ThreadBuilder builder;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = SchedulerEngine.newEngine(1);
+        baseline = new ScheduledThreadPoolExecutor(1);
+        baseline.setRemoveOnCancelPolicy(true);
+        builder = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(FAR_AWAY)
+                .setName("allocation")
+                .setAfterExecuteConsumer((runnable, throwable) -> {})
+                .setExecution(NO_OP);
+
+        if (timeout) {
+            builder.setTimeout(FAR_AWAY);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+        baseline.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean scheduledThreadPoolExecutor() {
+        final ScheduledFuture<?> future = baseline.schedule(NO_OP, FAR_AWAY, TimeUnit.MILLISECONDS);
+
+        return future.cancel(false);
+    }
+
+    @Benchmark
+    public boolean threadBuilder() {
+        builder.startAndBuildOther();
+
+        final Runnable oldestTask = engine.getExecutor().getQueue().peek();
+
+        return oldestTask != null && ((Future<?>) oldestTask).cancel(false);
+    }
+}
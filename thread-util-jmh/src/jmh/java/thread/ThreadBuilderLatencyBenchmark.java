@@ -0,0 +1,52 @@
+package thread;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Latency between {@link thread.ThreadBuilder#start()} and the beginning of the execution, with the after-execute and
+ * the uncaught-exception consumers set. The consumers are attached before scheduling, so no extra delay is expected.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThreadBuilderLatencyBenchmark {
+    private SchedulerEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = SchedulerEngine.newEngine();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Benchmark
+    public void startToExecution() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        ThreadBuilder
+            .newBuilder(engine)
+            .setAfterExecuteConsumer((runnable, throwable) -> {})
+            .setUncaughtExceptionConsumer(throwable -> {})
+            .setExecution(latch::countDown)
+            .start();
+
+        latch.await();
+    }
+}
@@ -0,0 +1,109 @@
+package thread;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of {@link thread.ThreadBuilder#start()} for each schedule combination of the builder, inside a shared engine
+ * and inside a new executor per start. The delays, intervals and timeouts are far away, so only the start itself is
+ * measured, and every started future is cancelled by the benchmark.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThreadBuilderStartBenchmark {
+    private static final long FAR_AWAY = TimeUnit.HOURS.toMillis(1);
+    private static final Runnable NO_OP = () -> {};
+
+    @Param({"NONE", "DELAY", "TIMEOUT", "INTERVAL", "DELAY_TIMEOUT", "DELAY_INTERVAL", "TIMEOUT_INTERVAL", "ALL"})
+    public Schedule schedule;
+
+    @Param({"ENGINE", "PER_START"})
+    public ExecutorMode executors;
+
+    private SchedulerEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = SchedulerEngine.newEngine();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Benchmark
+    public ExecutorResult start() {
+        final ThreadBuilder builder = executors == ExecutorMode.ENGINE
+                ? ThreadBuilder.newBuilder(engine)
+                : ThreadBuilder.newBuilder();
+        final ExecutorResult result = schedule.configure(builder).setExecution(NO_OP).start();
+
+        for (final Future<?> future : result.getFutures()) {
+            future.cancel(false);
+        }
+
+        if (executors == ExecutorMode.PER_START) {
+            result.getExecutorService().shutdownNow();
+        }
+
+        return result;
+    }
+
+    public enum ExecutorMode {
+        ENGINE,
+        PER_START
+    }
+
+    public enum Schedule {
+        NONE(false, false, false),
+        DELAY(true, false, false),
+        TIMEOUT(false, true, false),
+        INTERVAL(false, false, true),
+        DELAY_TIMEOUT(true, true, false),
+        DELAY_INTERVAL(true, false, true),
+        TIMEOUT_INTERVAL(false, true, true),
+        ALL(true, true, true);
+
+        private final boolean delay;
+        private final boolean timeout;
+        private final boolean interval;
+
+        Schedule(final boolean delay, final boolean timeout, final boolean interval) {
+            this.delay = delay;
+            this.timeout = timeout;
+            this.interval = interval;
+        }
+
+        private ThreadBuilder configure(final ThreadBuilder builder) {
+            if (delay) {
+                builder.setDelay(FAR_AWAY);
+            }
+
+            if (timeout) {
+                builder.setTimeout(FAR_AWAY);
+            }
+
+            if (interval) {
+                builder.setInterval(FAR_AWAY);
+            }
+
+            return builder;
+        }
+    }
+}
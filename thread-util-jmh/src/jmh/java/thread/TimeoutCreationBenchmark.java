@@ -0,0 +1,67 @@
+package thread;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Throughput of the timeout creation and cancellation, by the {@link thread.HashedWheelTimer} which drives the
+ * {@link thread.ThreadBuilder} timeouts and by a {@link java.util.concurrent.ScheduledThreadPoolExecutor} as the
+ * baseline, with one and with four producer threads.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeoutCreationBenchmark {
+    private static final Runnable NO_OP = () -> {};
+
+    private HashedWheelTimer timer;
+    private ScheduledThreadPoolExecutor executor;
+
+    @Setup
+    public void setUp() {
+        timer = new HashedWheelTimer();
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean wheelTimeout() {
+        return timer.newTimeout(NO_OP, 1, TimeUnit.MINUTES).cancel();
+    }
+
+    @Benchmark
+    public boolean scheduledExecutorTimeout() {
+        return executor.schedule(NO_OP, 1, TimeUnit.MINUTES).cancel(false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean wheelTimeoutContended() {
+        return wheelTimeout();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean scheduledExecutorTimeoutContended() {
+        return scheduledExecutorTimeout();
+    }
+}
@@ -0,0 +1,63 @@
+package thread;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Time to run many sleeping tasks inside a platform engine sized to the available processors and inside a virtual
+ * thread engine. Below JDK 21 the virtual thread engine falls back to platform threads, so both results are alike.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+    private static final long SLEEP = 10;
+
+    @Param({"1000"})
+    public int tasks;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ThreadMode threads;
+
+    private SchedulerEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = threads == ThreadMode.VIRTUAL ? SchedulerEngine.newVirtualThreadEngine() : SchedulerEngine.newEngine();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Benchmark
+    public ExecutorResult sleepingTasks() {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .startAll(Collections.nCopies(tasks, () -> ThreadUtil.sleepUnchecked(SLEEP)));
+
+        result.allDone().join();
+
+        return result;
+    }
+
+    public enum ThreadMode {
+        PLATFORM,
+        VIRTUAL
+    }
+}
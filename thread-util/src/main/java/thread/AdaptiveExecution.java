@@ -0,0 +1,97 @@
+package thread;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Execution of a thread with interval in the {@link thread.IntervalMode#ADAPTIVE} mode. The next tick is computed once,
+ * after every execution, and the next execution is a task of the same executor delayed exactly until that tick, so the
+ * skipped ticks are never run and the after-execute consumers are only called for the performed executions. The
+ * returned future is done when an execution fails.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class AdaptiveExecution extends ChainedExecution {
+    private final long periodNanos;
+    private final IntervalMetrics metrics;
+    private long tickTime;
+    private long averageRunTime;
+
+    AdaptiveExecution(final ScheduledCaughtExecutorService executor, final Runnable execution, final String name,
+            final long period, final TimeUnit unit, final BiConsumer<Runnable, Throwable> afterExecuteConsumer,
+            final IntervalMetrics metrics, final boolean mayInterruptIfRunning) {
+        super(executor, execution, name, afterExecuteConsumer, mayInterruptIfRunning, true);
+        this.periodNanos = unit.toNanos(period);
+        this.metrics = metrics;
+    }
+
+    CompletableFuture<Void> start(final long delay, final TimeUnit unit) {
+        final long delayNanos = unit.toNanos(delay);
+
+        tickTime = System.nanoTime() + delayNanos;
+        schedule(null, delayNanos);
+
+        return result;
+    }
+
+    @Override
+    public void run() {
+        final long startTime = System.nanoTime();
+
+        metrics.recordExecuted(Math.max(startTime - tickTime, 0));
+
+        try {
+            super.run();
+        } finally {
+            plan(startTime, System.nanoTime());
+        }
+    }
+
+    @Override
+    void afterRun(final Runnable runnable, final Throwable throwable) {
+        final Future<?> future = (Future<?>) runnable;
+
+        try {
+            afterExecuteConsumer.accept(runnable, throwable);
+        } finally {
+            next(future);
+        }
+    }
+
+    private void plan(final long startTime, final long endTime) {
+        final long runTime = endTime - startTime;
+
+        averageRunTime = averageRunTime == 0 ? runTime : averageRunTime + (runTime - averageRunTime) / 4;
+
+        //The next tick is neither before the stretched interval nor already missed by the performed execution.
+        final long earliestTime = Math.max(stretchedPeriod(), endTime - tickTime);
+        final long ticks = Math.max(1, (earliestTime + periodNanos - 1) / periodNanos);
+
+        metrics.recordSkipped(ticks - 1);
+        tickTime += ticks * periodNanos;
+    }
+
+    private long stretchedPeriod() {
+        return (averageRunTime / periodNanos + 1) * periodNanos;
+    }
+
+    private void next(final Future<?> future) {
+        final Throwable failure = failureOf(future);
+
+        if (future.isCancelled()) {
+            result.cancel(false);
+        } else if (failure != null) {
+            result.completeExceptionally(failure);
+        } else if (!result.isDone()) {
+            try {
+                schedule(future, Math.max(0, tickTime - System.nanoTime()));
+            } catch (final RejectedExecutionException e) {
+                result.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package thread;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Admission control of the executions started by many {@link thread.ThreadBuilder}s, so a burst of starts does not
+ * grow the executor queues without bound.
+ * <p>
+ * An execution is admitted if a token of the rate limit and a permit of the concurrency limit are available. The rate
+ * limit is a lock-free token bucket (a generic cell rate algorithm over a single atomic arrival time), which admits up
+ * to the burst size at once and then one execution per emission interval. The concurrency limit bounds the executions
+ * admitted and not done yet, including the delayed and repeating ones, and a permit is released as soon as its
+ * execution is done. The starts exceeding the limits are handled by the {@link thread.AdmissionPolicy}.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * final AdmissionControl admissionControl = AdmissionControl
+ *          .newBuilder()
+ *          .setRateLimit(1000, 100) //1000 executions per second, in bursts of up to 100 executions.
+ *          .setConcurrencyLimit(10_000) //Up to 10000 executions not done yet.
+ *          .setPolicy(AdmissionPolicy.REJECT)
+ *          .build();
+ *
+ * ThreadBuilder
+ *          .newBuilder(engine)
+ *          .setAdmissionControl(admissionControl)
+ *          .setExecution(anyRunnable)
+ *          .start(); //A RejectedExecutionException is thrown if the execution is not admitted.
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ThreadBuilder#setAdmissionControl(AdmissionControl)
+ */
+public class AdmissionControl {
+    private final AdmissionPolicy policy;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final AtomicLong theoreticalArrivalTime;
+    private final int concurrencyLimit;
+    private final Semaphore permits;
+    private final Deque<Future<?>> admittedFutures = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger doneFuturesCount = new AtomicInteger();
+    private final AtomicBoolean unlinkingDoneFutures = new AtomicBoolean();
+    private final LongAdder admittedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder shedCount = new LongAdder();
+
+    private AdmissionControl(final Builder builder) {
+        this.policy = builder.policy;
+        this.emissionInterval = builder.emissionInterval;
+        this.burstTolerance = (builder.burst - 1) * builder.emissionInterval;
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+        this.concurrencyLimit = builder.concurrencyLimit;
+        this.permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+    }
+
+    /**
+     * @return a new object to configure an admission control. Without any limit, every execution is admitted.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the policy of the executions which exceed the limits.
+     */
+    public AdmissionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the number of admitted executions.
+     */
+    public long getAdmittedCount() {
+        return admittedCount.sum();
+    }
+
+    /**
+     * @return the number of rejected starts.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * @return the number of admitted executions cancelled to make room for newer ones.
+     */
+    public long getShedCount() {
+        return shedCount.sum();
+    }
+
+    /**
+     * @return the number of admitted executions not done yet, or zero if there is no concurrency limit.
+     */
+    public int getInFlightCount() {
+        return permits == null ? 0 : concurrencyLimit - permits.availablePermits();
+    }
+
+    /**
+     * Takes a concurrency permit and a token, according to the policy.
+     * @throws RejectedExecutionException if the execution is not admitted.
+     */
+    void acquire() {
+        acquirePermit();
+
+        try {
+            acquireToken();
+        } catch (final RejectedExecutionException e) {
+            release();
+            throw e;
+        }
+
+        admittedCount.increment();
+    }
+
+    /**
+     * Tracks the admitted future, whose permit is released as soon as it is done, before its results are notified.
+     * @param future the future of the admitted execution.
+     */
+    void admit(final Future<?> future) {
+        if (permits == null) {
+            return;
+        }
+
+        if (future instanceof CaughtScheduledTask) {
+            if (policy == AdmissionPolicy.SHED_OLDEST) {
+                admittedFutures.add(future);
+            }
+
+            ((CaughtScheduledTask<?>) future).whenDoneFirst(doneFuture -> {
+                if (policy == AdmissionPolicy.SHED_OLDEST && doneFuturesCount.incrementAndGet() > concurrencyLimit) {
+                    unlinkDoneFutures();
+                }
+
+                release();
+            });
+        } else if (future instanceof CompletableFuture) {
+            ((CompletableFuture<?>) future).whenComplete((value, throwable) -> release());
+        } else {
+            release();
+        }
+    }
+
+    /**
+     * Gives back the permit of an execution which was admitted but could not be started.
+     */
+    void release() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    int getTrackedFutureCount() {
+        return admittedFutures.size();
+    }
+
+    private void acquirePermit() {
+        if (permits == null || permits.tryAcquire()) {
+            return;
+        }
+
+        switch (policy) {
+            case BLOCK:
+                try {
+                    permits.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw reject();
+                }
+                break;
+            case SHED_OLDEST:
+                while (!permits.tryAcquire()) {
+                    if (!shedOldest()) {
+                        throw reject();
+                    }
+                }
+                break;
+            default:
+                throw reject();
+        }
+    }
+
+    private boolean shedOldest() {
+        for (final Future<?> future : admittedFutures) {
+            if (!future.isDone() && ((CaughtScheduledTask<?>) future).shed()) {
+                shedCount.increment();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Unlinks the done futures, which are left in place when they are done, as removing each one would scan the
+     * futures admitted before it. The shedding skips them meanwhile, and they are at most as many as the concurrency
+     * limit before being unlinked.
+     */
+    private void unlinkDoneFutures() {
+        //The futures done while another thread was unlinking are unlinked by that thread in the next pass.
+        while (doneFuturesCount.get() > concurrencyLimit && unlinkingDoneFutures.compareAndSet(false, true)) {
+            try {
+                for (final Iterator<Future<?>> iterator = admittedFutures.iterator(); iterator.hasNext();) {
+                    if (iterator.next().isDone()) {
+                        iterator.remove();
+                        doneFuturesCount.decrementAndGet();
+                    }
+                }
+            } finally {
+                unlinkingDoneFutures.set(false);
+            }
+        }
+    }
+
+    private void acquireToken() {
+        if (emissionInterval == 0) {
+            return;
+        }
+
+        if (policy == AdmissionPolicy.BLOCK) {
+            waitForToken();
+        } else if (!tryAcquireToken()) {
+            throw reject();
+        }
+    }
+
+    private boolean tryAcquireToken() {
+        while (true) {
+            final long now = System.nanoTime();
+            final long arrivalTime = theoreticalArrivalTime.get();
+            final long earliestArrivalTime = arrivalTime - now > 0 ? arrivalTime : now;
+
+            if (earliestArrivalTime - now > burstTolerance) {
+                return false;
+            }
+
+            if (theoreticalArrivalTime.compareAndSet(arrivalTime, earliestArrivalTime + emissionInterval)) {
+                return true;
+            }
+        }
+    }
+
+    private void waitForToken() {
+        final long now = System.nanoTime();
+        final long arrivalTime = theoreticalArrivalTime.getAndAccumulate(now,
+                (current, time) -> (current - time > 0 ? current : time) + emissionInterval);
+        final long deadline = (arrivalTime - now > 0 ? arrivalTime : now) - burstTolerance;
+        long waitTime;
+
+        while ((waitTime = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, waitTime);
+
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            }
+        }
+    }
+
+    private RejectedExecutionException reject() {
+        rejectedCount.increment();
+
+        return new RejectedExecutionException("The execution was not admitted by the admission control");
+    }
+
+    /**
+     * Configuration of an {@link AdmissionControl}. By default, there is no limit and the policy is
+     * {@link AdmissionPolicy#REJECT}.
+     */
+    public static class Builder {
+        private AdmissionPolicy policy = AdmissionPolicy.REJECT;
+        private long emissionInterval;
+        private long burst = 1;
+        private int concurrencyLimit;
+
+        private Builder() {}
+
+        /**
+         * Limits the rate of the admitted executions.
+         * @param permitsPerSecond the number of executions admitted per second.
+         * @param burst the number of executions which can be admitted at once after an idle period.
+         * @return the current admission control builder.
+         */
+        public Builder setRateLimit(final double permitsPerSecond, final int burst) {
+            if (!(permitsPerSecond > 0)) {
+                throw new IllegalArgumentException("The {permitsPerSecond} parameter must be greater than zero");
+            }
+
+            if (burst < 1) {
+                throw new IllegalArgumentException("The {burst} parameter must be greater than zero");
+            }
+
+            this.emissionInterval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+            this.burst = burst;
+
+            return this;
+        }
+
+        /**
+         * Limits the number of admitted executions which are not done yet.
+         * @param concurrencyLimit the maximum number of admitted executions not done yet.
+         * @return the current admission control builder.
+         */
+        public Builder setConcurrencyLimit(final int concurrencyLimit) {
+            if (concurrencyLimit < 1) {
+                throw new IllegalArgumentException("The {concurrencyLimit} parameter must be greater than zero");
+            }
+
+            this.concurrencyLimit = concurrencyLimit;
+
+            return this;
+        }
+
+        /**
+         * @param policy the policy of the executions which exceed the limits.
+         * @return the current admission control builder.
+         */
+        public Builder setPolicy(final AdmissionPolicy policy) {
+            this.policy = Objects.requireNonNull(policy, "The {policy} parameter is required");
+
+            return this;
+        }
+
+        /**
+         * @return a new admission control with the current configuration.
+         */
+        public AdmissionControl build() {
+            return new AdmissionControl(this);
+        }
+    }
+}
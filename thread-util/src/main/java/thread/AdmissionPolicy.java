@@ -0,0 +1,24 @@
+package thread;
+
+/**
+ * What an {@link thread.AdmissionControl} does with an execution which exceeds its limits.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public enum AdmissionPolicy {
+    /**
+     * The start is rejected by a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT,
+    /**
+     * The starting thread waits for a token and for a concurrency permit. If it is interrupted while waiting, the start
+     * is rejected and the interruption status is restored.
+     */
+    BLOCK,
+    /**
+     * The oldest admitted execution which is not running is cancelled to make room for the new one. The rate limit
+     * cannot be satisfied by cancelling, so a start without a token is rejected.
+     */
+    SHED_OLDEST
+}
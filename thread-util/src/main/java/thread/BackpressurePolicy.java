@@ -0,0 +1,33 @@
+package thread;
+
+/**
+ * What a bounded {@link thread.ScheduledCaughtExecutorService} does with a task submitted when its queue is full.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ScheduledCaughtExecutorService#ScheduledCaughtExecutorService(int, java.util.concurrent.ThreadFactory,
+ * int, BackpressurePolicy, java.time.Duration)
+ */
+public enum BackpressurePolicy {
+    /**
+     * The submitting thread runs a one-shot task at once, ignoring its delay, so it cannot submit faster than the
+     * executor performs. A repeating task cannot be run by the submitting thread, so it is cancelled as with
+     * {@link #DROP_NEWEST}, and the queue never grows beyond the capacity.
+     */
+    CALLER_RUNS,
+    /**
+     * The submitted task is cancelled without being queued.
+     */
+    DROP_NEWEST,
+    /**
+     * The queued one-shot task with the earliest due time is cancelled to make room for the submitted one. The
+     * repeating tasks are never cancelled to make room, so if no one-shot task is queued, the submitted task is
+     * cancelled instead.
+     */
+    DROP_OLDEST,
+    /**
+     * The submitting thread waits for room up to the block timeout, and then the task is rejected by the
+     * {@link java.util.concurrent.RejectedExecutionHandler}.
+     */
+    BLOCK
+}
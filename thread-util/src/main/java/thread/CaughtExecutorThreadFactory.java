@@ -1,19 +1,130 @@
 package thread;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.IllegalFormatException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Thread factory which sets an uncaught exception handler into every new thread. The threads can be virtual ones
+ * when the runtime supports them (JDK 21+), otherwise platform threads are created.
+ * <p>
+ * Every thread is named by the factory name pattern and a per-factory counter, so the threads are identified in the
+ * thread dumps. The daemon flag, the priority, the thread group and the stack size can be configured through
+ * {@link #newBuilder()}. They are applied only to platform threads, since virtual threads are always daemon ones with
+ * the normal priority.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * final ThreadFactory threadFactory = CaughtExecutorThreadFactory
+ *          .newBuilder()
+ *          .setNamePrefix("poller") //The threads will be named poller-1, poller-2...
+ *          .setDaemon(true) //The threads will not keep the JVM alive.
+ *          .setPriority(Thread.MAX_PRIORITY)
+ *          .build();
+ * </pre>
+ *
  * @author Diego Armange Costa
  * @since 2019-11-18 V1.0.0 (JDK 1.8)
  * @see java.util.concurrent.ThreadFactory
  */
 public class CaughtExecutorThreadFactory implements ThreadFactory {
+    /**
+     * The prefix of the default name pattern, which is followed by the factory number and the thread number.
+     */
+    public static final String DEFAULT_NAME_PREFIX = "caught-executor";
+    private static final AtomicInteger FACTORY_COUNTER = new AtomicInteger();
+
     private final UncaughtExceptionHandler uncaughtExceptionHandler;
-    
+    private final boolean virtual;
+    private final String namePattern;
+    private final String namePrefix;
+    private final String nameSuffix;
+    private final boolean daemon;
+    private final int priority;
+    private final ThreadGroup threadGroup;
+    private final long stackSize;
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong aliveCount = new AtomicLong();
+
     public CaughtExecutorThreadFactory(final UncaughtExceptionHandler uncaughtExceptionHandler) {
-        this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+        this(uncaughtExceptionHandler, false);
+    }
+
+    /**
+     * @param uncaughtExceptionHandler the handler of the exceptions thrown by the new threads.
+     * @param virtual true if virtual threads should be created. It is ignored if the runtime does not support them.
+     * @see thread.ThreadUtil#isVirtualThreadSupported()
+     */
+    public CaughtExecutorThreadFactory(final UncaughtExceptionHandler uncaughtExceptionHandler, final boolean virtual) {
+        this(newBuilder().setUncaughtExceptionHandler(uncaughtExceptionHandler).setVirtual(virtual));
+    }
+
+    private CaughtExecutorThreadFactory(final Builder builder) {
+        this.uncaughtExceptionHandler = builder.uncaughtExceptionHandler;
+        this.virtual = builder.virtual && VirtualThreads.isSupported();
+
+        if (builder.namePattern.isPresent()) {
+            this.namePattern = builder.namePattern.get();
+            this.namePrefix = builder.namePrefix;
+            this.nameSuffix = builder.nameSuffix;
+        } else {
+            this.namePrefix = DEFAULT_NAME_PREFIX + "-" + FACTORY_COUNTER.incrementAndGet() + "-thread-";
+            this.nameSuffix = "";
+            this.namePattern = namePrefix + "%d";
+        }
+
+        this.daemon = builder.daemon;
+        this.priority = builder.priority;
+        this.threadGroup = builder.threadGroup;
+        this.stackSize = builder.stackSize;
+    }
+
+    /**
+     * @return a new object to configure a thread factory.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return true if this factory creates virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * @return true if this factory creates daemon threads.
+     */
+    public boolean isDaemon() {
+        return daemon || virtual;
+    }
+
+    /**
+     * @return the pattern of the thread names, formatted with the thread number.
+     */
+    public String getNamePattern() {
+        return namePattern;
+    }
+
+    /**
+     * @return the number of threads created by this factory.
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * @return the number of threads of this factory which are running.
+     */
+    public long getAliveCount() {
+        return aliveCount.get();
     }
 
     /**
@@ -21,10 +132,199 @@ public class CaughtExecutorThreadFactory implements ThreadFactory {
      */
     @Override
     public Thread newThread(final Runnable runnable) {
-        final Thread thread = new Thread(runnable);
-        
+        final Runnable countedRunnable = counted(runnable);
+        final long number = createdCount.incrementAndGet();
+        final String name = namePrefix == null ? String.format(namePattern, number) : namePrefix + number + nameSuffix;
+        final Thread thread;
+
+        if (virtual) {
+            thread = VirtualThreads.newThread(countedRunnable);
+            thread.setName(name);
+        } else {
+            thread = new Thread(threadGroup, countedRunnable, name, stackSize);
+            thread.setDaemon(daemon);
+            thread.setPriority(priority);
+        }
+
         Optional.ofNullable(uncaughtExceptionHandler).ifPresent(thread::setUncaughtExceptionHandler);
-        
+
         return thread;
     }
+
+    private Runnable counted(final Runnable runnable) {
+        Objects.requireNonNull(runnable, "The {runnable} parameter is required");
+
+        return () -> {
+            aliveCount.incrementAndGet();
+
+            try {
+                runnable.run();
+            } finally {
+                aliveCount.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Configuration of a {@link CaughtExecutorThreadFactory}. By default, the threads are non-daemon platform threads
+     * with the normal priority, the group of the creating thread and the default stack size.
+     */
+    public static class Builder {
+        private UncaughtExceptionHandler uncaughtExceptionHandler;
+        private boolean virtual;
+        private Optional<String> namePattern = Optional.empty();
+        private String namePrefix;
+        private String nameSuffix;
+        private boolean daemon;
+        private int priority = Thread.NORM_PRIORITY;
+        private ThreadGroup threadGroup;
+        private long stackSize;
+
+        private Builder() {}
+
+        /**
+         * @param uncaughtExceptionHandler the handler of the exceptions thrown by the new threads.
+         * @return the current factory builder.
+         */
+        public Builder setUncaughtExceptionHandler(final UncaughtExceptionHandler uncaughtExceptionHandler) {
+            this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+
+            return this;
+        }
+
+        /**
+         * @param flag true if virtual threads should be created. It is ignored if the runtime does not support them.
+         * @return the current factory builder.
+         */
+        public Builder setVirtual(final boolean flag) {
+            virtual = flag;
+
+            return this;
+        }
+
+        /**
+         * Sets the pattern of the thread names. It is formatted by {@link String#format(String, Object...)} with the
+         * thread number, starting at one, as a {@code long} argument.
+         * @param namePattern the name pattern, like {@code "worker-%d"}.
+         * @return the current factory builder.
+         */
+        public Builder setNamePattern(final String namePattern) {
+            Objects.requireNonNull(namePattern, "The {namePattern} parameter is required");
+
+            try {
+                String.format(namePattern, 1L);
+            } catch (final IllegalFormatException e) {
+                throw new IllegalArgumentException("The {namePattern} parameter is not a valid format", e);
+            }
+
+            this.namePattern = Optional.of(namePattern);
+            splitNamePattern(namePattern);
+
+            return this;
+        }
+
+        /**
+         * Splits the name pattern around its only {@code %d} conversion, so the thread names are concatenated instead
+         * of formatted. The prefix is left null if the pattern has any other conversion.
+         */
+        private void splitNamePattern(final String namePattern) {
+            final StringBuilder prefix = new StringBuilder();
+            StringBuilder suffix = null;
+            StringBuilder literal = prefix;
+
+            namePrefix = null;
+            nameSuffix = null;
+
+            //The pattern is valid, so every % is followed by a conversion.
+            for (int i = 0; i < namePattern.length(); i++) {
+                final char character = namePattern.charAt(i);
+
+                if (character != '%') {
+                    literal.append(character);
+                } else if (namePattern.charAt(++i) == '%') {
+                    literal.append('%');
+                } else if (namePattern.charAt(i) == 'd' && suffix == null) {
+                    suffix = new StringBuilder();
+                    literal = suffix;
+                } else {
+                    return;
+                }
+            }
+
+            if (suffix != null) {
+                namePrefix = prefix.toString();
+                nameSuffix = suffix.toString();
+            }
+        }
+
+        /**
+         * Sets the thread names as the prefix followed by a hyphen and the thread number.
+         * @param namePrefix the name prefix.
+         * @return the current factory builder.
+         */
+        public Builder setNamePrefix(final String namePrefix) {
+            Objects.requireNonNull(namePrefix, "The {namePrefix} parameter is required");
+
+            return setNamePattern(namePrefix.replace("%", "%%") + "-%d");
+        }
+
+        /**
+         * @param flag true if the new threads should not keep the JVM alive.
+         * @return the current factory builder.
+         * @see java.lang.Thread#setDaemon(boolean)
+         */
+        public Builder setDaemon(final boolean flag) {
+            daemon = flag;
+
+            return this;
+        }
+
+        /**
+         * @param priority the priority of the new threads. It is limited by the maximum priority of the thread group.
+         * @return the current factory builder.
+         * @see java.lang.Thread#setPriority(int)
+         */
+        public Builder setPriority(final int priority) {
+            if (priority < Thread.MIN_PRIORITY || priority > Thread.MAX_PRIORITY) {
+                throw new IllegalArgumentException("The {priority} parameter must be between 1 and 10");
+            }
+
+            this.priority = priority;
+
+            return this;
+        }
+
+        /**
+         * @param threadGroup the group of the new threads, or null for the group of the creating thread.
+         * @return the current factory builder.
+         */
+        public Builder setThreadGroup(final ThreadGroup threadGroup) {
+            this.threadGroup = threadGroup;
+
+            return this;
+        }
+
+        /**
+         * @param stackSize the desired stack size of the new threads in bytes, or zero for the default one. Some
+         * platforms ignore it.
+         * @return the current factory builder.
+         * @see java.lang.Thread#Thread(ThreadGroup, Runnable, String, long)
+         */
+        public Builder setStackSize(final long stackSize) {
+            if (stackSize < 0) {
+                throw new IllegalArgumentException("The {stackSize} parameter must not be negative");
+            }
+
+            this.stackSize = stackSize;
+
+            return this;
+        }
+
+        /**
+         * @return a new thread factory with the current configuration.
+         */
+        public CaughtExecutorThreadFactory build() {
+            return new CaughtExecutorThreadFactory(this);
+        }
+    }
 }
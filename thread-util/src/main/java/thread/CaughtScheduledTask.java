@@ -0,0 +1,307 @@
+package thread;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Task of a {@link thread.ScheduledCaughtExecutorService} which carries its own after-execute consumer, so the
+ * completion dispatch does not depend on how many tasks share the executor. The consumer is released as soon as the
+ * task is done, and then the completion consumers (see {@link #whenDone(Consumer)}) are called once. If the executor
+ * hands the executions off, the task is run, and its consumers are called, by the hand-off executor.
+ * <p>
+ * With the remove-on-cancel policy, a cancelled task is removed from the queue once it reaches the head (see
+ * {@link thread.ScheduledCaughtExecutorService#purgeCancelledHead()}), since the queue keeps the position of its own
+ * tasks only, and finding a wrapper elsewhere would scan the whole queue.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ScheduledCaughtExecutorService#decorateTask(Runnable, RunnableScheduledFuture)
+ */
+class CaughtScheduledTask<V> implements RunnableScheduledFuture<V> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CaughtScheduledTask, BiConsumer> CONSUMER_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(CaughtScheduledTask.class, BiConsumer.class, "afterExecuteConsumer");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CaughtScheduledTask, Consumer> DONE_CONSUMER_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(CaughtScheduledTask.class, Consumer.class, "doneConsumer");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<CaughtScheduledTask> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(CaughtScheduledTask.class, "state");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<CaughtScheduledTask> QUEUE_SLOT_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(CaughtScheduledTask.class, "queueSlot");
+    private static final Consumer<Future<?>> NOTIFIED = future -> {};
+    private static final int IDLE = 0;
+    private static final int RUNNING = 1;
+    private static final int SHEDDING = 2;
+
+    private final ScheduledCaughtExecutorService executor;
+    private final RunnableScheduledFuture<V> task;
+    private final String name;
+    private volatile BiConsumer<Runnable, Throwable> afterExecuteConsumer;
+    private volatile Consumer<Future<?>> doneConsumer;
+    private volatile int state;
+    private volatile int queueSlot;
+
+    CaughtScheduledTask(final ScheduledCaughtExecutorService executor, final RunnableScheduledFuture<V> task,
+            final BiConsumer<Runnable, Throwable> afterExecuteConsumer, final String name) {
+        this.executor = executor;
+        this.task = task;
+        this.afterExecuteConsumer = afterExecuteConsumer;
+        this.name = name;
+    }
+
+    String getName() {
+        return name == null ? ExecutorInstrumentation.DEFAULT_TASK_NAME : name;
+    }
+
+    @SuppressWarnings("unchecked")
+    void addAfterExecuteConsumer(final BiConsumer<Runnable, Throwable> consumer) {
+        BiConsumer<Runnable, Throwable> current;
+        BiConsumer<Runnable, Throwable> next;
+
+        do {
+            current = afterExecuteConsumer;
+            next = current == null ? consumer : current.andThen(consumer);
+        } while (!CONSUMER_UPDATER.compareAndSet(this, current, next));
+
+        if (isDone() && !isRunning()) {
+            release();
+        }
+    }
+
+    /**
+     * @param consumer the consumer called once, as soon as this task is done. It is called immediately if this task
+     * has already notified its completion.
+     */
+    void whenDone(final Consumer<Future<?>> consumer) {
+        whenDone(consumer, false);
+    }
+
+    /**
+     * @param consumer the consumer called once, as soon as this task is done, before the consumers already added.
+     * @see #whenDone(Consumer)
+     */
+    void whenDoneFirst(final Consumer<Future<?>> consumer) {
+        whenDone(consumer, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void whenDone(final Consumer<Future<?>> consumer, final boolean first) {
+        Consumer<Future<?>> current;
+        Consumer<Future<?>> next;
+
+        do {
+            current = doneConsumer;
+
+            if (current == NOTIFIED) {
+                consumer.accept(this);
+                return;
+            }
+
+            if (current == null) {
+                next = consumer;
+            } else {
+                next = first ? consumer.andThen(current) : current.andThen(consumer);
+            }
+        } while (!DONE_CONSUMER_UPDATER.compareAndSet(this, current, next));
+
+        if (isDone() && !isRunning()) {
+            notifyDone();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void notifyDone() {
+        final Consumer<Future<?>> consumer = DONE_CONSUMER_UPDATER.getAndSet(this, NOTIFIED);
+
+        if (consumer != null && consumer != NOTIFIED) {
+            consumer.accept(this);
+        }
+    }
+
+    boolean isRunning() {
+        return state == RUNNING;
+    }
+
+    /**
+     * Cancels this task unless it is running, without letting it start meanwhile.
+     * @return true if this task was cancelled.
+     */
+    boolean shed() {
+        if (!STATE_UPDATER.compareAndSet(this, IDLE, SHEDDING)) {
+            return false;
+        }
+
+        try {
+            return cancel(false);
+        } finally {
+            state = IDLE;
+        }
+    }
+
+    /**
+     * Marks this task as the holder of a slot of a bounded executor.
+     */
+    void holdQueueSlot() {
+        queueSlot = 1;
+    }
+
+    /**
+     * @return true if this task held a slot of a bounded executor, which is given up to the caller.
+     */
+    boolean giveUpQueueSlot() {
+        return QUEUE_SLOT_UPDATER.compareAndSet(this, 1, 0);
+    }
+
+    boolean isOwnedBy(final ScheduledCaughtExecutorService executor) {
+        return this.executor == executor;
+    }
+
+    void release() {
+        afterExecuteConsumer = null;
+    }
+
+    void afterExecute(final Throwable throwable) {
+        final BiConsumer<Runnable, Throwable> consumer = afterExecuteConsumer;
+
+        if (isDone()) {
+            release();
+        }
+
+        try {
+            if (consumer != null) {
+                consumer.accept(this, throwable);
+            }
+        } finally {
+            if (isDone()) {
+                STATE_UPDATER.compareAndSet(this, RUNNING, IDLE);
+                notifyDone();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        final ExecutorService handOffExecutor = executor.getHandOffExecutor();
+
+        if (handOffExecutor == null) {
+            runTask();
+        } else {
+            handOff(handOffExecutor);
+        }
+    }
+
+    private void runTask() {
+        final ExecutorInstrumentation instrumentation = executor.getInstrumentation();
+
+        if (!STATE_UPDATER.compareAndSet(this, IDLE, RUNNING)) {
+            //The task is being shed, so it is cancelled instead.
+            return;
+        }
+
+        try {
+            if (instrumentation == null) {
+                task.run();
+            } else {
+                instrumentation.run(this, task);
+            }
+        } finally {
+            //A one-shot task keeps running until its after-execute consumers are called, so its completion is not
+            //notified before them.
+            if (isPeriodic()) {
+                state = IDLE;
+            }
+        }
+    }
+
+    private void handOff(final ExecutorService handOffExecutor) {
+        try {
+            handOffExecutor.execute(this::runAndDispatch);
+        } catch (final RejectedExecutionException e) {
+            executor.recordRejection();
+            task.cancel(false);
+            executor.dispatchAfterExecute(this, e);
+        }
+    }
+
+    /**
+     * Runs this task in the current thread and then calls its after-execute consumers, as a hand-off executor does.
+     */
+    void runAndDispatch() {
+        Throwable throwable = null;
+
+        try {
+            runTask();
+        } catch (final RuntimeException | Error e) {
+            throwable = e;
+            throw e;
+        } finally {
+            executor.dispatchAfterExecute(this, throwable);
+        }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final boolean cancelled = task.cancel(mayInterruptIfRunning);
+
+        if (cancelled && !isRunning()) {
+            release();
+
+            if (executor.getRemoveOnCancelPolicy()) {
+                executor.purgeCancelledHead();
+            }
+
+            notifyDone();
+        }
+
+        return cancelled;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+        return task.isPeriodic();
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+        return task.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+        return task.compareTo(other instanceof CaughtScheduledTask ? ((CaughtScheduledTask<?>) other).task : other);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return task.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        return task.get();
+    }
+
+    @Override
+    public V get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return task.get(timeout, unit);
+    }
+}
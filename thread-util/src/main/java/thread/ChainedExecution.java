@@ -0,0 +1,120 @@
+package thread;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Execution of a thread as a chain of one-shot tasks of the same executor, where every task may schedule the next one
+ * from its after-execute consumer. The tasks never overlap and no thread waits between them. The future of the whole
+ * chain is done by the subclass, and cancelling it cancels the pending task.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+abstract class ChainedExecution implements Runnable {
+    final ScheduledCaughtExecutorService executor;
+    final BiConsumer<Runnable, Throwable> afterExecuteConsumer;
+    final ChainedFuture result;
+    private final Runnable execution;
+    private final Runnable command;
+    private final BiConsumer<Runnable, Throwable> afterRunConsumer = this::afterRun;
+    private final boolean mayInterruptIfRunning;
+    private volatile Future<?> task;
+
+    ChainedExecution(final ScheduledCaughtExecutorService executor, final Runnable execution, final String name,
+            final BiConsumer<Runnable, Throwable> afterExecuteConsumer, final boolean mayInterruptIfRunning,
+            final boolean periodic) {
+        this.executor = executor;
+        this.execution = execution;
+        this.command = name == null ? this : ScheduledCaughtExecutorService.named(name, this);
+        this.afterExecuteConsumer = afterExecuteConsumer;
+        this.mayInterruptIfRunning = mayInterruptIfRunning;
+        this.result = new ChainedFuture(periodic);
+        this.result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                cancelTask();
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        execution.run();
+    }
+
+    /**
+     * Called after every task of the chain, in the thread which performed it.
+     * @param runnable the performed task.
+     * @param throwable the exception which caused the termination of the task, if any.
+     */
+    abstract void afterRun(Runnable runnable, Throwable throwable);
+
+    /**
+     * Schedules the next task of the chain, which takes over the slot of the previous task on a bounded executor.
+     * @param previous the done task which schedules the next one, or null if the chain is starting.
+     * @param delayNanos the time from now to delay the task.
+     * @throws java.util.concurrent.RejectedExecutionException if the executor does not accept the task.
+     */
+    final void schedule(final Future<?> previous, final long delayNanos) {
+        final ScheduledFuture<?> future = executor.scheduleNext(previous, command, delayNanos, TimeUnit.NANOSECONDS,
+                afterRunConsumer);
+
+        task = future;
+        ((CaughtScheduledTask<?>) future).whenDone(doneFuture -> {
+            if (doneFuture.isCancelled()) {
+                result.cancel(false);
+            }
+        });
+
+        if (result.isCancelled()) {
+            cancelTask();
+        }
+    }
+
+    private void cancelTask() {
+        final Future<?> future = task;
+
+        if (future != null && !future.isDone()) {
+            executor.removeAfterExecuteConsumers(future);
+            future.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    static Throwable failureOf(final Future<?> future) {
+        if (!future.isDone() || future.isCancelled()) {
+            return null;
+        }
+
+        try {
+            future.get();
+            return null;
+        } catch (final ExecutionException e) {
+            return e.getCause();
+        } catch (final CancellationException e) {
+            return null;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Future of a whole chain. A periodic chain is cancelled, rather than waited, when its result is shut down.
+     */
+    static final class ChainedFuture extends CompletableFuture<Void> {
+        private final boolean periodic;
+
+        private ChainedFuture(final boolean periodic) {
+            this.periodic = periodic;
+        }
+
+        boolean isPeriodic() {
+            return periodic;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package thread;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Execution of a thread at the fire times of a {@link thread.CronExpression}. The next fire time is computed once,
+ * after every execution, and the next execution is a task of the same executor delayed exactly until that time. The
+ * fire times missed while an execution runs are skipped. The returned future is done when an execution fails or the
+ * expression does not fire anymore.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class CronExecution extends ChainedExecution {
+    private static final long EARLY_TOLERANCE = TimeUnit.MILLISECONDS.toNanos(IntervalMetrics.LATE_TICK_TOLERANCE);
+
+    private final CronExpression expression;
+    private final ZoneId zone;
+    private final IntervalMetrics metrics;
+    private ZonedDateTime nextFireTime;
+    private boolean early;
+
+    CronExecution(final ScheduledCaughtExecutorService executor, final Runnable execution, final String name,
+            final CronExpression expression, final ZoneId zone,
+            final BiConsumer<Runnable, Throwable> afterExecuteConsumer, final IntervalMetrics metrics,
+            final boolean mayInterruptIfRunning) {
+        super(executor, execution, name, afterExecuteConsumer, mayInterruptIfRunning, true);
+        this.expression = expression;
+        this.zone = zone;
+        this.metrics = metrics;
+    }
+
+    CompletableFuture<Void> start(final long delay, final TimeUnit unit) {
+        nextFireTime = expression.next(ZonedDateTime.now(zone).plusNanos(unit.toNanos(delay)));
+        scheduleNextFire(null);
+
+        return result;
+    }
+
+    @Override
+    public void run() {
+        final long lateness = Duration.between(nextFireTime, ZonedDateTime.now(zone)).toNanos();
+
+        //The wall clock was set back after the scheduling, so the fire time is not due yet.
+        early = lateness < -EARLY_TOLERANCE;
+
+        if (!early) {
+            metrics.recordExecuted(Math.max(lateness, 0));
+            super.run();
+        }
+    }
+
+    @Override
+    void afterRun(final Runnable runnable, final Throwable throwable) {
+        final Future<?> future = (Future<?>) runnable;
+
+        try {
+            if (!early) {
+                afterExecuteConsumer.accept(runnable, throwable);
+            }
+        } finally {
+            next(future);
+        }
+    }
+
+    private void next(final Future<?> future) {
+        final Throwable failure = failureOf(future);
+
+        if (future.isCancelled()) {
+            result.cancel(false);
+        } else if (failure != null) {
+            result.completeExceptionally(failure);
+        } else if (!result.isDone()) {
+            if (!early) {
+                final ZonedDateTime now = ZonedDateTime.now(zone);
+
+                nextFireTime = expression.next(now.isAfter(nextFireTime) ? now : nextFireTime);
+            }
+
+            try {
+                scheduleNextFire(future);
+            } catch (final RejectedExecutionException e) {
+                result.cancel(false);
+            }
+        }
+    }
+
+    private void scheduleNextFire(final Future<?> previous) {
+        if (nextFireTime == null) {
+            result.complete(null);
+        } else {
+            schedule(previous, Math.max(0, Duration.between(ZonedDateTime.now(zone), nextFireTime).toNanos()));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package thread;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Cron expression of the fire times of a {@link thread.ThreadBuilder} schedule.
+ * <p>
+ * The expression has five fields, <i>minute hour day-of-month month day-of-week</i>, or six fields when it starts
+ * with the <i>second</i>. Every field is a list of values, ranges ({@code 1-5}) and steps ({@code *}{@code /15},
+ * {@code 10-50/10}), or {@code *} (also {@code ?}) for any value. Months and days of week accept the English
+ * three-letter names, and Sunday is both 0 and 7. As in the classic cron, when both the day of month and the day of
+ * week are restricted, a day matching either of them fires. The macros {@code @yearly}, {@code @monthly},
+ * {@code @weekly}, {@code @daily} and {@code @hourly} are accepted too.
+ * </p>
+ * <p>
+ * The fields are parsed once into bit masks, so the next fire time is found by jumping over the unmatched months,
+ * days, hours, minutes and seconds rather than by polling the clock.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * CronExpression.parse("*&#47;5 * * * MON-FRI"); //Every five minutes on weekdays.
+ * CronExpression.parse("0 30 9 1 * *"); //At 09:30:00 of the first day of every month.
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ThreadBuilder#setCron(CronExpression, java.time.ZoneId)
+ */
+public class CronExpression {
+    private static final String[] MONTH_NAMES = {
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    //A day of month and a day of week, both restricted, match together at least once every 28 years.
+    private static final int MAX_YEARS = 28;
+
+    private final String expression;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean anyDayOfMonth;
+    private final boolean anyDayOfWeek;
+
+    private CronExpression(final String expression, final String[] fields) {
+        final int offset = fields.length - 5;
+
+        this.expression = expression;
+        this.seconds = offset == 0 ? 1L : parseField(expression, fields[0], 0, 59, null, 0);
+        this.minutes = parseField(expression, fields[offset], 0, 59, null, 0);
+        this.hours = parseField(expression, fields[offset + 1], 0, 23, null, 0);
+        this.daysOfMonth = parseField(expression, fields[offset + 2], 1, 31, null, 0);
+        this.months = parseField(expression, fields[offset + 3], 1, 12, MONTH_NAMES, 1);
+        this.anyDayOfMonth = isAny(fields[offset + 2]);
+        this.anyDayOfWeek = isAny(fields[offset + 4]);
+
+        final long days = parseField(expression, fields[offset + 4], 0, 7, DAY_NAMES, 0);
+
+        this.daysOfWeek = (days & 1L << 7) == 0 ? days : (days | 1L) & ~(1L << 7);
+    }
+
+    /**
+     * @param expression the cron expression.
+     * @return the parsed cron expression.
+     * @throws IllegalArgumentException if the expression is not valid.
+     */
+    public static CronExpression parse(final String expression) {
+        Objects.requireNonNull(expression, "The {expression} parameter is required");
+
+        final String[] fields = expandMacro(expression.trim()).split("\\s+");
+
+        if (fields.length != 5 && fields.length != 6) {
+            throw invalid(expression, "five or six fields are expected");
+        }
+
+        return new CronExpression(expression, fields);
+    }
+
+    /**
+     * @return the cron expression as it was parsed.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @param after the time after which the fire time is searched.
+     * @return the first fire time strictly after the given time, in its zone, or null if the expression never fires
+     * (e.g. on February 30).
+     */
+    public ZonedDateTime next(final ZonedDateTime after) {
+        Objects.requireNonNull(after, "The {after} parameter is required");
+
+        ZonedDateTime time = after.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        final int lastYear = time.getYear() + MAX_YEARS;
+
+        while (time.getYear() <= lastYear) {
+            if (!isSet(months, time.getMonthValue())) {
+                time = time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1).plusMonths(1);
+                continue;
+            }
+
+            if (!matchesDay(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                continue;
+            }
+
+            final int hour = nextSet(hours, time.getHour());
+
+            if (hour < 0) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                continue;
+            } else if (hour != time.getHour()) {
+                time = time.withHour(hour).truncatedTo(ChronoUnit.HOURS);
+                continue;
+            }
+
+            final int minute = nextSet(minutes, time.getMinute());
+
+            if (minute < 0) {
+                time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                continue;
+            } else if (minute != time.getMinute()) {
+                time = time.withMinute(minute).truncatedTo(ChronoUnit.MINUTES);
+                continue;
+            }
+
+            final int second = nextSet(seconds, time.getSecond());
+
+            if (second < 0) {
+                time = time.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+                continue;
+            }
+
+            return time.withSecond(second);
+        }
+
+        return null;
+    }
+
+    private boolean matchesDay(final ZonedDateTime time) {
+        final boolean dayOfMonth = isSet(daysOfMonth, time.getDayOfMonth());
+        final boolean dayOfWeek = isSet(daysOfWeek, time.getDayOfWeek().getValue() % 7);
+
+        return anyDayOfMonth || anyDayOfWeek ? dayOfMonth && dayOfWeek : dayOfMonth || dayOfWeek;
+    }
+
+    private static boolean isSet(final long bits, final int value) {
+        return (bits & 1L << value) != 0;
+    }
+
+    private static int nextSet(final long bits, final int from) {
+        final long remaining = bits & -1L << from;
+
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static boolean isAny(final String field) {
+        return field.startsWith("*") || field.startsWith("?");
+    }
+
+    private static String expandMacro(final String expression) {
+        switch (expression.toLowerCase(Locale.ROOT)) {
+            case "@yearly":
+            case "@annually":
+                return "0 0 0 1 1 *";
+            case "@monthly":
+                return "0 0 0 1 * *";
+            case "@weekly":
+                return "0 0 0 * * 0";
+            case "@daily":
+            case "@midnight":
+                return "0 0 0 * * *";
+            case "@hourly":
+                return "0 0 * * * *";
+            default:
+                return expression;
+        }
+    }
+
+    private static long parseField(final String expression, final String field, final int min, final int max,
+            final String[] names, final int firstNameValue) {
+        long bits = 0;
+
+        for (final String part : field.split(",", -1)) {
+            final int slash = part.indexOf('/');
+            final String range = slash < 0 ? part : part.substring(0, slash);
+            final int step = slash < 0 ? 1 : parseValue(expression, part.substring(slash + 1), null, 0);
+            final int from;
+            final int to;
+
+            if (isAny(range) && range.length() == 1) {
+                from = min;
+                to = max;
+            } else {
+                final int dash = range.indexOf('-');
+
+                from = parseValue(expression, dash < 0 ? range : range.substring(0, dash), names, firstNameValue);
+                to = dash < 0
+                        ? slash < 0 ? from : max
+                        : parseValue(expression, range.substring(dash + 1), names, firstNameValue);
+            }
+
+            if (step < 1 || from < min || to > max || from > to) {
+                throw invalid(expression, "the field " + field + " must be within " + min + "-" + max);
+            }
+
+            for (int value = from; value <= to; value += step) {
+                bits |= 1L << value;
+            }
+        }
+
+        return bits;
+    }
+
+    private static int parseValue(final String expression, final String value, final String[] names,
+            final int firstNameValue) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(value)) {
+                    return i + firstNameValue;
+                }
+            }
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw invalid(expression, "the value " + value + " is not a number");
+        }
+    }
+
+    private static IllegalArgumentException invalid(final String expression, final String reason) {
+        return new IllegalArgumentException(
+                "The {expression} parameter is not a valid cron expression (" + reason + "): " + expression);
+    }
+}
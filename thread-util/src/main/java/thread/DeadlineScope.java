@@ -0,0 +1,307 @@
+package thread;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scope of executions which are cancelled as a group, by a deadline or when the scope is closed.
+ * <p>
+ * A child scope inherits the remaining deadline of its parent, and may only shorten it. Cancelling a scope cancels
+ * the executions of every child scope too, so the sub-tasks started by a task do not outlive the task deadline. The
+ * scopes are observable as a tree: the {@link #getResult()} of a scope tracks its executions, and its
+ * {@link ExecutorResult#getTimeoutExecutorResults()} are the results of its child scopes.
+ * </p>
+ * <p>
+ * A running execution finds its scope by {@link #current()}, and the builders without a scope of their own start
+ * their executions in it. If a {@link thread.ThreadBuilder} has a timeout too, each start runs in a child scope with
+ * that timeout, so the timeout cancels the sub-tasks of the execution as well. Such a child scope is released once
+ * its executions and child scopes are done.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * try (final DeadlineScope scope = DeadlineScope.open(Duration.ofSeconds(5))) {
+ *     ThreadBuilder
+ *             .newBuilder()
+ *             .setDeadlineScope(scope)
+ *             .setExecution(() -&gt; ThreadBuilder
+ *                     .newBuilder()
+ *                     .setDeadlineScope(scope.newChild()) //The sub-task is cancelled with its parent.
+ *                     .setExecution(anyRunnable)
+ *                     .start())
+ *             .start();
+ * }
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ThreadBuilder#setDeadlineScope(DeadlineScope)
+ */
+public class DeadlineScope implements AutoCloseable {
+    private static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE / 2);
+    private static final ThreadLocal<DeadlineScope> CURRENT = new ThreadLocal<>();
+
+    private final DeadlineScope parent;
+    private final HashedWheelTimer timer;
+    private final boolean hasDeadline;
+    private final long deadline;
+    private final ExecutorResult result = new ExecutorResult(null);
+    private final Set<Runnable> cancellations = ConcurrentHashMap.newKeySet();
+    private final Set<DeadlineScope> children = ConcurrentHashMap.newKeySet();
+    private final Set<ExecutorResult> attachedResults = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean releasable;
+    private volatile HashedWheelTimer.Timeout wheelTimeout;
+
+    private DeadlineScope(final DeadlineScope parent, final HashedWheelTimer timer, final boolean hasDeadline,
+            final long deadline) {
+        this.parent = parent;
+        this.timer = timer;
+        this.hasDeadline = hasDeadline;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return a new root scope without deadline, whose executions are cancelled when it is closed.
+     */
+    public static DeadlineScope open() {
+        return new DeadlineScope(null, ThreadBuilder.DefaultTimeoutTimerHolder.TIMEOUT_TIMER, false, 0);
+    }
+
+    /**
+     * @param timeout the time from now until the executions of the scope are cancelled.
+     * @return a new root scope with deadline.
+     */
+    public static DeadlineScope open(final Duration timeout) {
+        Objects.requireNonNull(timeout, "The {timeout} parameter is required");
+
+        return new DeadlineScope(null, ThreadBuilder.DefaultTimeoutTimerHolder.TIMEOUT_TIMER, true,
+                deadlineAfter(timeout)).startTimer();
+    }
+
+    /**
+     * @return the scope of the execution running in the current thread, or empty if it is not scoped.
+     */
+    public static Optional<DeadlineScope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * @return a new child scope with the remaining deadline of this scope.
+     */
+    public DeadlineScope newChild() {
+        return attach(new DeadlineScope(this, timer, hasDeadline, deadline));
+    }
+
+    /**
+     * @param timeout the time from now until the executions of the child scope are cancelled. It is ignored if this
+     * scope deadline comes first.
+     * @return a new child scope with the earliest deadline between this scope one and the timeout.
+     */
+    public DeadlineScope newChild(final Duration timeout) {
+        Objects.requireNonNull(timeout, "The {timeout} parameter is required");
+
+        final long childDeadline = deadlineAfter(timeout);
+
+        if (hasDeadline && deadline - childDeadline <= 0) {
+            return newChild();
+        }
+
+        return attach(new DeadlineScope(this, timer, true, childDeadline)).startTimer();
+    }
+
+    /**
+     * @return the time until the deadline of this scope, or empty if it has no deadline.
+     */
+    public Optional<Duration> getRemaining() {
+        return hasDeadline
+                ? Optional.of(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))
+                : Optional.empty();
+    }
+
+    /**
+     * @return the result which tracks the executions of this scope and, as timeout results, its child scopes.
+     */
+    public ExecutorResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return true if this scope was cancelled, by its deadline, by its parent or explicitly.
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Cancels the executions of this scope and of its child scopes which are not done yet. The executions added
+     * afterwards are cancelled as soon as they are added.
+     */
+    public void cancel() {
+        if (!cancelled.compareAndSet(false, true)) {
+            return;
+        }
+
+        final HashedWheelTimer.Timeout wheelTimeout = this.wheelTimeout;
+
+        if (wheelTimeout != null) {
+            wheelTimeout.cancel();
+        }
+
+        if (parent != null && parent.children.remove(this)) {
+            parent.releaseIfDone();
+        }
+
+        for (final Runnable cancellation : cancellations) {
+            if (cancellations.remove(cancellation)) {
+                cancellation.run();
+            }
+        }
+
+        for (final DeadlineScope child : children) {
+            if (children.remove(child)) {
+                child.cancel();
+            }
+        }
+    }
+
+    /**
+     * Cancels the executions of this scope which are not done yet, so no execution outlives the scope.
+     * @see #cancel()
+     */
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    /**
+     * Adds an execution to this scope.
+     * @param future the future of the execution.
+     * @param cancellation the cancellation of the execution, run once if this scope is cancelled before the future
+     * is done.
+     */
+    void add(final Future<?> future, final Runnable cancellation) {
+        final Runnable removal = () -> {
+            cancellations.remove(cancellation);
+            releaseIfDone();
+        };
+
+        result.addFuture(future);
+        cancellations.add(cancellation);
+
+        if (future instanceof CaughtScheduledTask) {
+            ((CaughtScheduledTask<?>) future).whenDone(doneFuture -> removal.run());
+        } else if (future instanceof CompletableFuture) {
+            ((CompletableFuture<?>) future).whenComplete((value, throwable) -> removal.run());
+        }
+
+        if (cancelled.get() && cancellations.remove(cancellation)) {
+            cancellation.run();
+        }
+    }
+
+    /**
+     * Runs the execution with this scope as the {@link #current()} one.
+     * @param execution the execution of this scope.
+     * @return the scoped execution.
+     */
+    Runnable scoped(final Runnable execution) {
+        return () -> {
+            final DeadlineScope previous = CURRENT.get();
+
+            CURRENT.set(this);
+
+            try {
+                execution.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Releases this scope, stopping its timer and detaching it from its parent, as soon as its executions and child
+     * scopes are done. It is called once every execution of the scope was added, since no other one can be added
+     * afterwards but by those executions.
+     */
+    void releaseWhenDone() {
+        releasable = true;
+        releaseIfDone();
+    }
+
+    int getChildCount() {
+        return children.size();
+    }
+
+    /**
+     * Adds the result of this scope to the timeout results of the given one, once.
+     * @param executorResult the result of the starts of this scope.
+     */
+    void attachTo(final ExecutorResult executorResult) {
+        if (attachedResults.add(executorResult)) {
+            executorResult.addTimeoutExecutorResult(result);
+        }
+    }
+
+    private DeadlineScope attach(final DeadlineScope child) {
+        children.add(child);
+        result.addTimeoutExecutorResult(child.result);
+
+        if (cancelled.get() && children.remove(child)) {
+            child.cancel();
+        }
+
+        return child;
+    }
+
+    /**
+     * The timeout is limited to half the range of {@link System#nanoTime()}, so the deadlines are still ordered by
+     * their difference.
+     */
+    private static long deadlineAfter(final Duration timeout) {
+        return System.nanoTime() + (timeout.isNegative() ? 0 : timeout.compareTo(MAX_TIMEOUT) > 0
+                ? MAX_TIMEOUT.toNanos()
+                : timeout.toNanos());
+    }
+
+    private void releaseIfDone() {
+        if (!releasable || !cancellations.isEmpty() || !children.isEmpty() || cancelled.get()
+                || !released.compareAndSet(false, true)) {
+            return;
+        }
+
+        final HashedWheelTimer.Timeout wheelTimeout = this.wheelTimeout;
+
+        if (wheelTimeout != null) {
+            wheelTimeout.cancel();
+        }
+
+        if (parent != null && parent.children.remove(this)) {
+            parent.releaseIfDone();
+        }
+    }
+
+    private DeadlineScope startTimer() {
+        wheelTimeout = timer.newTimeout(this::cancel, Math.max(0, deadline - System.nanoTime()),
+                TimeUnit.NANOSECONDS);
+
+        if (cancelled.get()) {
+            wheelTimeout.cancel();
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,201 @@
+package thread;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Instrumentation of a {@link thread.ScheduledCaughtExecutorService}.
+ * <p>
+ * Once installed by {@link thread.ScheduledCaughtExecutorService#setInstrumentation(ExecutorInstrumentation)}, every
+ * execution records, per task name, its queue wait (one-shot tasks), its scheduling lag (periodic tasks) and its run
+ * time into {@link thread.LatencyHistogram}s. The executor gauges (queue depth, pool size, active threads and
+ * running tasks) and the rejected count are read on demand. The executors without instrumentation only pay one null
+ * check per execution.
+ * </p>
+ * <p>
+ * The values can be read by the {@link #snapshot()} API or by JMX, after {@link #registerMBean(String)}.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * final ExecutorInstrumentation instrumentation = new ExecutorInstrumentation();
+ *
+ * engine.getExecutor().setInstrumentation(instrumentation);
+ * instrumentation.registerMBean("engine"); //thread:type=ExecutorInstrumentation,name=engine
+ * ThreadBuilder.newBuilder(engine).setName("poller").setExecution(anyRunnable).start();
+ * instrumentation.snapshot().getTasks(); //The latencies of the "poller" tasks.
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ExecutorInstrumentation implements ExecutorInstrumentationMXBean {
+    /**
+     * The name of the tasks scheduled without name.
+     */
+    public static final String DEFAULT_TASK_NAME = "task";
+
+    private final ConcurrentMap<String, TaskMetrics> taskMetrics = new ConcurrentHashMap<>();
+    private final LongAdder runningTasks = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private volatile ScheduledCaughtExecutorService executor;
+    private volatile ObjectName objectName;
+
+    /**
+     * @param name the task name.
+     * @return the metrics of the tasks of the given name.
+     */
+    public TaskMetrics getTaskMetrics(final String name) {
+        final TaskMetrics metrics = taskMetrics.get(name);
+
+        return metrics != null ? metrics : taskMetrics.computeIfAbsent(name, key -> new TaskMetrics());
+    }
+
+    /**
+     * @return an immutable view of the current values.
+     */
+    public InstrumentationSnapshot snapshot() {
+        return new InstrumentationSnapshot(getQueueDepth(), getPoolSize(), getActiveThreads(), getRunningTasks(),
+                getRejectedCount(), getTasks());
+    }
+
+    @Override
+    public int getQueueDepth() {
+        final ScheduledCaughtExecutorService executor = this.executor;
+
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    @Override
+    public int getPoolSize() {
+        final ScheduledCaughtExecutorService executor = this.executor;
+
+        return executor == null ? 0 : executor.getPoolSize();
+    }
+
+    @Override
+    public int getActiveThreads() {
+        final ScheduledCaughtExecutorService executor = this.executor;
+
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    @Override
+    public long getRunningTasks() {
+        return runningTasks.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public List<InstrumentationSnapshot.TaskSnapshot> getTasks() {
+        final List<InstrumentationSnapshot.TaskSnapshot> tasks = new ArrayList<>(taskMetrics.size());
+
+        taskMetrics.forEach((name, metrics) -> tasks.add(new InstrumentationSnapshot.TaskSnapshot(name, metrics)));
+
+        return tasks;
+    }
+
+    /**
+     * Registers this instrumentation in the platform MBean server.
+     * @param name the value of the name key of the MBean object name.
+     * @return the MBean object name ({@code thread:type=ExecutorInstrumentation,name={name}}).
+     * @throws IllegalStateException if the MBean could not be registered.
+     */
+    public ObjectName registerMBean(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName("thread:type=ExecutorInstrumentation,name="
+                    + ObjectName.quote(name));
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            this.objectName = objectName;
+
+            return objectName;
+        } catch (final JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Unregisters this instrumentation from the platform MBean server, if it was registered.
+     */
+    public void unregisterMBean() {
+        final ObjectName objectName = this.objectName;
+
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (final JMException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                this.objectName = null;
+            }
+        }
+    }
+
+    void attach(final ScheduledCaughtExecutorService executor) {
+        this.executor = executor;
+    }
+
+    void run(final CaughtScheduledTask<?> scheduledTask, final Runnable task) {
+        final long lag = -scheduledTask.getDelay(TimeUnit.NANOSECONDS);
+        final long startTime = System.nanoTime();
+        final TaskMetrics metrics = getTaskMetrics(scheduledTask.getName());
+
+        runningTasks.increment();
+
+        try {
+            task.run();
+        } finally {
+            runningTasks.decrement();
+            metrics.runTime.record(System.nanoTime() - startTime);
+            (scheduledTask.isPeriodic() ? metrics.schedulingLag : metrics.queueWait).record(lag);
+        }
+    }
+
+    void recordRejection() {
+        rejectedCount.increment();
+    }
+
+    /**
+     * Latency histograms of the tasks of the same name.
+     */
+    public static class TaskMetrics {
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final LatencyHistogram runTime = new LatencyHistogram();
+        private final LatencyHistogram schedulingLag = new LatencyHistogram();
+
+        /**
+         * @return the time between the due time and the start of the one-shot executions.
+         */
+        public LatencyHistogram getQueueWait() {
+            return queueWait;
+        }
+
+        /**
+         * @return the duration of the executions.
+         */
+        public LatencyHistogram getRunTime() {
+            return runTime;
+        }
+
+        /**
+         * @return the time between the planned time and the start of the periodic executions.
+         */
+        public LatencyHistogram getSchedulingLag() {
+            return schedulingLag;
+        }
+    }
+}
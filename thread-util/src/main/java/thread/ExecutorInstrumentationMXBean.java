@@ -0,0 +1,42 @@
+package thread;
+
+import java.util.List;
+
+/**
+ * Management interface of an {@link thread.ExecutorInstrumentation}.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ExecutorInstrumentation#registerMBean(String)
+ */
+public interface ExecutorInstrumentationMXBean {
+    /**
+     * @return the number of tasks waiting in the executor queue.
+     */
+    int getQueueDepth();
+
+    /**
+     * @return the number of threads of the executor pool.
+     */
+    int getPoolSize();
+
+    /**
+     * @return the number of pool threads running or handing off a task.
+     */
+    int getActiveThreads();
+
+    /**
+     * @return the number of executions in progress, including the handed-off ones.
+     */
+    long getRunningTasks();
+
+    /**
+     * @return the number of tasks rejected by the executor.
+     */
+    long getRejectedCount();
+
+    /**
+     * @return the latencies of every task name.
+     */
+    List<InstrumentationSnapshot.TaskSnapshot> getTasks();
+}
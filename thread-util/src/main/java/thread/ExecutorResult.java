@@ -1,29 +1,469 @@
 package thread;
 
-import java.util.LinkedList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-public class ExecutorResult {
+/**
+ * Result of the threads started by a {@link thread.ThreadBuilder}.
+ * <p>
+ * It can be shared by many starts (see {@link thread.ThreadBuilder#startAndBuildOther()}) and updated concurrently.
+ * Every finished future is counted as completed, failed or cancelled, and only the latest finished futures are kept
+ * (see {@link #DEFAULT_FINISHED_FUTURES_RETENTION}), so long-running chained builders do not retain memory. The
+ * aggregate futures {@link #allDone()} and {@link #anyDone()} allow waiting without polling every future.
+ * </p>
+ * <p>
+ * The result can be shut down within a timeout (see {@link #shutdown(Duration)}), which also finishes the executors
+ * created for it by the {@link thread.ThreadBuilder}, but never a shared {@link thread.SchedulerEngine}.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2019-11-18 V1.0.0 (JDK 1.8)
+ */
+public class ExecutorResult implements AutoCloseable {
+    /**
+     * 64 finished futures as the default number of finished futures kept by a result.
+     */
+    public static final int DEFAULT_FINISHED_FUTURES_RETENTION = 64;
+    /**
+     * 30 seconds as the default time to drain the futures when the result is closed.
+     */
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int MINIMUM_PRUNE_THRESHOLD = 64;
 
     private final ExecutorService executorService;
-    private final List<Future<?>> futures = new LinkedList<Future<?>>();
-    private final List<ExecutorResult> timeoutExecutorResults = new LinkedList<>();
-    
+    private final int finishedFuturesRetention;
+    private final Queue<TrackedFuture> futures = new ConcurrentLinkedQueue<>();
+    private final Queue<ExecutorResult> timeoutExecutorResults = new ConcurrentLinkedQueue<>();
+    private final Queue<ExecutorService> ownedExecutorServices = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ownedExecutorServicesCount = new AtomicInteger();
+    private final AtomicInteger pruneThreshold = new AtomicInteger(MINIMUM_PRUNE_THRESHOLD);
+    private final AtomicBoolean pruningOwnedExecutorServices = new AtomicBoolean();
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder cancelledCount = new LongAdder();
+    private final AtomicReference<PendingState> pendingState = new AtomicReference<>(PendingState.IDLE);
+    private final AtomicLong finishedFuturesCount = new AtomicLong();
+    private final AtomicBoolean releasingFinishedFutures = new AtomicBoolean();
+    private final CompletableFuture<Future<?>> anyDone = new CompletableFuture<>();
+    private final AtomicReference<IntervalMetrics> intervalMetrics = new AtomicReference<>();
+    private final AtomicReference<RetryMetrics> retryMetrics = new AtomicReference<>();
+
     public ExecutorResult(final ExecutorService executorService) {
+        this(executorService, DEFAULT_FINISHED_FUTURES_RETENTION);
+    }
+
+    /**
+     * @param executorService the executor service of the futures.
+     * @param finishedFuturesRetention the number of finished futures kept by this result.
+     */
+    public ExecutorResult(final ExecutorService executorService, final int finishedFuturesRetention) {
+        if (finishedFuturesRetention < 0) {
+            throw new IllegalArgumentException("The {finishedFuturesRetention} parameter must not be negative");
+        }
+
         this.executorService = executorService;
+        this.finishedFuturesRetention = finishedFuturesRetention;
     }
-    
+
     public ExecutorService getExecutorService() {
         return executorService;
     }
-    
+
+    /**
+     * @return a snapshot of the pending futures and of the latest finished ones, in the adding order.
+     */
     public List<Future<?>> getFutures() {
-        return futures;
+        final List<Future<?>> snapshot = new ArrayList<>();
+
+        futures.forEach(trackedFuture -> snapshot.add(trackedFuture.future));
+
+        return Collections.unmodifiableList(snapshot);
     }
-    
+
+    /**
+     * @return a snapshot of the results of the timeouts, in the adding order.
+     */
     public List<ExecutorResult> getTimeoutExecutorResults() {
-        return timeoutExecutorResults;
+        return Collections.unmodifiableList(new ArrayList<>(timeoutExecutorResults));
+    }
+
+    /**
+     * Adds a future to be tracked by this result. The future is counted as soon as it is done, if it is a future
+     * returned by a {@link thread.ScheduledCaughtExecutorService} or a {@link CompletableFuture}. Otherwise, it is
+     * counted when it is found done by {@link #track()}.
+     * @param future the future to be tracked.
+     */
+    public void addFuture(final Future<?> future) {
+        final TrackedFuture trackedFuture = new TrackedFuture(future);
+
+        submittedCount.increment();
+        pendingState.updateAndGet(PendingState::add);
+        futures.add(trackedFuture);
+
+        if (future instanceof CaughtScheduledTask) {
+            ((CaughtScheduledTask<?>) future).whenDone(doneFuture -> finish(trackedFuture));
+        } else if (future instanceof CompletableFuture) {
+            ((CompletableFuture<?>) future).whenComplete((value, throwable) -> finish(trackedFuture));
+        }
+    }
+
+    /**
+     * @param timeoutExecutorResult the result of a timeout of the futures of this result.
+     */
+    public void addTimeoutExecutorResult(final ExecutorResult timeoutExecutorResult) {
+        timeoutExecutorResults.add(timeoutExecutorResult);
+    }
+
+    void addOwnedExecutorService(final ExecutorService ownedExecutorService) {
+        ownedExecutorServices.add(ownedExecutorService);
+
+        if (ownedExecutorServicesCount.incrementAndGet() > pruneThreshold.get()) {
+            pruneOwnedExecutorServices();
+        }
+    }
+
+    int getOwnedExecutorServiceCount() {
+        return ownedExecutorServices.size();
+    }
+
+    boolean isFinished() {
+        pruneOwnedExecutorServices();
+
+        return getPendingCount() == 0 && ownedExecutorServices.stream().allMatch(ExecutorService::isTerminated);
+    }
+
+    /**
+     * Removes the terminated owned executors, as there is nothing left to finish on them. The executors added while
+     * another thread is pruning are left to the next pruning.
+     */
+    private void pruneOwnedExecutorServices() {
+        if (!pruningOwnedExecutorServices.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            for (final Iterator<ExecutorService> iterator = ownedExecutorServices.iterator(); iterator.hasNext();) {
+                if (iterator.next().isTerminated()) {
+                    iterator.remove();
+                    ownedExecutorServicesCount.decrementAndGet();
+                }
+            }
+
+            pruneThreshold.set(Math.max(MINIMUM_PRUNE_THRESHOLD, 2 * ownedExecutorServicesCount.get()));
+        } finally {
+            pruningOwnedExecutorServices.set(false);
+        }
+    }
+
+    /**
+     * Shuts this result down within the timeout. The executors owned by this result stop accepting new executions and
+     * the repeating futures are cancelled, while the other futures are waited. The futures not done when the timeout
+     * elapses are cancelled, interrupting their threads, and the owned executors are halted.
+     * @param timeout the maximum time to drain the futures.
+     * @return the counts of the futures of this result after the shutdown.
+     * @see java.util.concurrent.ExecutorService#shutdown()
+     * @see java.util.concurrent.ExecutorService#shutdownNow()
+     */
+    public ShutdownReport shutdown(final Duration timeout) {
+        Objects.requireNonNull(timeout, "The {timeout} parameter is required");
+
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        ShutdownRegistry.unregister(this);
+        beginShutdown();
+
+        return finishShutdown(awaitDrain(deadline));
+    }
+
+    /**
+     * Shuts this result down within the {@link #DEFAULT_SHUTDOWN_TIMEOUT}.
+     * @see #shutdown(Duration)
+     */
+    @Override
+    public void close() {
+        shutdown(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    void beginShutdown() {
+        ownedExecutorServices.forEach(ExecutorService::shutdown);
+
+        for (final TrackedFuture trackedFuture : futures) {
+            if (isPeriodic(trackedFuture.future)) {
+                trackedFuture.future.cancel(false);
+            }
+        }
+    }
+
+    private static boolean isPeriodic(final Future<?> future) {
+        if (future instanceof RunnableScheduledFuture) {
+            return ((RunnableScheduledFuture<?>) future).isPeriodic();
+        }
+
+        return future instanceof ChainedExecution.ChainedFuture
+                && ((ChainedExecution.ChainedFuture) future).isPeriodic();
+    }
+
+    boolean awaitDrain(final long deadline) {
+        try {
+            track().pendingState.get().allDone.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+            for (final ExecutorService ownedExecutorService : ownedExecutorServices) {
+                if (!ownedExecutorService.awaitTermination(Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            }
+
+            return true;
+        } catch (final TimeoutException | ExecutionException e) {
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    ShutdownReport finishShutdown(final boolean drained) {
+        if (!drained) {
+            futures.forEach(trackedFuture -> trackedFuture.future.cancel(true));
+            ownedExecutorServices.forEach(ExecutorService::shutdownNow);
+        }
+
+        track();
+
+        return new ShutdownReport(getCompletedCount(), getFailedCount(), getCancelledCount(), getPendingCount(),
+                drained);
+    }
+
+    /**
+     * Counts the futures found done which could not notify their completion.
+     * @return this result.
+     */
+    public ExecutorResult track() {
+        for (final TrackedFuture trackedFuture : futures) {
+            if (trackedFuture.future.isDone()) {
+                finish(trackedFuture);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Every call returns a new view, so completing or cancelling it does not affect this result nor the other views.
+     * @return a future completed when every future added up to now is done.
+     */
+    public CompletableFuture<Void> allDone() {
+        return pendingState.get().allDone.thenApply(Function.identity());
+    }
+
+    /**
+     * Every call returns a new view, so completing or cancelling it does not affect this result nor the other views.
+     * @return a future completed with the first future found done.
+     */
+    public CompletableFuture<Future<?>> anyDone() {
+        return anyDone.thenApply(Function.identity());
+    }
+
+    /**
+     * @param action the action to run when every future added up to now is done.
+     */
+    void whenAllDone(final Runnable action) {
+        pendingState.get().allDone.thenRun(action);
+    }
+
+    /**
+     * @return the number of added futures.
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * @return the number of futures not done yet.
+     */
+    public long getPendingCount() {
+        return pendingState.get().count;
+    }
+
+    /**
+     * @return the number of futures done normally.
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * @return the number of futures done by an exception.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * @return the number of cancelled futures.
+     */
+    public long getCancelledCount() {
+        return cancelledCount.sum();
+    }
+
+    /**
+     * @return the tick metrics of the futures with interval or cron schedule.
+     */
+    public IntervalMetrics getIntervalMetrics() {
+        return getOrCreate(intervalMetrics, IntervalMetrics::new);
+    }
+
+    /**
+     * @return the attempt metrics of the futures with a retry policy.
+     */
+    public RetryMetrics getRetryMetrics() {
+        return getOrCreate(retryMetrics, RetryMetrics::new);
+    }
+
+    /**
+     * The metrics are created on the first use, so the results of the timeouts and of the executions without interval
+     * or retry policy do not allocate them.
+     */
+    private static <T> T getOrCreate(final AtomicReference<T> reference, final Supplier<T> factory) {
+        final T current = reference.get();
+
+        if (current != null) {
+            return current;
+        }
+
+        reference.compareAndSet(null, factory.get());
+
+        return reference.get();
+    }
+
+    private void finish(final TrackedFuture trackedFuture) {
+        if (!trackedFuture.compareAndSet(false, true)) {
+            return;
+        }
+
+        count(trackedFuture.future);
+        anyDone.complete(trackedFuture.future);
+
+        final PendingState state = pendingState.updateAndGet(PendingState::finish);
+
+        if (state.count == 0) {
+            state.allDone.complete(null);
+        }
+
+        if (finishedFuturesCount.incrementAndGet() > 2L * finishedFuturesRetention) {
+            releaseFinishedFutures();
+        }
+    }
+
+    private void count(final Future<?> future) {
+        if (future.isCancelled()) {
+            cancelledCount.increment();
+        } else {
+            try {
+                future.get();
+                completedCount.increment();
+            } catch (final ExecutionException e) {
+                failedCount.increment();
+            } catch (final CancellationException e) {
+                cancelledCount.increment();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completedCount.increment();
+            }
+        }
+    }
+
+    private void releaseFinishedFutures() {
+        //The futures finished while another thread was releasing are released by that thread in the next pass.
+        while (finishedFuturesCount.get() > 2L * finishedFuturesRetention
+                && releasingFinishedFutures.compareAndSet(false, true)) {
+            try {
+                final Iterator<TrackedFuture> iterator = futures.iterator();
+
+                while (finishedFuturesCount.get() > finishedFuturesRetention && iterator.hasNext()) {
+                    if (iterator.next().get()) {
+                        iterator.remove();
+                        finishedFuturesCount.decrementAndGet();
+                    }
+                }
+
+                releaseFinishedTimeoutExecutorResults();
+            } finally {
+                releasingFinishedFutures.set(false);
+            }
+        }
+    }
+
+    private void releaseFinishedTimeoutExecutorResults() {
+        long finishedTimeoutExecutorResults = timeoutExecutorResults.stream()
+                .filter(timeoutExecutorResult -> timeoutExecutorResult.getPendingCount() == 0)
+                .count();
+        final Iterator<ExecutorResult> iterator = timeoutExecutorResults.iterator();
+
+        while (finishedTimeoutExecutorResults > finishedFuturesRetention && iterator.hasNext()) {
+            if (iterator.next().getPendingCount() == 0) {
+                iterator.remove();
+                finishedTimeoutExecutorResults--;
+            }
+        }
+    }
+
+    /**
+     * Number of pending futures together with the future completed when they are done, which are swapped as a single
+     * value, so a future added while the last pending one finishes is never covered by an already completed
+     * {@link #allDone()}.
+     */
+    private static final class PendingState {
+        private static final PendingState IDLE = new PendingState(0, CompletableFuture.completedFuture(null));
+
+        private final long count;
+        private final CompletableFuture<Void> allDone;
+
+        private PendingState(final long count, final CompletableFuture<Void> allDone) {
+            this.count = count;
+            this.allDone = allDone;
+        }
+
+        private PendingState add() {
+            return new PendingState(count + 1, count == 0 ? new CompletableFuture<>() : allDone);
+        }
+
+        private PendingState finish() {
+            return new PendingState(count - 1, allDone);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class TrackedFuture extends AtomicBoolean {
+        private final Future<?> future;
+
+        private TrackedFuture(final Future<?> future) {
+            this.future = future;
+        }
     }
 }
@@ -0,0 +1,406 @@
+package thread;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timer driven by a single ticker thread that keeps its timeouts in a hashed wheel of buckets.
+ * <p>
+ * Adding and cancelling a timeout costs O(1): both operations only enqueue the timeout, and the ticker moves it into
+ * (or out of) its bucket on the next tick. On every tick only the current bucket is expired, so a timeout fires up to
+ * one tick duration after its delay. The tick duration is therefore the timer resolution.
+ * </p>
+ * <p>
+ * The tasks of the expired timeouts are run by the ticker thread and must be short. Long works should be handed off to
+ * another executor.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * final HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS); //10 milliseconds of resolution.
+ * final HashedWheelTimer.Timeout timeout = timer.newTimeout(anyRunnable, 4, TimeUnit.SECONDS);
+ *
+ * timeout.cancel(); //The runnable will not be called.
+ * timer.close();
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class HashedWheelTimer implements AutoCloseable {
+    /**
+     * 10 milliseconds as the default tick duration.
+     */
+    public static final long DEFAULT_TICK_DURATION = 10;
+    /**
+     * 512 buckets as the default wheel size.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+    private static final int MAXIMUM_TICKS_PER_WHEEL = 1 << 30;
+    private static final int MAXIMUM_TRANSFERS_PER_TICK = 100_000;
+    private static final int STATE_STARTED = 0;
+    private static final int STATE_STOPPED = 1;
+    private static final AtomicInteger TIMER_COUNTER = new AtomicInteger();
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Timeout> addedTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_STARTED);
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final CountDownLatch stopLatch = new CountDownLatch(1);
+    private final Thread ticker;
+    private long tick;
+
+    /**
+     * Creates a timer with the default tick duration ({@link #DEFAULT_TICK_DURATION} milliseconds).
+     */
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param tickDuration the timer resolution.
+     * @param unit the time unit of the tick duration.
+     */
+    public HashedWheelTimer(final long tickDuration, final TimeUnit unit) {
+        this(tickDuration, unit, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * @param tickDuration the timer resolution.
+     * @param unit the time unit of the tick duration.
+     * @param ticksPerWheel the number of buckets of the wheel. It is rounded up to a power of two.
+     */
+    public HashedWheelTimer(final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("The {tickDuration} parameter must be greater than zero");
+        }
+
+        if (ticksPerWheel <= 0 || ticksPerWheel > MAXIMUM_TICKS_PER_WHEEL) {
+            throw new IllegalArgumentException("The {ticksPerWheel} parameter must be between 1 and 2^30");
+        }
+
+        this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.wheel = createWheel(ticksPerWheel);
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+        this.ticker = new Thread(this::runTicker, "hashed-wheel-timer-" + TIMER_COUNTER.incrementAndGet());
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    private static Bucket[] createWheel(final int ticksPerWheel) {
+        int normalizedTicksPerWheel = 1;
+
+        while (normalizedTicksPerWheel < ticksPerWheel) {
+            normalizedTicksPerWheel <<= 1;
+        }
+
+        final Bucket[] wheel = new Bucket[normalizedTicksPerWheel];
+
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        return wheel;
+    }
+
+    /**
+     * Schedules the task to be run once by the ticker thread after the given delay.
+     * @param task the task to be run when the timeout expires.
+     * @param delay the delay before expiring.
+     * @param unit the time unit of the delay.
+     * @return the timeout handle, which can be cancelled.
+     * @throws IllegalStateException if the timer has been stopped.
+     */
+    public Timeout newTimeout(final Runnable task, final long delay, final TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("The {task} parameter is required");
+        }
+
+        if (isStopped()) {
+            throw new IllegalStateException("The timer has been stopped");
+        }
+
+        long deadline = System.nanoTime() - startTime + unit.toNanos(delay);
+
+        //A delay long enough to overflow the deadline never expires, rather than expiring at the next tick.
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+
+        final Timeout timeout = new Timeout(this, task, deadline);
+
+        pendingTimeouts.incrementAndGet();
+        addedTimeouts.add(timeout);
+
+        return timeout;
+    }
+
+    /**
+     * @param unit the time unit of the result.
+     * @return the timer resolution.
+     */
+    public long getTickDuration(final TimeUnit unit) {
+        return unit.convert(tickDuration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of timeouts neither expired nor cancelled.
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * @return true if the timer has been stopped.
+     */
+    public boolean isStopped() {
+        return state.get() == STATE_STOPPED;
+    }
+
+    /**
+     * Stops the ticker thread. The pending timeouts will never expire.
+     */
+    public void stop() {
+        if (state.compareAndSet(STATE_STARTED, STATE_STOPPED)) {
+            ticker.interrupt();
+        }
+
+        if (Thread.currentThread() != ticker) {
+            boolean interrupted = false;
+
+            while (stopLatch.getCount() > 0) {
+                try {
+                    stopLatch.await();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @see #stop()
+     */
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void runTicker() {
+        try {
+            while (!isStopped()) {
+                final long deadline = waitForNextTick();
+
+                if (deadline > 0) {
+                    final Bucket bucket = wheel[(int) (tick & mask)];
+
+                    removeCancelledTimeouts();
+                    transferAddedTimeouts();
+                    bucket.expireTimeouts();
+                    tick++;
+                }
+            }
+        } finally {
+            stopLatch.countDown();
+        }
+    }
+
+    private long waitForNextTick() {
+        final long deadline = tickDuration * (tick + 1);
+
+        while (true) {
+            final long currentTime = System.nanoTime() - startTime;
+            final long sleepTimeMillis = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999_999);
+
+            if (sleepTimeMillis <= 0) {
+                return currentTime;
+            }
+
+            try {
+                Thread.sleep(sleepTimeMillis);
+            } catch (final InterruptedException e) {
+                if (isStopped()) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferAddedTimeouts() {
+        for (int i = 0; i < MAXIMUM_TRANSFERS_PER_TICK; i++) {
+            final Timeout timeout = addedTimeouts.poll();
+
+            if (timeout == null) {
+                break;
+            }
+
+            if (timeout.state.get() == Timeout.STATE_INIT) {
+                final long calculated = timeout.deadline / tickDuration;
+                final long ticks = Math.max(calculated, tick);
+
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Handle of a task scheduled by {@link HashedWheelTimer#newTimeout(Runnable, long, TimeUnit)}.
+     */
+    public static final class Timeout {
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout previous;
+
+        private Timeout(final HashedWheelTimer timer, final Runnable task, final long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return the timer which created this timeout.
+         */
+        public HashedWheelTimer getTimer() {
+            return timer;
+        }
+
+        /**
+         * Cancels the timeout, so its task will not be run.
+         * @return true if the timeout was cancelled and false if it had already expired or been cancelled.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+
+            timer.pendingTimeouts.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+
+            return true;
+        }
+
+        /**
+         * @return true if the timeout was cancelled.
+         */
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        /**
+         * @return true if the timeout task has been run.
+         */
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                timer.pendingTimeouts.decrementAndGet();
+
+                try {
+                    task.run();
+                } catch (final Throwable e) {
+                    final Thread thread = Thread.currentThread();
+
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(final Timeout timeout) {
+            timeout.bucket = this;
+
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts() {
+            Timeout timeout = head;
+
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+
+                timeout = next;
+            }
+        }
+
+        private void remove(final Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            }
+
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+
+            if (timeout == head) {
+                head = timeout.next;
+            }
+
+            if (timeout == tail) {
+                tail = timeout.previous;
+            }
+
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
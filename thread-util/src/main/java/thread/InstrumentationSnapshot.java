@@ -0,0 +1,151 @@
+package thread;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable view of an {@link thread.ExecutorInstrumentation} at a given time. The latencies are in nanoseconds.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ExecutorInstrumentation#snapshot()
+ */
+public class InstrumentationSnapshot {
+    private final long timestamp;
+    private final int queueDepth;
+    private final int poolSize;
+    private final int activeThreads;
+    private final long runningTasks;
+    private final long rejectedCount;
+    private final List<TaskSnapshot> tasks;
+
+    InstrumentationSnapshot(final int queueDepth, final int poolSize, final int activeThreads,
+            final long runningTasks, final long rejectedCount, final List<TaskSnapshot> tasks) {
+        this.timestamp = System.currentTimeMillis();
+        this.queueDepth = queueDepth;
+        this.poolSize = poolSize;
+        this.activeThreads = activeThreads;
+        this.runningTasks = runningTasks;
+        this.rejectedCount = rejectedCount;
+        this.tasks = Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * @return the time of this snapshot, in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+
+    public long getRunningTasks() {
+        return runningTasks;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<TaskSnapshot> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Latencies of the tasks of the same name.
+     */
+    public static class TaskSnapshot {
+        private final String name;
+        private final LatencySnapshot queueWait;
+        private final LatencySnapshot runTime;
+        private final LatencySnapshot schedulingLag;
+
+        TaskSnapshot(final String name, final ExecutorInstrumentation.TaskMetrics metrics) {
+            this.name = name;
+            this.queueWait = new LatencySnapshot(metrics.getQueueWait());
+            this.runTime = new LatencySnapshot(metrics.getRunTime());
+            this.schedulingLag = new LatencySnapshot(metrics.getSchedulingLag());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the time between the due time and the start of the one-shot executions.
+         */
+        public LatencySnapshot getQueueWait() {
+            return queueWait;
+        }
+
+        /**
+         * @return the duration of the executions.
+         */
+        public LatencySnapshot getRunTime() {
+            return runTime;
+        }
+
+        /**
+         * @return the time between the planned time and the start of the periodic executions.
+         */
+        public LatencySnapshot getSchedulingLag() {
+            return schedulingLag;
+        }
+    }
+
+    /**
+     * Summary of a {@link thread.LatencyHistogram}, in nanoseconds.
+     */
+    public static class LatencySnapshot {
+        private final long count;
+        private final long mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long maximum;
+
+        LatencySnapshot(final LatencyHistogram histogram) {
+            this.count = histogram.getCount();
+            this.mean = histogram.getMean(TimeUnit.NANOSECONDS);
+            this.p50 = histogram.getValueAtPercentile(50, TimeUnit.NANOSECONDS);
+            this.p90 = histogram.getValueAtPercentile(90, TimeUnit.NANOSECONDS);
+            this.p99 = histogram.getValueAtPercentile(99, TimeUnit.NANOSECONDS);
+            this.maximum = histogram.getMaximum(TimeUnit.NANOSECONDS);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMaximum() {
+            return maximum;
+        }
+    }
+}
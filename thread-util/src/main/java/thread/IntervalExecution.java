@@ -0,0 +1,50 @@
+package thread;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution of a thread with interval in the {@link thread.IntervalMode#FIXED_RATE} or
+ * {@link thread.IntervalMode#FIXED_DELAY} mode which records its {@link thread.IntervalMetrics}. The executions of a
+ * periodic task never overlap, so the tick state is only touched by one thread at a time.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.AdaptiveExecution
+ */
+class IntervalExecution implements Runnable {
+    private final Runnable execution;
+    private final IntervalMode mode;
+    private final long periodNanos;
+    private final IntervalMetrics metrics;
+    private long plannedTime;
+
+    IntervalExecution(final Runnable execution, final IntervalMode mode, final long initialDelay, final long period,
+            final TimeUnit unit, final IntervalMetrics metrics) {
+        this.execution = execution;
+        this.mode = mode;
+        this.periodNanos = unit.toNanos(period);
+        this.metrics = metrics;
+        this.plannedTime = System.nanoTime() + unit.toNanos(initialDelay);
+    }
+
+    @Override
+    public void run() {
+        final long startTime = System.nanoTime();
+
+        metrics.recordExecuted(Math.max(startTime - plannedTime, 0));
+
+        try {
+            execution.run();
+        } finally {
+            plan(System.nanoTime());
+        }
+    }
+
+    private void plan(final long endTime) {
+        if (mode == IntervalMode.FIXED_DELAY) {
+            plannedTime = endTime + periodNanos;
+        } else {
+            plannedTime += periodNanos;
+        }
+    }
+}
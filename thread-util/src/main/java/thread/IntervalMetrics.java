@@ -0,0 +1,70 @@
+package thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the ticks of the threads with interval.
+ * <p>
+ * A tick is counted as late when its execution starts more than {@link #LATE_TICK_TOLERANCE} milliseconds after the
+ * time planned by its {@link thread.IntervalMode}. A tick is counted as skipped when the
+ * {@link thread.IntervalMode#ADAPTIVE} mode does not perform its execution.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ExecutorResult#getIntervalMetrics()
+ */
+public class IntervalMetrics {
+    /**
+     * 1 millisecond as the tolerance before a tick is counted as late.
+     */
+    public static final long LATE_TICK_TOLERANCE = 1;
+
+    private final LongAdder executedTicks = new LongAdder();
+    private final LongAdder skippedTicks = new LongAdder();
+    private final LongAdder lateTicks = new LongAdder();
+    private final LongAdder lateness = new LongAdder();
+
+    /**
+     * @return the number of ticks whose execution was performed.
+     */
+    public long getExecutedTicks() {
+        return executedTicks.sum();
+    }
+
+    /**
+     * @return the number of ticks whose execution was skipped.
+     */
+    public long getSkippedTicks() {
+        return skippedTicks.sum();
+    }
+
+    /**
+     * @return the number of executed ticks which started late.
+     */
+    public long getLateTicks() {
+        return lateTicks.sum();
+    }
+
+    /**
+     * @param unit the time unit of the result.
+     * @return the sum of the delays of the late ticks.
+     */
+    public long getTotalLateness(final TimeUnit unit) {
+        return unit.convert(lateness.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    void recordExecuted(final long latenessNanos) {
+        executedTicks.increment();
+
+        if (latenessNanos > TimeUnit.MILLISECONDS.toNanos(LATE_TICK_TOLERANCE)) {
+            lateTicks.increment();
+            lateness.add(latenessNanos);
+        }
+    }
+
+    void recordSkipped(final long ticks) {
+        skippedTicks.add(ticks);
+    }
+}
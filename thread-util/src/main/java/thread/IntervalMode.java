@@ -0,0 +1,31 @@
+package thread;
+
+/**
+ * How the executions of a thread with interval are repeated.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ThreadBuilder#setIntervalMode(IntervalMode)
+ */
+public enum IntervalMode {
+    /**
+     * Each execution starts one interval after the previous start. When an execution takes longer than the interval,
+     * the late executions start back-to-back until the schedule is caught up.
+     * @see java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long,
+     * java.util.concurrent.TimeUnit)
+     */
+    FIXED_RATE,
+    /**
+     * Each execution starts one interval after the previous end, so the executions never pile up.
+     * @see java.util.concurrent.ScheduledExecutorService#scheduleWithFixedDelay(Runnable, long, long,
+     * java.util.concurrent.TimeUnit)
+     */
+    FIXED_DELAY,
+    /**
+     * The executions are kept on the fixed-rate ticks, but the missed ticks are skipped instead of being caught up, and
+     * the interval is stretched to the smallest multiple of itself which is longer than the observed execution time.
+     * Every execution is scheduled alone at the next tick to be taken, so the skipped ticks never run and never call
+     * the after-execute consumers.
+     */
+    ADAPTIVE
+}
@@ -0,0 +1,114 @@
+package thread;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the engines with dedicated threads, one engine per group name, for the latency-critical builders.
+ * <p>
+ * The threads of a group engine are started when the group is created and never shared with other groups nor handed
+ * off to virtual threads, so the executions of a group are not queued behind the executions of other builders. They
+ * are daemon platform threads with the maximum priority, named {@code pin-<group>-<number>}, so they can be bound to
+ * dedicated CPUs by the operating system tools (e.g. {@code taskset} over the threads listed by name in
+ * {@code /proc/<pid>/task}). Linux truncates the thread names to 15 characters, so short group names are advised.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * ThreadBuilder
+ *          .newBuilder(PinningGroup.getEngine("quotes")) //The thread will run in the quotes dedicated threads.
+ *          .setInterval(1)
+ *          .setExecution(anyRunnable)
+ *          .start();
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.SchedulerEngine
+ */
+public final class PinningGroup {
+    /**
+     * The prefix of the names of the group threads.
+     */
+    public static final String THREAD_NAME_PREFIX = "pin";
+    private static final ConcurrentMap<String, SchedulerEngine> ENGINES = new ConcurrentHashMap<>();
+
+    private PinningGroup() {}
+
+    /**
+     * @param group the group name.
+     * @return the engine of the group, created with one dedicated thread if the group does not exist yet.
+     * @see #getEngine(String, int)
+     */
+    public static SchedulerEngine getEngine(final String group) {
+        return getEngine(group, 1);
+    }
+
+    /**
+     * Returns the engine of the group, which is created if the group does not exist yet or if its engine has been
+     * shut down.
+     * @param group the group name.
+     * @param threads the number of dedicated threads. It is used only when the group engine is created.
+     * @return the engine of the group.
+     */
+    public static SchedulerEngine getEngine(final String group, final int threads) {
+        Objects.requireNonNull(group, "The {group} parameter is required");
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("The {threads} parameter must be greater than zero");
+        }
+
+        return ENGINES.compute(group, (key, engine) ->
+                engine == null || engine.isShutdown() ? newEngine(key, threads) : engine);
+    }
+
+    /**
+     * @return the names of the existing groups.
+     */
+    public static Set<String> getGroups() {
+        return Collections.unmodifiableSet(new HashSet<>(ENGINES.keySet()));
+    }
+
+    /**
+     * Removes the group and shuts its engine down.
+     * @param group the group name.
+     * @return true if the group existed.
+     * @see thread.SchedulerEngine#shutdown()
+     */
+    public static boolean shutdown(final String group) {
+        Objects.requireNonNull(group, "The {group} parameter is required");
+
+        final Optional<SchedulerEngine> engine = Optional.ofNullable(ENGINES.remove(group));
+
+        engine.ifPresent(SchedulerEngine::shutdown);
+
+        return engine.isPresent();
+    }
+
+    /**
+     * Removes every group and shuts their engines down.
+     */
+    public static void shutdownAll() {
+        ENGINES.keySet().forEach(PinningGroup::shutdown);
+    }
+
+    private static SchedulerEngine newEngine(final String group, final int threads) {
+        final SchedulerEngine engine = SchedulerEngine.newEngine(threads, HashedWheelTimer.DEFAULT_TICK_DURATION,
+                CaughtExecutorThreadFactory
+                        .newBuilder()
+                        .setNamePrefix(THREAD_NAME_PREFIX + "-" + group)
+                        .setDaemon(true)
+                        .setPriority(Thread.MAX_PRIORITY)
+                        .build());
+
+        engine.getExecutor().prestartAllCoreThreads();
+
+        return engine;
+    }
+}
@@ -0,0 +1,80 @@
+package thread;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Execution of a thread with a {@link thread.RetryPolicy}. Every attempt is a task of the same executor, and a failed
+ * attempt schedules the next one from its after-execute consumer, so no thread waits for the backoffs. The returned
+ * future is done by the last attempt.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+class RetryExecution extends ChainedExecution {
+    private final RetryPolicy policy;
+    private final RetryMetrics metrics;
+    private int attempts;
+    private long plannedTime;
+
+    RetryExecution(final ScheduledCaughtExecutorService executor, final Runnable execution, final String name,
+            final RetryPolicy policy, final BiConsumer<Runnable, Throwable> afterExecuteConsumer,
+            final RetryMetrics metrics, final boolean mayInterruptIfRunning) {
+        super(executor, execution, name, afterExecuteConsumer, mayInterruptIfRunning, false);
+        this.policy = policy;
+        this.metrics = metrics;
+    }
+
+    CompletableFuture<Void> start(final long delay, final TimeUnit unit) {
+        final long delayNanos = unit.toNanos(delay);
+
+        plannedTime = System.nanoTime() + delayNanos;
+        schedule(null, delayNanos);
+
+        return result;
+    }
+
+    @Override
+    void afterRun(final Runnable runnable, final Throwable throwable) {
+        final Future<?> future = (Future<?>) runnable;
+        final Throwable failure = failureOf(future);
+
+        attempts++;
+        metrics.recordAttempt();
+
+        if (failure != null && attempts < policy.getMaxAttempts() && policy.isRetryable(failure)
+                && !result.isDone()) {
+            final long backoff = policy.nextBackoff(attempts);
+
+            try {
+                schedule(future, backoff);
+                metrics.recordRetry(backoff);
+                return;
+            } catch (final RejectedExecutionException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        try {
+            afterExecuteConsumer.accept(runnable, throwable);
+        } finally {
+            finish(future, failure);
+        }
+    }
+
+    private void finish(final Future<?> future, final Throwable failure) {
+        metrics.recordFinished(System.nanoTime() - plannedTime, failure == null && attempts > 1,
+                failure != null && attempts >= policy.getMaxAttempts() && policy.isRetryable(failure));
+
+        if (future.isCancelled()) {
+            result.cancel(false);
+        } else if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(null);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the executions with a {@link thread.RetryPolicy}.
+ * <p>
+ * The latency of an execution is the time from the planned start of its first attempt to the end of its last one,
+ * including the backoffs between them.
+ * </p>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ExecutorResult#getRetryMetrics()
+ */
+public class RetryMetrics {
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recoveredCount = new LongAdder();
+    private final LongAdder exhaustedCount = new LongAdder();
+    private final LongAdder backoff = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * @return the number of performed attempts, including the first ones.
+     */
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * @return the number of scheduled retries.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return the number of executions done normally after at least one retry.
+     */
+    public long getRecoveredCount() {
+        return recoveredCount.sum();
+    }
+
+    /**
+     * @return the number of executions failed by a retryable exception at their last allowed attempt.
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+
+    /**
+     * @param unit the time unit of the result.
+     * @return the sum of the backoffs of the scheduled retries.
+     */
+    public long getTotalBackoff(final TimeUnit unit) {
+        return unit.convert(backoff.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the latencies of the finished executions, including their retries.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    void recordAttempt() {
+        attempts.increment();
+    }
+
+    void recordRetry(final long backoffNanos) {
+        retries.increment();
+        backoff.add(backoffNanos);
+    }
+
+    void recordFinished(final long latencyNanos, final boolean recovered, final boolean exhausted) {
+        latency.record(latencyNanos);
+
+        if (recovered) {
+            recoveredCount.increment();
+        } else if (exhausted) {
+            exhaustedCount.increment();
+        }
+    }
+}
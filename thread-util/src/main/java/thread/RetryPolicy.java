@@ -0,0 +1,197 @@
+package thread;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Retry policy of the executions started by a {@link thread.ThreadBuilder}.
+ * <p>
+ * An execution which fails by a retryable exception is scheduled again on the same executor, up to the maximum number
+ * of attempts. The backoff before every retry has full jitter: it is a random time between zero and the exponential
+ * ceiling, which is the initial backoff multiplied by the multiplier for every previous retry, limited by the maximum
+ * backoff. So many executions failing together do not retry in lockstep.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * final RetryPolicy retryPolicy = RetryPolicy
+ *          .newBuilder()
+ *          .setMaxAttempts(5) //The execution will be performed up to five times.
+ *          .setBackoff(Duration.ofMillis(100), Duration.ofSeconds(5)) //Backoff ceilings: 100ms, 200ms, 400ms...
+ *          .setRetryOn(throwable -&gt; throwable instanceof IOException)
+ *          .build();
+ *
+ * ThreadBuilder
+ *          .newBuilder()
+ *          .setRetryPolicy(retryPolicy)
+ *          .setExecution(anyRunnable)
+ *          .start();
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ThreadBuilder#setRetryPolicy(RetryPolicy)
+ */
+public class RetryPolicy {
+    /**
+     * 3 attempts as the default maximum number of attempts of an execution.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    /**
+     * 100 milliseconds as the default backoff ceiling of the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    /**
+     * 10 seconds as the default maximum backoff ceiling.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(10);
+    /**
+     * 2 as the default growth of the backoff ceiling for every retry.
+     */
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final double multiplier;
+    private final Predicate<Throwable> retryOn;
+
+    private RetryPolicy(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff.toNanos();
+        this.maxBackoff = builder.maxBackoff.toNanos();
+        this.multiplier = builder.multiplier;
+        this.retryOn = builder.retryOn;
+    }
+
+    /**
+     * @return a new object to configure a retry policy.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of attempts of an execution, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return the backoff ceiling of the first retry.
+     */
+    public Duration getInitialBackoff() {
+        return Duration.ofNanos(initialBackoff);
+    }
+
+    /**
+     * @return the maximum backoff ceiling.
+     */
+    public Duration getMaxBackoff() {
+        return Duration.ofNanos(maxBackoff);
+    }
+
+    /**
+     * @return the growth of the backoff ceiling for every retry.
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    boolean isRetryable(final Throwable throwable) {
+        return retryOn.test(throwable);
+    }
+
+    /**
+     * @param retry the number of the retry, starting at one.
+     * @return a random backoff, in nanoseconds, between zero and the ceiling of the retry.
+     */
+    long nextBackoff(final int retry) {
+        final double ceiling = Math.min(maxBackoff, initialBackoff * Math.pow(multiplier, retry - 1));
+
+        return ceiling < 1 ? 0 : ThreadLocalRandom.current().nextLong((long) ceiling + 1);
+    }
+
+    /**
+     * Configuration of a {@link RetryPolicy}. By default, every {@link Exception} is retried up to the
+     * {@link RetryPolicy#DEFAULT_MAX_ATTEMPTS}, while an {@link Error} is never retried.
+     */
+    public static class Builder {
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+        private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private Predicate<Throwable> retryOn = throwable -> throwable instanceof Exception;
+
+        private Builder() {}
+
+        /**
+         * @param maxAttempts the maximum number of attempts of an execution, including the first one.
+         * @return the current retry policy builder.
+         */
+        public Builder setMaxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("The {maxAttempts} parameter must be greater than zero");
+            }
+
+            this.maxAttempts = maxAttempts;
+
+            return this;
+        }
+
+        /**
+         * @param initialBackoff the backoff ceiling of the first retry.
+         * @param maxBackoff the maximum backoff ceiling.
+         * @return the current retry policy builder.
+         */
+        public Builder setBackoff(final Duration initialBackoff, final Duration maxBackoff) {
+            Objects.requireNonNull(initialBackoff, "The {initialBackoff} parameter is required");
+            Objects.requireNonNull(maxBackoff, "The {maxBackoff} parameter is required");
+
+            if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException(
+                        "The {maxBackoff} parameter must not be less than the non-negative {initialBackoff} parameter");
+            }
+
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+
+            return this;
+        }
+
+        /**
+         * @param multiplier the growth of the backoff ceiling for every retry.
+         * @return the current retry policy builder.
+         */
+        public Builder setMultiplier(final double multiplier) {
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("The {multiplier} parameter must not be less than one");
+            }
+
+            this.multiplier = multiplier;
+
+            return this;
+        }
+
+        /**
+         * @param retryOn the predicate of the exceptions thrown by the execution which should be retried.
+         * @return the current retry policy builder.
+         */
+        public Builder setRetryOn(final Predicate<Throwable> retryOn) {
+            this.retryOn = Objects.requireNonNull(retryOn, "The {retryOn} parameter is required");
+
+            return this;
+        }
+
+        /**
+         * @return a new retry policy with the current configuration.
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -1,25 +1,70 @@
 package thread;
 
-import java.util.LinkedList;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
+ * Scheduled executor which calls after-execute consumers, either for every task or for a single task.
+ * <p>
+ * When a hand-off executor is given, the threads of this executor only wait for the due time of the tasks and then
+ * hand every execution off to the hand-off executor (e.g. a virtual thread per task). The periodic tasks are still
+ * rescheduled only after their execution, so the delay, interval and timeout semantics are kept. The one-shot tasks
+ * without delay are handed off as soon as they are submitted, without passing through the delayed queue, which is a
+ * contention point when many threads submit at once.
+ * </p>
+ * <p>
+ * The queue of the inherited executor is unbounded. A bounded executor (see
+ * {@link #ScheduledCaughtExecutorService(int, ThreadFactory, int, BackpressurePolicy, Duration)}) counts every task
+ * submitted and not done yet, one-shot or repeating, against its capacity, and handles the tasks submitted when it is
+ * full by a {@link thread.BackpressurePolicy}.
+ * </p>
+ * 
  * @author Diego Armange Costa
  * @since 2019-11-18 V1.0.0 (JDK 1.8)
  * @see java.util.concurrent.ScheduledThreadPoolExecutor
  */
 public class ScheduledCaughtExecutorService extends ScheduledThreadPoolExecutor {
-    private List<BiConsumer<Runnable, Throwable>> afterExecuteConsumers = new LinkedList<>();
+    /**
+     * 1 second as the default time to wait for room in a bounded queue with the {@link BackpressurePolicy#BLOCK}.
+     */
+    public static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(1);
+
+    private final List<BiConsumer<Runnable, Throwable>> afterExecuteConsumers = new CopyOnWriteArrayList<>();
+    private final ExecutorService handOffExecutor;
+    private final QueueBound queueBound;
+    private final AtomicBoolean purgingCancelledHead = new AtomicBoolean();
+    private volatile ExecutorInstrumentation instrumentation;
     
     /**
      * @see java.util.concurrent.ScheduledThreadPoolExecutor#ScheduledThreadPoolExecutor(int)
      */
     public ScheduledCaughtExecutorService(final int corePoolSize) {
         super(corePoolSize);
+        handOffExecutor = null;
+        queueBound = null;
+        setRejectedExecutionHandler(super.getRejectedExecutionHandler());
     }
     
     /**
@@ -27,6 +72,574 @@ public class ScheduledCaughtExecutorService extends ScheduledThreadPoolExecutor
      */
     public ScheduledCaughtExecutorService(final int corePoolSize, final ThreadFactory threadFactory) {
         super(corePoolSize, threadFactory);
+        handOffExecutor = null;
+        queueBound = null;
+        setRejectedExecutionHandler(super.getRejectedExecutionHandler());
+    }
+    
+    /**
+     * @param corePoolSize the number of threads waiting for the due time of the tasks.
+     * @param threadFactory the factory of the threads waiting for the due time of the tasks.
+     * @param handOffExecutor the executor which performs the executions. It is finished together with this executor.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#ScheduledThreadPoolExecutor(int, ThreadFactory)
+     */
+    public ScheduledCaughtExecutorService(final int corePoolSize, final ThreadFactory threadFactory,
+            final ExecutorService handOffExecutor) {
+        super(corePoolSize, threadFactory);
+        this.handOffExecutor = Objects.requireNonNull(handOffExecutor, "The {handOffExecutor} parameter is required");
+        queueBound = null;
+        setRejectedExecutionHandler(super.getRejectedExecutionHandler());
+    }
+
+    /**
+     * @param corePoolSize the number of threads.
+     * @param threadFactory the factory of the threads.
+     * @param queueCapacity the maximum number of tasks submitted and not done yet.
+     * @param backpressurePolicy what is done with a task submitted when the queue is full.
+     * @see #ScheduledCaughtExecutorService(int, ThreadFactory, int, BackpressurePolicy, Duration)
+     */
+    public ScheduledCaughtExecutorService(final int corePoolSize, final ThreadFactory threadFactory,
+            final int queueCapacity, final BackpressurePolicy backpressurePolicy) {
+        this(corePoolSize, threadFactory, queueCapacity, backpressurePolicy, DEFAULT_BLOCK_TIMEOUT);
+    }
+
+    /**
+     * Creates a bounded executor. The tasks submitted and not done yet, including the repeating ones until they are
+     * cancelled, are counted against the queue capacity.
+     * @param corePoolSize the number of threads.
+     * @param threadFactory the factory of the threads.
+     * @param queueCapacity the maximum number of tasks submitted and not done yet.
+     * @param backpressurePolicy what is done with a task submitted when the queue is full.
+     * @param blockTimeout the maximum time to wait for room with the {@link BackpressurePolicy#BLOCK}.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#ScheduledThreadPoolExecutor(int, ThreadFactory)
+     */
+    public ScheduledCaughtExecutorService(final int corePoolSize, final ThreadFactory threadFactory,
+            final int queueCapacity, final BackpressurePolicy backpressurePolicy, final Duration blockTimeout) {
+        super(corePoolSize, threadFactory);
+        handOffExecutor = null;
+        queueBound = new QueueBound(queueCapacity, backpressurePolicy, blockTimeout);
+        setRejectedExecutionHandler(super.getRejectedExecutionHandler());
+    }
+    
+    /**
+     * Creates an executor which performs every execution in a new virtual thread. If the runtime does not support 
+     * virtual threads (JDK 21+), an executor of platform threads sized to the available processors is created.
+     * @param uncaughtExceptionHandler the handler of the exceptions thrown by the new threads.
+     * @return a new executor.
+     * @see thread.ThreadUtil#isVirtualThreadSupported()
+     */
+    public static ScheduledCaughtExecutorService newVirtualThreadExecutor(
+            final UncaughtExceptionHandler uncaughtExceptionHandler) {
+        if (VirtualThreads.isSupported()) {
+            return new ScheduledCaughtExecutorService(1, new CaughtExecutorThreadFactory(null), 
+                    VirtualThreads.newThreadPerTaskExecutor(
+                            new CaughtExecutorThreadFactory(uncaughtExceptionHandler, true)));
+        } else {
+            return new ScheduledCaughtExecutorService(Runtime.getRuntime().availableProcessors(),
+                    new CaughtExecutorThreadFactory(uncaughtExceptionHandler));
+        }
+    }
+    
+    /**
+     * Creates an executor whose single thread waits for the due time of the tasks and hands them off to a
+     * work-stealing {@link ForkJoinPool}, so the submitting threads do not contend on a shared queue.
+     * @param parallelism the number of threads of the pool which performs the executions.
+     * @param uncaughtExceptionHandler the handler of the exceptions thrown by the pool threads.
+     * @return a new executor.
+     * @see java.util.concurrent.ForkJoinPool#ForkJoinPool(int, ForkJoinPool.ForkJoinWorkerThreadFactory,
+     * UncaughtExceptionHandler, boolean)
+     */
+    public static ScheduledCaughtExecutorService newForkJoinExecutor(final int parallelism,
+            final UncaughtExceptionHandler uncaughtExceptionHandler) {
+        return newForkJoinExecutor(parallelism, new CaughtExecutorThreadFactory(uncaughtExceptionHandler),
+                uncaughtExceptionHandler);
+    }
+
+    static ScheduledCaughtExecutorService newForkJoinExecutor(final int parallelism, final ThreadFactory threadFactory,
+            final UncaughtExceptionHandler uncaughtExceptionHandler) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The {parallelism} parameter must be greater than zero");
+        }
+
+        return new ScheduledCaughtExecutorService(1, threadFactory, new ForkJoinPool(parallelism,
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory, uncaughtExceptionHandler, true));
+    }
+
+    /**
+     * @return true if the executions are handed off to another executor.
+     */
+    public boolean isHandingOff() {
+        return handOffExecutor != null;
+    }
+    
+    ExecutorService getHandOffExecutor() {
+        return handOffExecutor;
+    }
+
+    /**
+     * @return true if the number of tasks submitted and not done yet is bounded.
+     */
+    public boolean isBounded() {
+        return queueBound != null;
+    }
+
+    /**
+     * @return the maximum number of tasks submitted and not done yet, or {@link Integer#MAX_VALUE} if unbounded.
+     */
+    public int getQueueCapacity() {
+        return queueBound == null ? Integer.MAX_VALUE : queueBound.capacity;
+    }
+
+    /**
+     * @return the number of tasks submitted and not done yet if bounded, otherwise the number of queued tasks.
+     */
+    public int getQueuedCount() {
+        return queueBound == null ? getQueue().size() : queueBound.getQueuedCount();
+    }
+
+    /**
+     * @return the highest number of tasks submitted and not done yet at the same time, or zero if unbounded.
+     */
+    public int getQueueHighWaterMark() {
+        return queueBound == null ? 0 : queueBound.highWaterMark.get();
+    }
+
+    /**
+     * @return the number of tasks cancelled by the {@link BackpressurePolicy#DROP_NEWEST} and
+     * {@link BackpressurePolicy#DROP_OLDEST} policies.
+     */
+    public long getDroppedCount() {
+        return queueBound == null ? 0 : queueBound.droppedCount.sum();
+    }
+
+    /**
+     * @return the number of tasks run by the submitting threads with the {@link BackpressurePolicy#CALLER_RUNS}.
+     */
+    public long getCallerRunsCount() {
+        return queueBound == null ? 0 : queueBound.callerRunsCount.sum();
+    }
+
+    /**
+     * Installs the instrumentation which records the latencies of the next executions of this executor, or removes 
+     * it.
+     * @param instrumentation the instrumentation, or null to stop recording.
+     * @see thread.ExecutorInstrumentation
+     */
+    public void setInstrumentation(final ExecutorInstrumentation instrumentation) {
+        if (instrumentation != null) {
+            instrumentation.attach(this);
+        }
+
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * @return the installed instrumentation, or null if none.
+     */
+    public ExecutorInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Names a command, so its executions are recorded under that name by the {@link thread.ExecutorInstrumentation}.
+     * @param name the task name.
+     * @param command the command to be named.
+     * @return the named command.
+     */
+    public static Runnable named(final String name, final Runnable command) {
+        return new NamedCommand(Objects.requireNonNull(name, "The {name} parameter is required"),
+                Objects.requireNonNull(command, "The {command} parameter is required"));
+    }
+
+    /**
+     * Counts the rejections for the {@link thread.ExecutorInstrumentation} before delegating to the handler.
+     * @see java.util.concurrent.ThreadPoolExecutor#setRejectedExecutionHandler(RejectedExecutionHandler)
+     */
+    @Override
+    public void setRejectedExecutionHandler(final RejectedExecutionHandler handler) {
+        Objects.requireNonNull(handler, "The {handler} parameter is required");
+
+        super.setRejectedExecutionHandler(handler instanceof CountingRejectedExecutionHandler
+                ? handler
+                : new CountingRejectedExecutionHandler(handler));
+    }
+
+    /**
+     * @see java.util.concurrent.ThreadPoolExecutor#getRejectedExecutionHandler()
+     */
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        final RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+
+        return handler instanceof CountingRejectedExecutionHandler
+                ? ((CountingRejectedExecutionHandler) handler).handler
+                : handler;
+    }
+
+    void recordRejection() {
+        final ExecutorInstrumentation instrumentation = this.instrumentation;
+
+        if (instrumentation != null) {
+            instrumentation.recordRejection();
+        }
+    }
+
+    /**
+     * Removes the cancelled tasks waiting at the head of the queue. The delayed queue finds a decorated task only by
+     * a linear scan, except at its head, so a cancelled task is removed once it reaches the head, in logarithmic time,
+     * either by a later cancellation or after the execution which uncovered it, and not when it is cancelled. Its
+     * consumers are already released, so until then it only holds its place.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#setRemoveOnCancelPolicy(boolean)
+     */
+    void purgeCancelledHead() {
+        //A task cancelled while another thread was purging is purged by the next pass.
+        while (isCancelledHead(getQueue().peek()) && purgingCancelledHead.compareAndSet(false, true)) {
+            try {
+                Runnable head;
+
+                while (isCancelledHead(head = getQueue().peek()) && remove(head));
+            } finally {
+                purgingCancelledHead.set(false);
+            }
+        }
+    }
+
+    /**
+     * The due tasks are left to the threads taking them, so the purge does not scan the queue for a task just taken.
+     */
+    private static boolean isCancelledHead(final Runnable head) {
+        return head instanceof RunnableScheduledFuture
+                && ((RunnableScheduledFuture<?>) head).isCancelled()
+                && ((RunnableScheduledFuture<?>) head).getDelay(TimeUnit.NANOSECONDS) > 0;
+    }
+
+    /**
+     * Hands the command off as soon as it is submitted if it has no delay and this executor hands the executions off.
+     * If this executor is bounded and full, the command is handled by the backpressure policy.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#schedule(Runnable, long, TimeUnit)
+     */
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        if (queueBound == null) {
+            return scheduleUnbounded(command, delay, unit);
+        }
+
+        return bounded(() -> scheduleUnbounded(command, delay, unit), () -> immediateTask(command), false);
+    }
+
+    private ScheduledFuture<?> scheduleUnbounded(final Runnable command, final long delay, final TimeUnit unit) {
+        if (handOffExecutor == null || delay > 0) {
+            return super.schedule(command, delay, unit);
+        }
+
+        Objects.requireNonNull(command);
+        Objects.requireNonNull(unit);
+
+        return handOffNow(decorateTask(command, new ImmediateTask<Void>(command, null)));
+    }
+
+    /**
+     * Hands the callable off as soon as it is submitted if it has no delay and this executor hands the executions off.
+     * If this executor is bounded and full, the callable is handled by the backpressure policy.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#schedule(Callable, long, TimeUnit)
+     */
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        if (queueBound == null) {
+            return scheduleUnbounded(callable, delay, unit);
+        }
+
+        return bounded(() -> scheduleUnbounded(callable, delay, unit),
+                () -> decorateTask(callable, new ImmediateTask<>(Objects.requireNonNull(callable))), false);
+    }
+
+    /**
+     * If this executor is bounded and full, the command is handled by the backpressure policy.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#scheduleAtFixedRate(Runnable, long, long, TimeUnit)
+     */
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period,
+            final TimeUnit unit) {
+        if (queueBound == null) {
+            return super.scheduleAtFixedRate(command, initialDelay, period, unit);
+        }
+
+        return bounded(() -> super.scheduleAtFixedRate(command, initialDelay, period, unit),
+                () -> immediateTask(command), true);
+    }
+
+    /**
+     * If this executor is bounded and full, the command is handled by the backpressure policy.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#scheduleWithFixedDelay(Runnable, long, long, TimeUnit)
+     */
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay,
+            final TimeUnit unit) {
+        if (queueBound == null) {
+            return super.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        }
+
+        return bounded(() -> super.scheduleWithFixedDelay(command, initialDelay, delay, unit),
+                () -> immediateTask(command), true);
+    }
+
+    private RunnableScheduledFuture<Void> immediateTask(final Runnable command) {
+        return decorateTask(command, new ImmediateTask<Void>(Objects.requireNonNull(command), null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F extends ScheduledFuture<?>> F bounded(final Supplier<F> submission,
+            final Supplier<RunnableScheduledFuture<?>> unqueuedTask, final boolean periodic) {
+        if (isShutdown()) {
+            return withoutQueueSlot(submission.get());
+        }
+
+        if (!queueBound.slots.tryAcquire() && !makeRoom(queueBound)) {
+            return (F) handleBackpressure(queueBound, unqueuedTask, periodic);
+        }
+
+        final F future;
+
+        try {
+            future = submission.get();
+        } catch (final RuntimeException e) {
+            queueBound.slots.release();
+            throw e;
+        }
+
+        queueBound.recordQueued();
+        releaseQueueSlotWhenDone(queueBound, (CaughtScheduledTask<?>) future);
+
+        return future;
+    }
+
+    /**
+     * The tasks of a bounded executor hold a slot from their decoration, before they can run, so a task done before
+     * its submission returns can still hand its slot over to the next task of its chain.
+     */
+    private static <F extends Future<?>> F withoutQueueSlot(final F task) {
+        ((CaughtScheduledTask<?>) task).giveUpQueueSlot();
+
+        return task;
+    }
+
+    private static void releaseQueueSlotWhenDone(final QueueBound queueBound, final CaughtScheduledTask<?> task) {
+        task.whenDoneFirst(doneFuture -> {
+            if (task.giveUpQueueSlot()) {
+                queueBound.slots.release();
+            }
+        });
+    }
+
+    /**
+     * Schedules the next task of a chain from the after-execute consumer of the current one, which is done but still
+     * holds its slot if this executor is bounded. The next task takes the slot over, so a chain never waits for the
+     * slot it holds itself, nor has its next task run by the caller before the delay.
+     * @param current the done task of the chain, or null if there is none.
+     * @see #schedule(Runnable, long, TimeUnit, BiConsumer)
+     */
+    ScheduledFuture<?> scheduleNext(final Future<?> current, final Runnable command, final long delay,
+            final TimeUnit unit, final BiConsumer<Runnable, Throwable> afterExecuteConsumer) {
+        if (queueBound == null || !(current instanceof CaughtScheduledTask) || !current.isDone()
+                || !((CaughtScheduledTask<?>) current).giveUpQueueSlot()) {
+            return schedule(command, delay, unit, afterExecuteConsumer);
+        }
+
+        final ScheduledFuture<?> next;
+
+        try {
+            next = scheduleUnbounded(new ConsumedCommand(command, afterExecuteConsumer), delay, unit);
+        } catch (final RuntimeException e) {
+            queueBound.slots.release();
+            throw e;
+        }
+
+        releaseQueueSlotWhenDone(queueBound, (CaughtScheduledTask<?>) next);
+
+        return next;
+    }
+
+    private boolean makeRoom(final QueueBound queueBound) {
+        switch (queueBound.policy) {
+            case DROP_OLDEST:
+                Runnable oldest;
+
+                while ((oldest = peekOldestOneShot()) != null) {
+                    if (remove(oldest)) {
+                        ((Future<?>) oldest).cancel(false);
+                        queueBound.droppedCount.increment();
+
+                        if (queueBound.slots.tryAcquire()) {
+                            return true;
+                        }
+                    }
+                }
+
+                return false;
+            case BLOCK:
+                try {
+                    return queueBound.slots.tryAcquire(queueBound.blockTimeout, TimeUnit.NANOSECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The repeating tasks are never dropped, so the queue is scanned only if its head is a repeating one.
+     * @return the queued one-shot task with the earliest due time, or null if there is none.
+     */
+    private Runnable peekOldestOneShot() {
+        final Runnable head = getQueue().peek();
+
+        if (head == null || !((RunnableScheduledFuture<?>) head).isPeriodic()) {
+            return head;
+        }
+
+        RunnableScheduledFuture<?> oldest = null;
+
+        for (final Runnable queued : getQueue()) {
+            final RunnableScheduledFuture<?> task = (RunnableScheduledFuture<?>) queued;
+
+            if (!task.isPeriodic() && (oldest == null || task.compareTo(oldest) < 0)) {
+                oldest = task;
+            }
+        }
+
+        return oldest;
+    }
+
+    private ScheduledFuture<?> handleBackpressure(final QueueBound queueBound,
+            final Supplier<RunnableScheduledFuture<?>> unqueuedTask, final boolean periodic) {
+        final RunnableScheduledFuture<?> task = withoutQueueSlot(unqueuedTask.get());
+
+        //A repeating task cannot be run by the submitting thread, so it is dropped instead.
+        final BackpressurePolicy policy = queueBound.policy == BackpressurePolicy.CALLER_RUNS && periodic
+                ? BackpressurePolicy.DROP_NEWEST
+                : queueBound.policy;
+
+        switch (policy) {
+            case CALLER_RUNS:
+                queueBound.callerRunsCount.increment();
+                ((CaughtScheduledTask<?>) task).runAndDispatch();
+                break;
+            case BLOCK:
+                super.getRejectedExecutionHandler().rejectedExecution(task, this);
+                task.cancel(false);
+                break;
+            default:
+                queueBound.droppedCount.increment();
+                task.cancel(false);
+        }
+
+        return task;
+    }
+
+    private <V> ScheduledFuture<V> scheduleUnbounded(final Callable<V> callable, final long delay,
+            final TimeUnit unit) {
+        if (handOffExecutor == null || delay > 0) {
+            return super.schedule(callable, delay, unit);
+        }
+
+        Objects.requireNonNull(callable);
+        Objects.requireNonNull(unit);
+
+        return handOffNow(decorateTask(callable, new ImmediateTask<>(callable)));
+    }
+
+    private <V> RunnableScheduledFuture<V> handOffNow(final RunnableScheduledFuture<V> task) {
+        if (isShutdown()) {
+            super.getRejectedExecutionHandler().rejectedExecution(task, this);
+            task.cancel(false);
+        } else {
+            task.run();
+        }
+
+        return task;
+    }
+
+    /**
+     * Schedules the command like {@link #schedule(Runnable, long, TimeUnit)}, attaching the consumer to the task before
+     * it is queued. So the consumer is called even if the command is done before this method returns.
+     * @param command the task to execute.
+     * @param delay the time from now to delay execution.
+     * @param unit the time unit of the delay parameter.
+     * @param afterExecuteConsumer the consumer to be called after the task execution.
+     * @return a ScheduledFuture representing pending completion of the task.
+     * @see #addAfterExecuteConsumer(Future, BiConsumer)
+     */
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit,
+            final BiConsumer<Runnable, Throwable> afterExecuteConsumer) {
+        return schedule(new ConsumedCommand(command, afterExecuteConsumer), delay, unit);
+    }
+
+    /**
+     * Schedules the command like {@link #scheduleAtFixedRate(Runnable, long, long, TimeUnit)}, attaching the consumer
+     * to the task before it is queued. So the consumer is called even for the first execution.
+     * @param command the task to execute.
+     * @param initialDelay the time to delay first execution.
+     * @param period the period between successive executions.
+     * @param unit the time unit of the initialDelay and period parameters.
+     * @param afterExecuteConsumer the consumer to be called after each task execution.
+     * @return a ScheduledFuture representing pending completion of the series of repeated tasks.
+     * @see #addAfterExecuteConsumer(Future, BiConsumer)
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period,
+            final TimeUnit unit, final BiConsumer<Runnable, Throwable> afterExecuteConsumer) {
+        return scheduleAtFixedRate(new ConsumedCommand(command, afterExecuteConsumer), initialDelay, period, unit);
+    }
+
+    /**
+     * Schedules the command like {@link #scheduleWithFixedDelay(Runnable, long, long, TimeUnit)}, attaching the
+     * consumer to the task before it is queued. So the consumer is called even for the first execution.
+     * @param command the task to execute.
+     * @param initialDelay the time to delay first execution.
+     * @param delay the delay between the termination of one execution and the commencement of the next.
+     * @param unit the time unit of the initialDelay and delay parameters.
+     * @param afterExecuteConsumer the consumer to be called after each task execution.
+     * @return a ScheduledFuture representing pending completion of the series of repeated tasks.
+     * @see #addAfterExecuteConsumer(Future, BiConsumer)
+     */
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay,
+            final TimeUnit unit, final BiConsumer<Runnable, Throwable> afterExecuteConsumer) {
+        return scheduleWithFixedDelay(new ConsumedCommand(command, afterExecuteConsumer), initialDelay, delay, unit);
+    }
+
+    /**
+     * Wraps the task into a task which carries its own after-execute consumer. The consumer of the commands scheduled
+     * with an after-execute consumer is attached before the task is queued.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#decorateTask(Runnable, RunnableScheduledFuture)
+     */
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(final Runnable runnable,
+            final RunnableScheduledFuture<V> task) {
+        final Runnable command = runnable instanceof ConsumedCommand ? ((ConsumedCommand) runnable).command : runnable;
+
+        return holdQueueSlot(new CaughtScheduledTask<>(this, task, runnable instanceof ConsumedCommand
+                ? ((ConsumedCommand) runnable).afterExecuteConsumer
+                : null, command instanceof NamedCommand ? ((NamedCommand) command).name : null));
+    }
+
+    /**
+     * Wraps the task into a task which carries its own after-execute consumer.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#decorateTask(java.util.concurrent.Callable, 
+     * RunnableScheduledFuture)
+     */
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(final Callable<V> callable,
+            final RunnableScheduledFuture<V> task) {
+        return holdQueueSlot(new CaughtScheduledTask<>(this, task, null, null));
+    }
+
+    private <V> CaughtScheduledTask<V> holdQueueSlot(final CaughtScheduledTask<V> task) {
+        if (queueBound != null) {
+            task.holdQueueSlot();
+        }
+
+        return task;
     }
 
     /**
@@ -78,7 +691,72 @@ public class ScheduledCaughtExecutorService extends ScheduledThreadPoolExecutor
     @Override
     public void afterExecute(final Runnable runnable, final Throwable throwable) {
         super.afterExecute(runnable, throwable);
-        afterExecuteConsumers.forEach(consumer -> consumer.accept(runnable, throwable));
+        
+        if (handOffExecutor == null) {
+            dispatchAfterExecute(runnable, throwable);
+        }
+
+        if (getRemoveOnCancelPolicy()) {
+            purgeCancelledHead();
+        }
+    }
+    
+    void dispatchAfterExecute(final Runnable runnable, final Throwable throwable) {
+        if (!afterExecuteConsumers.isEmpty()) {
+            afterExecuteConsumers.forEach(consumer -> consumer.accept(runnable, throwable));
+        }
+        
+        if (runnable instanceof CaughtScheduledTask) {
+            ((CaughtScheduledTask<?>) runnable).afterExecute(throwable);
+        }
+    }
+
+    /**
+     * Finishes the hand-off executor, if any, after the delayed tasks have been handed off.
+     * @see java.util.concurrent.ThreadPoolExecutor#terminated()
+     */
+    @Override
+    protected void terminated() {
+        super.terminated();
+        
+        if (handOffExecutor != null) {
+            handOffExecutor.shutdown();
+        }
+    }
+    
+    /**
+     * Also attempts to stop the executions performed by the hand-off executor, if any.
+     * @see java.util.concurrent.ScheduledThreadPoolExecutor#shutdownNow()
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> waitingTasks = super.shutdownNow();
+        
+        if (handOffExecutor != null) {
+            handOffExecutor.shutdownNow();
+        }
+        
+        return waitingTasks;
+    }
+    
+    /**
+     * Also waits for the executions performed by the hand-off executor, if any.
+     * @see java.util.concurrent.ThreadPoolExecutor#awaitTermination(long, TimeUnit)
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        
+        return super.awaitTermination(timeout, unit) && (handOffExecutor == null
+                || handOffExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+    }
+    
+    /**
+     * @see java.util.concurrent.ThreadPoolExecutor#isTerminated()
+     */
+    @Override
+    public boolean isTerminated() {
+        return super.isTerminated() && (handOffExecutor == null || handOffExecutor.isTerminated());
     }
 
     public List<BiConsumer<Runnable, Throwable>> getAfterExecuteConsumers() {
@@ -88,4 +766,136 @@ public class ScheduledCaughtExecutorService extends ScheduledThreadPoolExecutor
     public void addAfterExecuteConsumer(final BiConsumer<Runnable, Throwable> afterExecuteBiConsumer) {
         this.afterExecuteConsumers.add(afterExecuteBiConsumer);
     }
+
+    /**
+     * Adds a consumer to be called only after the execution of the given task. Unlike the consumers added by
+     * {@link #addAfterExecuteConsumer(BiConsumer)}, it is not called for the other tasks of this executor, which
+     * allows many builders to share the same executor. The consumer is carried by the task itself and is released as
+     * soon as the task is done.
+     * @param task the task returned by this executor when scheduling.
+     * @param afterExecuteBiConsumer the consumer to be called after the task execution.
+     * @throws IllegalArgumentException if the task was not returned by this executor.
+     */
+    public void addAfterExecuteConsumer(final Future<?> task,
+            final BiConsumer<Runnable, Throwable> afterExecuteBiConsumer) {
+        toCaughtScheduledTask(task).addAfterExecuteConsumer(afterExecuteBiConsumer);
+    }
+
+    /**
+     * Releases the consumers added to the given task, typically because it was cancelled before being executed again.
+     * @param task the task returned by this executor when scheduling.
+     * @see #addAfterExecuteConsumer(Future, BiConsumer)
+     */
+    public void removeAfterExecuteConsumers(final Future<?> task) {
+        toCaughtScheduledTask(task).release();
+    }
+
+    private CaughtScheduledTask<?> toCaughtScheduledTask(final Future<?> task) {
+        if (task instanceof CaughtScheduledTask && ((CaughtScheduledTask<?>) task).isOwnedBy(this)) {
+            return (CaughtScheduledTask<?>) task;
+        }
+
+        throw new IllegalArgumentException("The {task} parameter was not returned by this executor");
+    }
+
+    private static final class QueueBound {
+        private final int capacity;
+        private final BackpressurePolicy policy;
+        private final long blockTimeout;
+        private final Semaphore slots;
+        private final AtomicInteger highWaterMark = new AtomicInteger();
+        private final LongAdder droppedCount = new LongAdder();
+        private final LongAdder callerRunsCount = new LongAdder();
+
+        private QueueBound(final int capacity, final BackpressurePolicy policy, final Duration blockTimeout) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("The {queueCapacity} parameter must be greater than zero");
+            }
+
+            this.capacity = capacity;
+            this.policy = Objects.requireNonNull(policy, "The {backpressurePolicy} parameter is required");
+            this.blockTimeout = Objects.requireNonNull(blockTimeout, "The {blockTimeout} parameter is required")
+                    .toNanos();
+            this.slots = new Semaphore(capacity);
+        }
+
+        private int getQueuedCount() {
+            return capacity - slots.availablePermits();
+        }
+
+        private void recordQueued() {
+            highWaterMark.accumulateAndGet(getQueuedCount(), Math::max);
+        }
+    }
+
+    private static final class ImmediateTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private final long submitTime = System.nanoTime();
+
+        private ImmediateTask(final Runnable runnable, final V result) {
+            super(runnable, result);
+        }
+
+        private ImmediateTask(final Callable<V> callable) {
+            super(callable);
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return false;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(submitTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private static final class ConsumedCommand implements Runnable {
+        private final Runnable command;
+        private final BiConsumer<Runnable, Throwable> afterExecuteConsumer;
+
+        private ConsumedCommand(final Runnable command, final BiConsumer<Runnable, Throwable> afterExecuteConsumer) {
+            this.command = Objects.requireNonNull(command);
+            this.afterExecuteConsumer = afterExecuteConsumer;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    private static final class NamedCommand implements Runnable {
+        private final String name;
+        private final Runnable command;
+
+        private NamedCommand(final String name, final Runnable command) {
+            this.name = name;
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    private final class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+        private final RejectedExecutionHandler handler;
+
+        private CountingRejectedExecutionHandler(final RejectedExecutionHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            recordRejection();
+            handler.rejectedExecution(runnable, executor);
+        }
+    }
 }
@@ -0,0 +1,276 @@
+package thread;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shared scheduling engine to be used by many {@link thread.ThreadBuilder} instances.
+ * <p>
+ * Every builder created by {@link thread.ThreadBuilder#newBuilder(SchedulerEngine)} submits its executions into the
+ * same {@link thread.ScheduledCaughtExecutorService}, so no thread pool is created per start. Their timeouts are
+ * driven by the engine {@link thread.HashedWheelTimer}. The engine lifecycle is owned by the caller and must be
+ * finished through {@link #shutdown()}, {@link #shutdownNow()} or {@link #close()}.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * try (final SchedulerEngine engine = SchedulerEngine.newEngine()) {
+ *     ThreadBuilder
+ *          .newBuilder(engine) //New object to build a new thread inside the shared engine.
+ *          .setTimeout(4000)
+ *          .setExecution(anyRunnable)
+ *          .start();
+ * }
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ScheduledCaughtExecutorService
+ */
+public class SchedulerEngine implements AutoCloseable {
+    private final ScheduledCaughtExecutorService executor;
+    private final HashedWheelTimer timeoutTimer;
+    private final boolean virtual;
+    private final AtomicBoolean stoppingTimer = new AtomicBoolean();
+
+    private SchedulerEngine(final ScheduledCaughtExecutorService executor, final long timeoutTickMillis,
+            final boolean virtual) {
+        this.executor = executor;
+        this.virtual = virtual;
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.timeoutTimer = new HashedWheelTimer(timeoutTickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return a new engine sized to the number of available processors.
+     * @see java.lang.Runtime#availableProcessors()
+     */
+    public static SchedulerEngine newEngine() {
+        return newEngine(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param corePoolSize the {@link ScheduledCaughtExecutorService} pool size.
+     * @return a new engine with the given pool size.
+     * @see thread.ScheduledCaughtExecutorService#ScheduledCaughtExecutorService(int)
+     */
+    public static SchedulerEngine newEngine(final int corePoolSize) {
+        return newEngine(corePoolSize, HashedWheelTimer.DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * @param corePoolSize the {@link ScheduledCaughtExecutorService} pool size.
+     * @param timeoutTickMillis the resolution, in milliseconds, of the timer which drives the timeouts.
+     * @return a new engine with the given pool size and timeout resolution.
+     * @see thread.HashedWheelTimer#HashedWheelTimer(long, TimeUnit)
+     */
+    public static SchedulerEngine newEngine(final int corePoolSize, final long timeoutTickMillis) {
+        return newEngine(corePoolSize, timeoutTickMillis, new CaughtExecutorThreadFactory(null));
+    }
+
+    /**
+     * @param corePoolSize the {@link ScheduledCaughtExecutorService} pool size.
+     * @param timeoutTickMillis the resolution, in milliseconds, of the timer which drives the timeouts.
+     * @param threadFactory the factory of the pool threads.
+     * @return a new engine with the given pool size, timeout resolution and pool threads.
+     * @see thread.CaughtExecutorThreadFactory#newBuilder()
+     */
+    public static SchedulerEngine newEngine(final int corePoolSize, final long timeoutTickMillis,
+            final ThreadFactory threadFactory) {
+        if (corePoolSize < 1) {
+            throw new IllegalArgumentException("The {corePoolSize} parameter must be greater than zero");
+        }
+
+        Objects.requireNonNull(threadFactory, "The {threadFactory} parameter is required");
+
+        return new SchedulerEngine(
+                new ScheduledCaughtExecutorService(corePoolSize, threadFactory),
+                timeoutTickMillis,
+                false);
+    }
+
+    /**
+     * Creates an engine whose executor holds up to the queue capacity of executions submitted and not done yet, so a
+     * burst of starts does not grow its queue without bound.
+     * @param corePoolSize the {@link ScheduledCaughtExecutorService} pool size.
+     * @param queueCapacity the maximum number of executions submitted and not done yet.
+     * @param backpressurePolicy what is done with an execution submitted when the queue is full.
+     * @return a new bounded engine.
+     * @see thread.ScheduledCaughtExecutorService#ScheduledCaughtExecutorService(int, ThreadFactory, int,
+     * BackpressurePolicy)
+     */
+    public static SchedulerEngine newBoundedEngine(final int corePoolSize, final int queueCapacity,
+            final BackpressurePolicy backpressurePolicy) {
+        if (corePoolSize < 1) {
+            throw new IllegalArgumentException("The {corePoolSize} parameter must be greater than zero");
+        }
+
+        return new SchedulerEngine(
+                new ScheduledCaughtExecutorService(corePoolSize, new CaughtExecutorThreadFactory(null), queueCapacity,
+                        backpressurePolicy),
+                HashedWheelTimer.DEFAULT_TICK_DURATION,
+                false);
+    }
+
+    /**
+     * Creates an engine whose single thread waits for the delays and intervals and hands every execution off to a
+     * work-stealing {@link java.util.concurrent.ForkJoinPool}, so many threads can start executions without contending
+     * on a shared queue.
+     * @param parallelism the number of threads of the pool which performs the executions.
+     * @return a new engine.
+     * @see thread.ScheduledCaughtExecutorService#newForkJoinExecutor(int, Thread.UncaughtExceptionHandler)
+     */
+    public static SchedulerEngine newForkJoinEngine(final int parallelism) {
+        return newForkJoinEngine(parallelism, HashedWheelTimer.DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * @param parallelism the number of threads of the pool which performs the executions.
+     * @param timeoutTickMillis the resolution, in milliseconds, of the timer which drives the timeouts.
+     * @return a new engine which performs every execution in a fork-join pool.
+     * @see #newForkJoinEngine(int)
+     */
+    public static SchedulerEngine newForkJoinEngine(final int parallelism, final long timeoutTickMillis) {
+        return new SchedulerEngine(ScheduledCaughtExecutorService.newForkJoinExecutor(parallelism, null),
+                timeoutTickMillis, false);
+    }
+
+    /**
+     * Creates an engine which performs every execution in a new virtual thread, so blocking executions do not pin
+     * platform threads. If the runtime does not support virtual threads (JDK 21+), it is the same as
+     * {@link #newEngine()}.
+     * @return a new engine.
+     * @see thread.ScheduledCaughtExecutorService#newVirtualThreadExecutor(Thread.UncaughtExceptionHandler)
+     */
+    public static SchedulerEngine newVirtualThreadEngine() {
+        return newVirtualThreadEngine(HashedWheelTimer.DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * @param timeoutTickMillis the resolution, in milliseconds, of the timer which drives the timeouts.
+     * @return a new engine which performs every execution in a new virtual thread.
+     * @see #newVirtualThreadEngine()
+     */
+    public static SchedulerEngine newVirtualThreadEngine(final long timeoutTickMillis) {
+        return new SchedulerEngine(ScheduledCaughtExecutorService.newVirtualThreadExecutor(null), timeoutTickMillis,
+                VirtualThreads.isSupported());
+    }
+
+    /**
+     * @return the executor shared by every builder of this engine.
+     */
+    public ScheduledCaughtExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the timer which drives the timeouts of every builder of this engine.
+     */
+    public HashedWheelTimer getTimeoutTimer() {
+        return timeoutTimer;
+    }
+
+    /**
+     * @return true if the executions are performed in virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * @return the engine pool size.
+     */
+    public int getCorePoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    /**
+     * Initiates an orderly shutdown. Previously submitted executions are performed, but no new ones will be accepted.
+     * The timeout timer is stopped once the engine terminates.
+     * @see java.util.concurrent.ExecutorService#shutdown()
+     */
+    public void shutdown() {
+        executor.shutdown();
+
+        if (stoppingTimer.compareAndSet(false, true)) {
+            stopTimerWhenTerminated();
+        }
+    }
+
+    /**
+     * Checks the termination on every tick of the timer itself, as the hand-off executor of the engine has no
+     * termination hook.
+     */
+    private void stopTimerWhenTerminated() {
+        if (executor.isTerminated()) {
+            timeoutTimer.stop();
+            return;
+        }
+
+        try {
+            timeoutTimer.newTimeout(this::stopTimerWhenTerminated, timeoutTimer.getTickDuration(TimeUnit.NANOSECONDS),
+                    TimeUnit.NANOSECONDS);
+        } catch (final IllegalStateException e) {
+            //The timer was stopped by shutdownNow.
+        }
+    }
+
+    /**
+     * Attempts to stop all actively executing executions and halts the waiting ones and the pending timeouts.
+     * @see java.util.concurrent.ExecutorService#shutdownNow()
+     */
+    public void shutdownNow() {
+        executor.shutdownNow();
+        timeoutTimer.stop();
+    }
+
+    /**
+     * @param timeout the maximum time to wait.
+     * @param unit the time unit of the timeout argument.
+     * @return true if the engine terminated and false if the timeout elapsed before termination.
+     * @throws InterruptedException if interrupted while waiting.
+     * @see java.util.concurrent.ExecutorService#awaitTermination(long, TimeUnit)
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * @return true if the engine has been shut down.
+     * @see java.util.concurrent.ExecutorService#isShutdown()
+     */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * @return true if all executions have completed following shut down.
+     * @see java.util.concurrent.ExecutorService#isTerminated()
+     */
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    /**
+     * Shuts the engine down, waits for the previously submitted executions and stops the timeout timer. If interrupted
+     * while waiting, the waiting executions are halted and the interruption status is restored.
+     * @see #shutdown()
+     * @see #shutdownNow()
+     */
+    @Override
+    public void close() {
+        shutdown();
+
+        try {
+            while (!awaitTermination(1, TimeUnit.DAYS));
+
+            timeoutTimer.stop();
+        } catch (final InterruptedException e) {
+            shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package thread;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry of the {@link thread.ExecutorResult}s to be shut down when the JVM exits, so the threads of the builders
+ * do not hold a rolling restart.
+ * <p>
+ * A single JVM shutdown hook is installed by the first registration. It shuts every registered result down together,
+ * within the hook timeout (see {@link #setShutdownTimeout(Duration)}): the executors of all results stop accepting new
+ * executions at once, then the futures are drained up to the same deadline and the remaining ones are cancelled. A
+ * result shut down by itself leaves the registry, as well as the results found without pending futures nor running
+ * executors while the registry grows. A builder registers its result again on every start.
+ * </p>
+ *
+ * <pre>
+ * <b>Example:</b>
+ *
+ * ThreadBuilder
+ *          .newBuilder()
+ *          .setShutdownOnExit(true) //The result will be registered, and shut down when the JVM exits.
+ *          .setInterval(1000)
+ *          .setExecution(anyRunnable)
+ *          .start();
+ * </pre>
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ExecutorResult#shutdown(Duration)
+ */
+public final class ShutdownRegistry {
+    private static final int MINIMUM_PRUNE_THRESHOLD = 64;
+    private static final AtomicInteger PRUNE_THRESHOLD = new AtomicInteger(MINIMUM_PRUNE_THRESHOLD);
+    private static final Set<ExecutorResult> RESULTS = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private static final AtomicBoolean HOOK_INSTALLED = new AtomicBoolean();
+    private static final AtomicReference<Duration> SHUTDOWN_TIMEOUT =
+            new AtomicReference<>(ExecutorResult.DEFAULT_SHUTDOWN_TIMEOUT);
+
+    private ShutdownRegistry() {}
+
+    /**
+     * Registers the result to be shut down when the JVM exits. Registering the same result again has no effect.
+     * @param executorResult the result to be registered.
+     */
+    public static void register(final ExecutorResult executorResult) {
+        Objects.requireNonNull(executorResult, "The {executorResult} parameter is required");
+
+        if (HOOK_INSTALLED.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ShutdownRegistry::shutdownOnExit, "thread-util-shutdown"));
+        }
+
+        if (RESULTS.add(executorResult) && RESULTS.size() > PRUNE_THRESHOLD.get()) {
+            prune();
+        }
+    }
+
+    /**
+     * @param executorResult the result which will not be shut down when the JVM exits anymore.
+     * @return true if the result was registered.
+     */
+    public static boolean unregister(final ExecutorResult executorResult) {
+        return RESULTS.remove(executorResult);
+    }
+
+    /**
+     * @param executorResult any result.
+     * @return true if the result is registered.
+     */
+    public static boolean isRegistered(final ExecutorResult executorResult) {
+        return RESULTS.contains(executorResult);
+    }
+
+    /**
+     * @param timeout the maximum time, shared by every registered result, to drain the futures when the JVM exits.
+     * The default one is the {@link ExecutorResult#DEFAULT_SHUTDOWN_TIMEOUT}.
+     */
+    public static void setShutdownTimeout(final Duration timeout) {
+        SHUTDOWN_TIMEOUT.set(Objects.requireNonNull(timeout, "The {timeout} parameter is required"));
+    }
+
+    /**
+     * Shuts every registered result down within the timeout and removes them from the registry.
+     * @param timeout the maximum time, shared by every registered result, to drain the futures.
+     * @return the sum of the reports of every result.
+     * @see thread.ExecutorResult#shutdown(Duration)
+     */
+    public static ShutdownReport shutdownAll(final Duration timeout) {
+        Objects.requireNonNull(timeout, "The {timeout} parameter is required");
+
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final ExecutorResult[] executorResults = RESULTS.toArray(new ExecutorResult[0]);
+        final boolean[] drained = new boolean[executorResults.length];
+        ShutdownReport report = ShutdownReport.EMPTY;
+
+        RESULTS.removeAll(Arrays.asList(executorResults));
+
+        for (final ExecutorResult executorResult : executorResults) {
+            executorResult.beginShutdown();
+        }
+
+        for (int i = 0; i < executorResults.length; i++) {
+            drained[i] = executorResults[i].awaitDrain(deadline);
+        }
+
+        for (int i = 0; i < executorResults.length; i++) {
+            report = report.plus(executorResults[i].finishShutdown(drained[i]));
+        }
+
+        return report;
+    }
+
+    private static void prune() {
+        RESULTS.removeIf(ExecutorResult::isFinished);
+        PRUNE_THRESHOLD.set(Math.max(MINIMUM_PRUNE_THRESHOLD, 2 * RESULTS.size()));
+    }
+
+    private static void shutdownOnExit() {
+        shutdownAll(SHUTDOWN_TIMEOUT.get());
+    }
+}
@@ -0,0 +1,69 @@
+package thread;
+
+/**
+ * Outcome of the shutdown of one or many {@link thread.ExecutorResult}s: how their futures finished, and whether they
+ * were drained within the shutdown timeout or had to be cancelled.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ * @see thread.ExecutorResult#shutdown(java.time.Duration)
+ * @see thread.ShutdownRegistry#shutdownAll(java.time.Duration)
+ */
+public class ShutdownReport {
+    static final ShutdownReport EMPTY = new ShutdownReport(0, 0, 0, 0, true);
+
+    private final long completedCount;
+    private final long failedCount;
+    private final long cancelledCount;
+    private final long pendingCount;
+    private final boolean drained;
+
+    ShutdownReport(final long completedCount, final long failedCount, final long cancelledCount,
+            final long pendingCount, final boolean drained) {
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+        this.cancelledCount = cancelledCount;
+        this.pendingCount = pendingCount;
+        this.drained = drained;
+    }
+
+    /**
+     * @return the number of futures done normally.
+     */
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * @return the number of futures done by an exception.
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return the number of cancelled futures, including the repeating ones, which are always cancelled by a shutdown.
+     */
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    /**
+     * @return the number of futures not done after the shutdown, since they could not be cancelled.
+     */
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * @return true if every non-repeating future was done within the shutdown timeout, so none had to be cancelled.
+     */
+    public boolean isDrained() {
+        return drained;
+    }
+
+    ShutdownReport plus(final ShutdownReport other) {
+        return new ShutdownReport(completedCount + other.completedCount, failedCount + other.failedCount,
+                cancelledCount + other.cancelledCount, pendingCount + other.pendingCount, drained && other.drained);
+    }
+}
@@ -1,16 +1,29 @@
 package thread;
 
+import java.lang.Thread.UncaughtExceptionHandler;
 import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Minimum structure for thread creation in the following scenarios:
@@ -25,19 +38,36 @@ import java.util.function.Consumer;
  * </p>
  * <li><em>Interval</em></li>
  * <p>
- * The thread will be repeated after the time interval be completed.
+ * The thread will be repeated after the time interval be completed, at a fixed rate, with a fixed delay or 
+ * adaptively (see {@link thread.IntervalMode}).
  * </p>
  * <li><em>Exception handling</em></li>
  * <p>
  * Handles of uncaught exceptions can be thrown and handled within threads.
  * </p>
+ * <li><em>Retry</em></li>
+ * <p>
+ * The failed executions can be retried on the same executor with backoff (see {@link thread.RetryPolicy}).
+ * </p>
+ * <li><em>Deadline scope</em></li>
+ * <p>
+ * The executions and their sub-tasks can be cancelled as a group by a shared deadline (see 
+ * {@link thread.DeadlineScope}).
+ * </p>
+ * <li><em>Shared engine</em></li>
+ * <p>
+ * Many builders can start their threads inside the same {@link thread.SchedulerEngine}.
+ * </p>
+ * <li><em>Asynchronous result</em></li>
+ * <p>
+ * The value of a thread can be received by a {@link java.util.concurrent.CompletableFuture} (see 
+ * {@link thread.ThreadBuilder#supplyAsync(Supplier)}).
+ * </p>
  * </ul>
  * <b>Note:</b><br>
- * <em>The thread will wait a minimum delay
- * ({@link thread.ThreadBuilder.MINIMAL_REQUIRED_DELAY}) if and only if a
- * ({@link thread.ThreadBuilder#setAfterExecuteConsumer(BiConsumer)}) 
- * or a ({@link thread.ThreadBuilder#setUncaughtExceptionConsumer(Consumer)}) 
- * is present.</em>
+ * <em>The ({@link thread.ThreadBuilder#setAfterExecuteConsumer(BiConsumer)}) 
+ * and the ({@link thread.ThreadBuilder#setUncaughtExceptionConsumer(Consumer)}) 
+ * are attached to the thread before it is scheduled, so no extra delay is required.</em>
  * 
  * <pre>
  * <b>Example:</b>
@@ -60,28 +90,75 @@ import java.util.function.Consumer;
  * @see thread.ScheduledCaughtExecutorService
  */
 public class ThreadBuilder {
-    /**
-     * 1000 milliseconds as a minimal delay.
-     */
-    public static final long MINIMAL_REQUIRED_DELAY = 1000;
-    private Optional<Duration> timeout = Optional.empty();
-    private Optional<Duration> delay = Optional.empty();
-    private Optional<Duration> interval = Optional.empty();
-    private Optional<BiConsumer<Runnable, Throwable>> afterExecuteConsumer = Optional.empty();
-    private Optional<Consumer<Throwable>> uncaughtExceptionConsumer = Optional.empty();
+    private static final long NO_TIME = -1;
+
+    private final BiConsumer<Runnable, Throwable> exceptionHandler =
+            (runnable, throwable) -> handleException((Future<?>) runnable);
+    private long timeoutNanos = NO_TIME;
+    private long delayNanos;
+    private long intervalNanos = NO_TIME;
+    private IntervalMode intervalMode = IntervalMode.FIXED_RATE;
+    private BiConsumer<Runnable, Throwable> taskAfterExecuteConsumer = exceptionHandler;
+    private Consumer<Throwable> uncaughtExceptionConsumer;
+    private String name;
+    private ExecutorInstrumentation instrumentation;
+    private AdmissionControl admissionControl;
+    private RetryPolicy retryPolicy;
+    private CronExpression cronExpression;
+    private ZoneId cronZone;
+    private DeadlineScope deadlineScope;
+    private boolean deadlineScopeSet;
+    private DeadlineScope startDeadlineScope;
     private Runnable execution;
     private ScheduledCaughtExecutorService executor;
     private ExecutorResult executorResult;
     private boolean mayInterruptIfRunning;
     private boolean silentInterruption;
+    private boolean virtualThreads;
+    private boolean forkJoin;
+    private boolean shutdownOnExit;
+    private boolean daemon;
     private final int corePoolSize;
+    private final SchedulerEngine engine;
+    
+    static class DefaultTimeoutTimerHolder {
+        static final HashedWheelTimer TIMEOUT_TIMER = new HashedWheelTimer();
+    }
+
+    /**
+     * Notifies the timeout cancellations which cannot be queued into the executor of their future, so the consumers
+     * of the builders never run on the ticker thread of a timer, where a slow consumer would delay every timeout. Its
+     * single daemon thread ends when idle.
+     */
+    static class CancellationNotifierHolder {
+        static final ExecutorService NOTIFIER = newNotifier();
+
+        private static ExecutorService newNotifier() {
+            final ThreadPoolExecutor notifier = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), CaughtExecutorThreadFactory
+                            .newBuilder()
+                            .setNamePrefix("timeout-cancellation-notifier")
+                            .setDaemon(true)
+                            .build());
+
+            notifier.allowCoreThreadTimeOut(true);
+
+            return notifier;
+        }
+    }
 
     private ThreadBuilder() {
-        corePoolSize = 1;
+        this(1);
     }
     
     private ThreadBuilder(final int corePoolSize) {
         this.corePoolSize = corePoolSize;
+        this.engine = null;
+    }
+    
+    private ThreadBuilder(final SchedulerEngine engine) {
+        this.engine = Objects.requireNonNull(engine, "The {engine} parameter is required");
+        this.corePoolSize = engine.getCorePoolSize();
     }
 
     /**
@@ -99,14 +176,27 @@ public class ThreadBuilder {
     public static ThreadBuilder newBuilder(final int corePoolSize) {
         return new ThreadBuilder(corePoolSize);
     }
+    
+    /**
+     * Creates a builder whose threads are started inside a shared engine instead of a new executor per start. The 
+     * engine executor will be the {@link ExecutorResult#getExecutorService()} of every result, so it must be finished
+     * through the engine lifecycle methods rather than by a single result.
+     * @param engine the shared engine where the threads will be started.
+     * @return a new object to perform a thread creation.
+     * @see thread.SchedulerEngine
+     */
+    public static ThreadBuilder newBuilder(final SchedulerEngine engine) {
+        return new ThreadBuilder(engine);
+    }
 
     /**
-     * Sets the timeout value.
+     * Sets the timeout value. The timeout is fired by a {@link HashedWheelTimer}, so it may be late up to one tick 
+     * duration of that timer.
      * @param milliseconds the timeout value in milliseconds. 
      * @return the current thread builder.
      */
     public ThreadBuilder setTimeout(final long milliseconds) {
-        timeout = Optional.of(Duration.ofMillis(milliseconds));
+        timeoutNanos = TimeUnit.MILLISECONDS.toNanos(milliseconds);
 
         return this;
     }
@@ -117,7 +207,7 @@ public class ThreadBuilder {
      * @return the current thread builder.
      */
     public ThreadBuilder setDelay(final long milliseconds) {
-        delay = Optional.of(Duration.ofMillis(milliseconds));
+        delayNanos = TimeUnit.MILLISECONDS.toNanos(milliseconds);
 
         return this;
     }
@@ -128,7 +218,48 @@ public class ThreadBuilder {
      * @return the current thread builder.
      */
     public ThreadBuilder setInterval(final long milliseconds) {
-        interval = Optional.of(Duration.ofMillis(milliseconds));
+        intervalNanos = TimeUnit.MILLISECONDS.toNanos(milliseconds);
+
+        return this;
+    }
+
+    /**
+     * Sets how the executions are repeated by the interval. The default mode is {@link IntervalMode#FIXED_RATE}. The
+     * ticks of every mode are recorded by the {@link ExecutorResult#getIntervalMetrics()}.
+     * @param intervalMode the repeating mode.
+     * @return the current thread builder.
+     */
+    public ThreadBuilder setIntervalMode(final IntervalMode intervalMode) {
+        this.intervalMode = Objects.requireNonNull(intervalMode, "The {intervalMode} parameter is required");
+
+        return this;
+    }
+
+    /**
+     * Sets the cron schedule of the executions in the system default zone.
+     * @param expression the cron expression.
+     * @return the current thread builder.
+     * @see #setCron(CronExpression, ZoneId)
+     */
+    public ThreadBuilder setCron(final String expression) {
+        return setCron(CronExpression.parse(expression), ZoneId.systemDefault());
+    }
+
+    /**
+     * Sets the cron schedule of the executions. An execution is performed at every fire time of the expression after
+     * the delay, and the interval is ignored. Its next fire time is computed after every execution and the thread is
+     * scheduled exactly until that time, so no thread polls the clock. The fire times missed while an execution runs
+     * are skipped. As a repeating execution, the timeout applies to the whole schedule, the uncaught-exception and
+     * after-execute consumers are called after every execution, and an exception stops the schedule. The executions
+     * of {@link #supplyAsync(Supplier)} and {@link #callAsync(Callable)} are not scheduled by cron.
+     * @param cronExpression the cron expression, or null to schedule the executions by delay and interval.
+     * @param zone the zone of the fire times.
+     * @return the current thread builder.
+     * @see thread.ExecutorResult#getIntervalMetrics()
+     */
+    public ThreadBuilder setCron(final CronExpression cronExpression, final ZoneId zone) {
+        this.cronZone = Objects.requireNonNull(zone, "The {zone} parameter is required");
+        this.cronExpression = cronExpression;
 
         return this;
     }
@@ -140,7 +271,9 @@ public class ThreadBuilder {
      * @see thread.ScheduledCaughtExecutorService#afterExecute(Runnable, Throwable)
      */
     public ThreadBuilder setAfterExecuteConsumer(final BiConsumer<Runnable, Throwable> afterExecuteConsumer) {
-        this.afterExecuteConsumer = Optional.ofNullable(afterExecuteConsumer);
+        this.taskAfterExecuteConsumer = afterExecuteConsumer == null
+                ? exceptionHandler
+                : exceptionHandler.andThen(afterExecuteConsumer);
 
         return this;
     }
@@ -152,7 +285,86 @@ public class ThreadBuilder {
      * @return the current thread builder.
      */
     public ThreadBuilder setUncaughtExceptionConsumer(final Consumer<Throwable> uncaughtExceptionConsumer) {
-        this.uncaughtExceptionConsumer = Optional.ofNullable(uncaughtExceptionConsumer);
+        this.uncaughtExceptionConsumer = uncaughtExceptionConsumer;
+
+        return this;
+    }
+
+    /**
+     * Sets the name of the thread executions, which identifies them in the {@link ExecutorInstrumentation}. It is also
+     * the name prefix of the threads of the executors created by this builder.
+     * @param name the execution name.
+     * @return the current thread builder.
+     */
+    public ThreadBuilder setName(final String name) {
+        this.name = name;
+
+        return this;
+    }
+
+    /**
+     * Sets the instrumentation of the executors created by this builder. The builders created by 
+     * {@link #newBuilder(SchedulerEngine)} follow the engine executor instrumentation instead.
+     * @param instrumentation the instrumentation which records the executions latencies.
+     * @return the current thread builder.
+     * @see thread.ScheduledCaughtExecutorService#setInstrumentation(ExecutorInstrumentation)
+     */
+    public ThreadBuilder setInstrumentation(final ExecutorInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+
+        return this;
+    }
+
+    /**
+     * Sets the admission control of the executions started by this builder. It can be shared by many builders, so a
+     * burst of starts is limited as a whole. When an execution is not admitted, the start throws a 
+     * {@link java.util.concurrent.RejectedExecutionException}, waits or cancels an older execution, according to the
+     * admission policy. Every execution of {@link #startAll(Collection)} is admitted on its own, and the executions
+     * started before a rejected one keep running under the timeout.
+     * @param admissionControl the admission control, or null to admit every execution.
+     * @return the current thread builder.
+     * @see thread.AdmissionPolicy
+     */
+    public ThreadBuilder setAdmissionControl(final AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+
+        return this;
+    }
+
+    /**
+     * Sets the retry policy of the executions without interval. A failed execution is scheduled again on the same
+     * executor, after a backoff, while its exception is retryable and the maximum number of attempts is not reached.
+     * The result tracks a single future per execution, done by its last attempt, and the uncaught-exception and
+     * after-execute consumers are called only once, by that attempt. The timeout applies to every attempt together.
+     * The repeating executions and the ones of {@link #supplyAsync(Supplier)} and {@link #callAsync(Callable)} are
+     * not retried.
+     * @param retryPolicy the retry policy, or null to perform every execution once.
+     * @return the current thread builder.
+     * @see thread.ExecutorResult#getRetryMetrics()
+     */
+    public ThreadBuilder setRetryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+
+        return this;
+    }
+
+    /**
+     * Sets the deadline scope of the executions started by this builder. The executions not done when the scope is
+     * cancelled, by its deadline, by its parent scope or by closing it, are cancelled as by a timeout. If this builder
+     * has a timeout too, each start runs in a child scope with that timeout, which is the
+     * {@link DeadlineScope#current()} one of its executions, so the timeout cancels the sub-tasks started in that
+     * scope as well. The scope result is added to the {@link ExecutorResult#getTimeoutExecutorResults()} of the
+     * builder result, so the scopes are observable as a tree.
+     * <p>
+     * Unless this method is called, the executions are started in the current scope of the calling execution, if any.
+     * </p>
+     * @param deadlineScope the deadline scope, or null to start the executions out of any scope.
+     * @return the current thread builder.
+     * @see thread.DeadlineScope#newChild()
+     */
+    public ThreadBuilder setDeadlineScope(final DeadlineScope deadlineScope) {
+        this.deadlineScope = deadlineScope;
+        this.deadlineScopeSet = true;
 
         return this;
     }
@@ -197,12 +409,71 @@ public class ThreadBuilder {
         return this;
     }
 
+    /**
+     * Sets the virtual-threads-flag. When the runtime supports virtual threads (JDK 21+), each execution is performed 
+     * in a new virtual thread and the pool threads only wait for the delays and intervals. Otherwise, the flag is 
+     * ignored. The builders created by {@link #newBuilder(SchedulerEngine)} follow the engine mode instead.
+     * @param flag true if the executions should be performed in virtual threads.
+     * @return the current thread builder.
+     * @see thread.ThreadUtil#isVirtualThreadSupported()
+     * @see thread.SchedulerEngine#newVirtualThreadEngine()
+     */
+    public ThreadBuilder setVirtualThreads(final boolean flag) {
+        virtualThreads = flag;
+
+        return this;
+    }
+
+    /**
+     * Sets the fork-join-flag. The executors created by this builder will have a single thread waiting for the delays
+     * and intervals, which hands every execution off to a work-stealing {@link java.util.concurrent.ForkJoinPool} 
+     * whose parallelism is the {@code corePoolSize} of this builder. The executions without delay are handed off 
+     * as soon as they are started, so many threads can start executions without contending on a shared queue. The
+     * pool threads are always daemon ones. The virtual-threads-flag takes precedence over this flag, and the builders
+     * created by {@link #newBuilder(SchedulerEngine)} follow the engine mode instead.
+     * @param flag true if the executions should be performed in a fork-join pool.
+     * @return the current thread builder.
+     * @see thread.ScheduledCaughtExecutorService#newForkJoinExecutor(int, Thread.UncaughtExceptionHandler)
+     * @see thread.SchedulerEngine#newForkJoinEngine(int)
+     */
+    public ThreadBuilder setForkJoin(final boolean flag) {
+        forkJoin = flag;
+
+        return this;
+    }
+
+    /**
+     * Sets the shutdown-on-exit-flag. The result of every start will be registered into the {@link ShutdownRegistry},
+     * so its futures are drained, or cancelled, and its executors are finished when the JVM exits.
+     * @param flag true if the result should be shut down when the JVM exits.
+     * @return the current thread builder.
+     * @see thread.ExecutorResult#shutdown(Duration)
+     */
+    public ThreadBuilder setShutdownOnExit(final boolean flag) {
+        shutdownOnExit = flag;
+
+        return this;
+    }
+
+    /**
+     * Sets the daemon-threads-flag of the executors created by this builder, so their threads do not keep the JVM 
+     * alive. The builders created by {@link #newBuilder(SchedulerEngine)} follow the engine threads instead.
+     * @param flag true if the executor threads should be daemon ones.
+     * @return the current thread builder.
+     * @see java.lang.Thread#setDaemon(boolean)
+     */
+    public ThreadBuilder setDaemon(final boolean flag) {
+        daemon = flag;
+
+        return this;
+    }
+
     /**
      * Starts the thread.
      * @return the executor service after starting thread.
      */
     public ExecutorResult start() {
-        createExecutorAndRunThread();
+        createExecutorAndRunThread(execution);
 
         return executorResult;
     }
@@ -212,187 +483,385 @@ public class ThreadBuilder {
      * @return the executor service after starting thread.
      */
     public ThreadBuilder startAndBuildOther() {
-        createExecutorAndRunThread();
+        createExecutorAndRunThread(execution);
 
         return this;
     }
 
-    private void createExecutorAndRunThread() {
-        requireExecutionNonNull();
+    /**
+     * Starts one thread for each execution, under the delay, interval and timeout of this builder. The executions are
+     * scheduled in one pass, sharing the executor and the after-execute consumers, and a single timeout cancels every
+     * execution not done when it is fired.
+     * @param executions the thread executions.
+     * @return the executor result with the futures of every execution.
+     * @see #startAll(Stream)
+     */
+    public ExecutorResult startAll(final Collection<? extends Runnable> executions) {
+        Objects.requireNonNull(executions, "The {executions} parameter is required");
 
-        executor = new ScheduledCaughtExecutorService(corePoolSize, getThreadFactory());
-        
-        runThread();
-
-        afterExecuteConsumer.ifPresent(executor::addAfterExecuteConsumer);
-    }
-
-    private ThreadFactory getThreadFactory() {
-        return uncaughtExceptionConsumer
-                .map(ueh -> new CaughtExecutorThreadFactory((thread, throwable) -> ueh.accept(throwable)))
-                .orElse(new CaughtExecutorThreadFactory(null));
-    }
-
-    private void runThread() {
-        if (noSchedule()) {
-            runWithNoSchedule();
-        } else if (onlyDelay()) {
-            runWithDelay();
-        } else if (onlyTimeout()) {
-            runWithTimeout();
-        } else if (onlyInterval()) {
-            repeatWithInterval();
-        } else if (delayAndTimeout()) {
-            runWithDelayAndTimeout();
-        } else if (delayAndInterval()) {
-            runWithDelayAndInterval();
-        } else if (timeoutAndInterval()) {
-            runWithTimeoutAndInterval();
-        } else /* All */ {
-            runWithAllTimesControls();
-        }
+        return startAll(executions.stream());
     }
 
-    private void requireExecutionNonNull() {
-        Objects.requireNonNull(execution, "The {execution} parameter is required");
+    /**
+     * Starts one thread for each execution of the stream. The stream is consumed once.
+     * @param executions the thread executions.
+     * @return the executor result with the futures of every execution.
+     * @see #startAll(Collection)
+     */
+    public ExecutorResult startAll(final Stream<? extends Runnable> executions) {
+        Objects.requireNonNull(executions, "The {executions} parameter is required");
+
+        executor = engine == null ? newExecutor() : engine.getExecutor();
+
+        newExecutorResultIfNull();
+
+        final ScheduledCaughtExecutorService executor = this.executor;
+        final BiConsumer<Runnable, Throwable> taskAfterExecuteConsumer = this.taskAfterExecuteConsumer;
+        final AdmissionControl admissionControl = this.admissionControl;
+        final List<Future<?>> futures = new ArrayList<>();
+        final DeadlineScope deadlineScope = getDeadlineScope();
+
+        startDeadlineScope = newStartDeadlineScope(deadlineScope);
+
+        try {
+            executions.forEachOrdered(execution -> {
+                Objects.requireNonNull(execution, "The {execution} parameter is required");
+
+                if (admissionControl != null) {
+                    admissionControl.acquire();
+                }
+
+                final Future<?> future;
+
+                try {
+                    future = schedule(execution, taskAfterExecuteConsumer);
+                } catch (final RuntimeException e) {
+                    if (admissionControl != null) {
+                        admissionControl.release();
+                    }
+
+                    throw e;
+                }
+
+                if (admissionControl != null) {
+                    admissionControl.admit(future);
+                }
+
+                futures.add(future);
+                executorResult.addFuture(future);
+                addToDeadlineScope(deadlineScope, executor, future);
+            });
+        } finally {
+            if (timeoutNanos != NO_TIME && deadlineScope == null && !futures.isEmpty()) {
+                executorResult.addTimeoutExecutorResult(handleInterruption(executor, futures));
+            }
+
+            releaseStartDeadlineScope(deadlineScope);
+            registerExecutor();
+        }
+
+        return executorResult;
     }
 
-    private boolean noSchedule() {
-        return !delay.isPresent() && !timeout.isPresent() && !interval.isPresent();
+    /**
+     * Starts the thread with the supplier as its execution instead of the {@link #setExecution(Runnable)} one. The
+     * returned future is completed by the supplier value, or exceptionally by the supplier exception, without blocking
+     * any thread. The delay and timeout are applied as in {@link #start()}: if the timeout is fired before the value 
+     * be supplied, the future is cancelled. The uncaught exceptions and the silent interruption keep being handled by
+     * the uncaught-exception consumer.
+     * <p>
+     * If an interval is set, the supplier is repeated until it supplies a non-null value, and then the repetition 
+     * stops. Cancelling the returned future cancels the thread.
+     * </p>
+     * @param <T> the type of the supplied value.
+     * @param supplier the thread execution which supplies the future value.
+     * @return the future completed by the supplier.
+     * @see #callAsync(Callable)
+     */
+    public <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+        Objects.requireNonNull(supplier, "The {supplier} parameter is required");
+
+        return callAsync(supplier::get);
     }
 
-    private boolean onlyDelay() {
-        return delay.isPresent() && !timeout.isPresent() && !interval.isPresent();
+    /**
+     * Starts the thread with the callable as its execution instead of the {@link #setExecution(Runnable)} one.
+     * @param <T> the type of the returned value.
+     * @param callable the thread execution which returns the future value.
+     * @return the future completed by the callable.
+     * @see #supplyAsync(Supplier)
+     */
+    public <T> CompletableFuture<T> callAsync(final Callable<T> callable) {
+        Objects.requireNonNull(callable, "The {callable} parameter is required");
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AsyncExecution<T> asyncExecution = new AsyncExecution<>(callable, result, intervalNanos != NO_TIME);
+        final Future<?> future = createExecutorAndRunThread(asyncExecution);
+        final ScheduledCaughtExecutorService executor = this.executor;
+
+        whenDone(future, doneFuture -> {
+            if (doneFuture.isCancelled()) {
+                result.cancel(false);
+            }
+
+            if (engine == null) {
+                executor.shutdown();
+            }
+        });
+
+        final boolean chained = future instanceof ChainedExecution.ChainedFuture;
+
+        if (asyncExecution.repeated && !chained) {
+            executor.addAfterExecuteConsumer(future, stopRepetition(executor, future, result));
+        }
+
+        result.whenComplete((value, throwable) -> {
+            if (!asyncExecution.isSettled()) {
+                future.cancel(mayInterruptIfRunning);
+            } else if (chained) {
+                //The settled execution is not interrupted, the chain just does not schedule the next one.
+                ((ChainedExecution.ChainedFuture) future).complete(null);
+            }
+        });
+
+        return result;
     }
 
-    private boolean onlyTimeout() {
-        return !delay.isPresent() && timeout.isPresent() && !interval.isPresent();
+    private static void whenDone(final Future<?> future, final Consumer<Future<?>> consumer) {
+        if (future instanceof CaughtScheduledTask) {
+            ((CaughtScheduledTask<?>) future).whenDone(consumer);
+        } else {
+            ((CompletableFuture<?>) future).whenComplete((value, throwable) -> consumer.accept(future));
+        }
     }
 
-    private boolean onlyInterval() {
-        return !delay.isPresent() && !timeout.isPresent() && interval.isPresent();
+    private Future<?> createExecutorAndRunThread(final Runnable execution) {
+        Objects.requireNonNull(execution, "The {execution} parameter is required");
+
+        final AdmissionControl admissionControl = this.admissionControl;
+
+        if (admissionControl != null) {
+            admissionControl.acquire();
+        }
+
+        final Future<?> future;
+
+        try {
+            executor = engine == null ? newExecutor() : engine.getExecutor();
+            future = runThread(execution);
+        } catch (final RuntimeException e) {
+            if (admissionControl != null) {
+                admissionControl.release();
+            }
+
+            throw e;
+        }
+
+        if (admissionControl != null) {
+            admissionControl.admit(future);
+        }
+
+        registerExecutor();
+
+        return future;
     }
 
-    private boolean delayAndTimeout() {
-        return delay.isPresent() && timeout.isPresent() && !interval.isPresent();
+    private void registerExecutor() {
+        if (engine == null) {
+            executorResult.addOwnedExecutorService(executor);
+        }
+
+        if (shutdownOnExit) {
+            ShutdownRegistry.register(executorResult);
+        }
     }
 
-    private boolean delayAndInterval() {
-        return delay.isPresent() && !timeout.isPresent() && interval.isPresent();
+    private ScheduledCaughtExecutorService newExecutor() {
+        final ScheduledCaughtExecutorService newExecutor;
+
+        if (virtualThreads && VirtualThreads.isSupported()) {
+            newExecutor = new ScheduledCaughtExecutorService(corePoolSize, getThreadFactory(false),
+                    VirtualThreads.newThreadPerTaskExecutor(getThreadFactory(true)));
+        } else if (forkJoin) {
+            newExecutor = ScheduledCaughtExecutorService.newForkJoinExecutor(corePoolSize, getThreadFactory(false),
+                    getUncaughtExceptionHandler());
+        } else {
+            newExecutor = new ScheduledCaughtExecutorService(corePoolSize, getThreadFactory(false));
+        }
+
+        if (instrumentation != null) {
+            newExecutor.setInstrumentation(instrumentation);
+        }
+
+        return newExecutor;
     }
 
-    private boolean timeoutAndInterval() {
-        return !delay.isPresent() && timeout.isPresent() && interval.isPresent();
+    private Runnable named(final Runnable execution) {
+        return name == null ? execution : ScheduledCaughtExecutorService.named(name, execution);
     }
 
-    private void runWithNoSchedule() {
-        final Future<?> future = executor.schedule(execution, handleDelay(), TimeUnit.MILLISECONDS);
+    private ThreadFactory getThreadFactory(final boolean virtual) {
+        final CaughtExecutorThreadFactory.Builder threadFactory = CaughtExecutorThreadFactory
+                .newBuilder()
+                .setUncaughtExceptionHandler(getUncaughtExceptionHandler())
+                .setVirtual(virtual)
+                .setDaemon(daemon);
 
-        executor.addAfterExecuteConsumer(handleException(future));
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
+        if (name != null) {
+            threadFactory.setNamePrefix(name);
+        }
+
+        return threadFactory.build();
     }
 
-    private void runWithDelay() {
-        final ScheduledFuture<?> future = executor.schedule(execution, handleDelay(), TimeUnit.MILLISECONDS);
+    private UncaughtExceptionHandler getUncaughtExceptionHandler() {
+        final Consumer<Throwable> uncaughtExceptionConsumer = this.uncaughtExceptionConsumer;
 
-        executor.addAfterExecuteConsumer(handleException(future));
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
+        return uncaughtExceptionConsumer == null
+                ? null
+                : (thread, throwable) -> uncaughtExceptionConsumer.accept(throwable);
     }
 
-    private void runWithTimeout() {
-        final ScheduledFuture<?> future = executor.schedule(execution, handleDelay(), TimeUnit.MILLISECONDS);
+    private Future<?> runThread(final Runnable execution) {
+        final DeadlineScope deadlineScope = getDeadlineScope();
 
-        executor.addAfterExecuteConsumer(handleException(future));
+        startDeadlineScope = newStartDeadlineScope(deadlineScope);
 
-        final ExecutorResult timeoutExecutorResult = handleInterruption(future);
-        
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
-        executorResult.getTimeoutExecutorResults().add(timeoutExecutorResult);
+        try {
+            final Future<?> future = schedule(execution, taskAfterExecuteConsumer);
+
+            newExecutorResultIfNull();
+            executorResult.addFuture(future);
+            addToDeadlineScope(deadlineScope, executor, future);
+
+            //A scoped start is cancelled by the deadline of its own scope instead.
+            if (timeoutNanos != NO_TIME && deadlineScope == null) {
+                executorResult.addTimeoutExecutorResult(handleInterruption(future));
+            }
+
+            return future;
+        } finally {
+            releaseStartDeadlineScope(deadlineScope);
+        }
     }
 
-    private void repeatWithInterval() {
-        final ScheduledFuture<?> future = executor.scheduleAtFixedRate(execution, handleDelay(),
-                interval.get().toMillis(), TimeUnit.MILLISECONDS);
+    private DeadlineScope getDeadlineScope() {
+        return deadlineScopeSet ? deadlineScope : DeadlineScope.current().orElse(null);
+    }
 
-        executor.addAfterExecuteConsumer(handleException(future));
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
+    private DeadlineScope newStartDeadlineScope(final DeadlineScope deadlineScope) {
+        return deadlineScope == null || timeoutNanos == NO_TIME
+                ? deadlineScope
+                : deadlineScope.newChild(Duration.ofNanos(timeoutNanos));
     }
 
-    private void runWithDelayAndTimeout() {
-        final ScheduledFuture<?> future = executor.schedule(execution, handleDelay(), TimeUnit.MILLISECONDS);
+    private void releaseStartDeadlineScope(final DeadlineScope deadlineScope) {
+        if (startDeadlineScope != deadlineScope) {
+            startDeadlineScope.releaseWhenDone();
+        }
 
-        executor.addAfterExecuteConsumer(handleException(future));
+        startDeadlineScope = null;
+    }
 
-        final ExecutorResult timeoutExecutorResult = handleInterruption(future);
-        
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
-        executorResult.getTimeoutExecutorResults().add(timeoutExecutorResult);
+    private void addToDeadlineScope(final DeadlineScope deadlineScope, final ScheduledCaughtExecutorService executor,
+            final Future<?> future) {
+        if (deadlineScope == null) {
+            return;
+        }
+
+        deadlineScope.attachTo(executorResult);
+
+        if (startDeadlineScope == deadlineScope) {
+            deadlineScope.add(future, new TimeoutCancellation(executor, future));
+        } else {
+            deadlineScope.getResult().addFuture(future);
+            startDeadlineScope.add(future, new TimeoutCancellation(executor, future));
+        }
     }
 
-    private void runWithDelayAndInterval() {
-        final ScheduledFuture<?> future = executor.scheduleAtFixedRate(execution, handleDelay(),
-                interval.get().toMillis(), TimeUnit.MILLISECONDS);
+    private Runnable scoped(final Runnable execution) {
+        return startDeadlineScope == null ? execution : startDeadlineScope.scoped(execution);
+    }
 
-        executor.addAfterExecuteConsumer(handleException(future));
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
+    private void requireExecutionNonNull() {
+        Objects.requireNonNull(execution, "The {execution} parameter is required");
     }
-    
+
     private void newExecutorResultIfNull() {
         executorResult = executorResult == null ? new ExecutorResult(executor) : executorResult;
     }
 
-    private void runWithTimeoutAndInterval() {
-        final ScheduledFuture<?> future = executor.scheduleAtFixedRate(execution, handleDelay(),
-                interval.get().toMillis(), TimeUnit.MILLISECONDS);
-
-        executor.addAfterExecuteConsumer(handleException(future));
+    private Future<?> schedule(final Runnable execution,
+            final BiConsumer<Runnable, Throwable> taskAfterExecuteConsumer) {
+        if (cronExpression != null && !(execution instanceof AsyncExecution)) {
+            return scheduleCron(scoped(execution), taskAfterExecuteConsumer);
+        }
 
-        final ExecutorResult timeoutExecutorResult = handleInterruption(future);
-        
-        newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
-        executorResult.getTimeoutExecutorResults().add(timeoutExecutorResult);
+        return intervalNanos == NO_TIME
+                ? scheduleOnce(execution, taskAfterExecuteConsumer)
+                : scheduleWithInterval(scoped(execution), taskAfterExecuteConsumer);
     }
 
-    private void runWithAllTimesControls() {
-        final ScheduledFuture<?> future = executor.scheduleAtFixedRate(execution, handleDelay(),
-                interval.get().toMillis(), TimeUnit.MILLISECONDS);
-        
-        executor.addAfterExecuteConsumer(handleException(future));
+    private Future<?> scheduleOnce(final Runnable execution,
+            final BiConsumer<Runnable, Throwable> taskAfterExecuteConsumer) {
+        //An async execution settles its own exceptions, so it never fails.
+        if (retryPolicy != null && !(execution instanceof AsyncExecution)) {
+            newExecutorResultIfNull();
 
-        final ExecutorResult timeoutExecutorResult = handleInterruption(future);
-        
+            final RetryExecution retryExecution = new RetryExecution(executor, scoped(execution), name, retryPolicy,
+                    taskAfterExecuteConsumer, executorResult.getRetryMetrics(), mayInterruptIfRunning);
+
+            return retryExecution.start(delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        return executor.schedule(named(scoped(execution)), delayNanos, TimeUnit.NANOSECONDS,
+                taskAfterExecuteConsumer);
+    }
+
+    private Future<?> scheduleCron(final Runnable execution,
+            final BiConsumer<Runnable, Throwable> taskAfterExecuteConsumer) {
         newExecutorResultIfNull();
-        executorResult.getFutures().add(future);
-        executorResult.getTimeoutExecutorResults().add(timeoutExecutorResult);
+
+        final CronExecution cronExecution = new CronExecution(executor, execution, name, cronExpression, cronZone,
+                taskAfterExecuteConsumer, executorResult.getIntervalMetrics(), mayInterruptIfRunning);
+
+        return cronExecution.start(delayNanos, TimeUnit.NANOSECONDS);
     }
 
-    private long handleDelay() {
-        final long localDelay = delay.orElse(Duration.ofMillis(0)).toMillis();
+    private Future<?> scheduleWithInterval(final Runnable execution,
+            final BiConsumer<Runnable, Throwable> taskAfterExecuteConsumer) {
+        newExecutorResultIfNull();
         
-        if (uncaughtExceptionConsumer.isPresent() || afterExecuteConsumer.isPresent()) {
-            return localDelay >= MINIMAL_REQUIRED_DELAY ? localDelay : localDelay + MINIMAL_REQUIRED_DELAY;
+        if (intervalMode == IntervalMode.ADAPTIVE) {
+            final AdaptiveExecution adaptiveExecution = new AdaptiveExecution(executor, execution, name, intervalNanos,
+                    TimeUnit.NANOSECONDS, taskAfterExecuteConsumer, executorResult.getIntervalMetrics(),
+                    mayInterruptIfRunning);
+
+            return adaptiveExecution.start(delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        final Runnable intervalExecution = named(new IntervalExecution(execution, intervalMode, delayNanos,
+                intervalNanos, TimeUnit.NANOSECONDS, executorResult.getIntervalMetrics()));
+
+        if (intervalMode == IntervalMode.FIXED_DELAY) {
+            return executor.scheduleWithFixedDelay(intervalExecution, delayNanos, intervalNanos, TimeUnit.NANOSECONDS,
+                    taskAfterExecuteConsumer);
         } else {
-            return localDelay;
+            return executor.scheduleAtFixedRate(intervalExecution, delayNanos, intervalNanos, TimeUnit.NANOSECONDS,
+                    taskAfterExecuteConsumer);
         }
     }
 
-    private BiConsumer<Runnable, Throwable> handleException(final Future<?> future) {
-        return (a, b) -> {
-            try {
-                if (future.isDone()) future.get();
-            } catch (final InterruptedException | ExecutionException | CancellationException e) {
-                if (isNotSilentOrIsExecutionException(e)) {
-                    uncaughtExceptionConsumer.ifPresent(consumer -> consumer.accept(e));
-                }
+    private void handleException(final Future<?> future) {
+        try {
+            if (future.isDone()) future.get();
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
+            final Consumer<Throwable> uncaughtExceptionConsumer = this.uncaughtExceptionConsumer;
+
+            if (uncaughtExceptionConsumer != null && isNotSilentOrIsExecutionException(e)) {
+                uncaughtExceptionConsumer.accept(e);
             }
-        };
+        }
     }
 
     private boolean isNotSilentOrIsExecutionException(final Exception e) {
@@ -400,20 +869,150 @@ public class ThreadBuilder {
                 || !(e instanceof CancellationException) && !(e instanceof InterruptedException);
     }
 
-    private ExecutorResult handleInterruption(final ScheduledFuture<?> future) {
-        final ScheduledCaughtExecutorService executor = new ScheduledCaughtExecutorService(1);
+    private ExecutorResult handleInterruption(final Future<?> future) {
+        final HashedWheelTimer.Timeout wheelTimeout = getTimeoutTimer()
+                .newTimeout(new TimeoutCancellation(executor, future), timeoutNanos, TimeUnit.NANOSECONDS);
+        
+        final ExecutorResult timeoutExecutorResult = new ExecutorResult(executor);
         
-        executor.addAfterExecuteConsumer(handleException(future));
-        executor.schedule(cancelFuture(future), timeout.get().toMillis(), TimeUnit.MILLISECONDS);
+        timeoutExecutorResult.addFuture(future);
+        timeoutExecutorResult.whenAllDone(wheelTimeout::cancel);
+        
+        return timeoutExecutorResult;
+    }
+
+    private ExecutorResult handleInterruption(final ScheduledCaughtExecutorService executor,
+            final List<Future<?>> futures) {
+        final HashedWheelTimer.Timeout wheelTimeout = getTimeoutTimer()
+                .newTimeout(cancelFutures(executor, futures), timeoutNanos, TimeUnit.NANOSECONDS);
         
         final ExecutorResult timeoutExecutorResult = new ExecutorResult(executor);
         
-        timeoutExecutorResult.getFutures().add(future);
+        futures.forEach(timeoutExecutorResult::addFuture);
+        timeoutExecutorResult.whenAllDone(wheelTimeout::cancel);
         
         return timeoutExecutorResult;
     }
 
-    private Runnable cancelFuture(final ScheduledFuture<?> future) {
-        return () -> {if(!future.isDone() && !future.isCancelled()) future.cancel(mayInterruptIfRunning);};
+    private HashedWheelTimer getTimeoutTimer() {
+        return engine == null ? DefaultTimeoutTimerHolder.TIMEOUT_TIMER : engine.getTimeoutTimer();
+    }
+    
+    private Runnable cancelFutures(final ScheduledCaughtExecutorService executor, final List<Future<?>> futures) {
+        final TimeoutCancellation[] cancellations = new TimeoutCancellation[futures.size()];
+
+        for (int i = 0; i < cancellations.length; i++) {
+            cancellations[i] = new TimeoutCancellation(executor, futures.get(i));
+        }
+
+        return () -> {
+            for (final TimeoutCancellation cancellation : cancellations) {
+                cancellation.run();
+            }
+        };
+    }
+    
+    private BiConsumer<Runnable, Throwable> stopRepetition(final ScheduledCaughtExecutorService executor,
+            final Future<?> future, final CompletableFuture<?> result) {
+        return (runnable, throwable) -> {
+            if (result.isDone() && !future.isDone()) {
+                executor.removeAfterExecuteConsumers(future);
+                future.cancel(false);
+            }
+        };
+    }
+    
+    /**
+     * Cancels a future when its timeout is fired, or its deadline scope is cancelled, and then notifies the
+     * cancellation from the executor as the same task, so a timeout allocates a single object.
+     */
+    private final class TimeoutCancellation implements Runnable {
+        private final ScheduledCaughtExecutorService executor;
+        private final Future<?> future;
+        private boolean cancelled;
+
+        private TimeoutCancellation(final ScheduledCaughtExecutorService executor, final Future<?> future) {
+            this.executor = executor;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                handleException(future);
+            } else if (!future.isDone()) {
+                if (future instanceof CaughtScheduledTask) {
+                    executor.removeAfterExecuteConsumers(future);
+                }
+
+                if (future.cancel(mayInterruptIfRunning)) {
+                    cancelled = true;
+                    notifyCancellation();
+                }
+            }
+        }
+
+        /**
+         * A bounded executor may drop the notification when full, so it is notified by the shared notifier instead,
+         * as the notifications rejected by a finished executor are.
+         */
+        private void notifyCancellation() {
+            if (!executor.isBounded()) {
+                try {
+                    executor.execute(this);
+                    return;
+                } catch (final RejectedExecutionException e) {
+                    //Falls back to the shared notifier.
+                }
+            }
+
+            CancellationNotifierHolder.NOTIFIER.execute(this);
+        }
+    }
+
+    private static final class AsyncExecution<T> implements Runnable {
+        private final Callable<T> callable;
+        private final CompletableFuture<T> result;
+        private final boolean repeated;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private AsyncExecution(final Callable<T> callable, final CompletableFuture<T> result, final boolean repeated) {
+            this.callable = callable;
+            this.result = result;
+            this.repeated = repeated;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+
+            final T value;
+
+            try {
+                value = callable.call();
+            } catch (final RuntimeException | Error e) {
+                settle(e);
+                throw e;
+            } catch (final Exception e) {
+                settle(e);
+                throw new CompletionException(e);
+            }
+
+            if ((!repeated || value != null) && settled.compareAndSet(false, true)) {
+                result.complete(value);
+            }
+        }
+
+        private void settle(final Throwable throwable) {
+            if (settled.compareAndSet(false, true)) {
+                result.completeExceptionally(throwable);
+            }
+        }
+
+        private boolean isSettled() {
+            return settled.get();
+        }
     }
 }
@@ -26,6 +26,14 @@ public class ThreadUtil {
         }
     }
     
+    /**
+     * @return true if the current runtime supports virtual threads (JDK 21+).
+     * @see thread.CaughtExecutorThreadFactory#isVirtual()
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.isSupported();
+    }
+    
     /**
      * @param relativePath the resource relative path.
      * @return The input stream found or null if not found.
@@ -0,0 +1,78 @@
+package thread;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runtime probe of the virtual threads (JDK 21+). The JDK methods are reached by reflection, so this library still
+ * runs on the JDK 1.8 baseline, where no virtual thread is available.
+ *
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+final class VirtualThreads {
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        ThreadFactory virtualThreadFactory = null;
+        Method newThreadPerTaskExecutor = null;
+
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+
+            virtualThreadFactory = (ThreadFactory) factory.invoke(builder);
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            virtualThreadFactory = null;
+            newThreadPerTaskExecutor = null;
+        }
+
+        VIRTUAL_THREAD_FACTORY = virtualThreadFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {}
+
+    /**
+     * @return true if the current runtime supports virtual threads.
+     */
+    static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * @param runnable the runnable to be executed by the new thread.
+     * @return a new unstarted virtual thread.
+     * @throws UnsupportedOperationException if the current runtime does not support virtual threads.
+     */
+    static Thread newThread(final Runnable runnable) {
+        requireSupport();
+
+        return VIRTUAL_THREAD_FACTORY.newThread(runnable);
+    }
+
+    /**
+     * @param threadFactory the factory of the thread started for each task.
+     * @return an executor which starts a new thread for each task.
+     * @throws UnsupportedOperationException if the current runtime does not support virtual threads.
+     */
+    static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        requireSupport();
+
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void requireSupport() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later");
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package thread;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class AdmissionControlTest {
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void rejectBeyondConcurrencyLimit() throws Exception {
+        final AdmissionControl admissionControl = AdmissionControl.newBuilder().setConcurrencyLimit(2).build();
+        final ThreadBuilder builder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setDelay(TimeUnit.DAYS.toMillis(1))
+                .setExecution(() -> {});
+        final ExecutorResult result = builder.startAndBuildOther().start();
+
+        try {
+            builder.start();
+            Assert.fail("The execution should not be admitted");
+        } catch (final RejectedExecutionException e) {
+            Assert.assertEquals(2, admissionControl.getInFlightCount());
+        }
+
+        Assert.assertEquals(2, admissionControl.getAdmittedCount());
+        Assert.assertEquals(1, admissionControl.getRejectedCount());
+        Assert.assertEquals(2, engine.getExecutor().getQueue().size());
+
+        result.getFutures().get(0).cancel(false);
+
+        builder.start();
+
+        Assert.assertEquals(3, admissionControl.getAdmittedCount());
+    }
+
+    @Test
+    public void releasePermitWhenDone() throws Exception {
+        final AdmissionControl admissionControl = AdmissionControl.newBuilder().setConcurrencyLimit(1).build();
+        final ThreadBuilder builder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> {});
+
+        for (int i = 0; i < 100; i++) {
+            builder.start().allDone().get(5, TimeUnit.SECONDS);
+        }
+
+        Assert.assertEquals(100, admissionControl.getAdmittedCount());
+        Assert.assertEquals(0, admissionControl.getInFlightCount());
+    }
+
+    @Test
+    public void blockUntilPermitIsReleased() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AdmissionControl admissionControl = AdmissionControl
+                .newBuilder()
+                .setConcurrencyLimit(1)
+                .setPolicy(AdmissionPolicy.BLOCK)
+                .build();
+
+        ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> await(latch))
+                .start();
+
+        final ThreadBuilder blockedBuilder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> {});
+
+        ThreadBuilder.newBuilder(engine).setDelay(100).setExecution(latch::countDown).start();
+
+        final long startTime = System.nanoTime();
+
+        blockedBuilder.start().allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(System.nanoTime() - startTime, Matchers.greaterThan(TimeUnit.MILLISECONDS.toNanos(50)));
+        Assert.assertEquals(0, admissionControl.getRejectedCount());
+    }
+
+    @Test
+    public void shedOldestExecution() {
+        final AdmissionControl admissionControl = AdmissionControl
+                .newBuilder()
+                .setConcurrencyLimit(2)
+                .setPolicy(AdmissionPolicy.SHED_OLDEST)
+                .build();
+        final ThreadBuilder builder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setDelay(TimeUnit.DAYS.toMillis(1))
+                .setExecution(() -> {});
+        final ExecutorResult result = builder.startAndBuildOther().startAndBuildOther().start();
+
+        Assert.assertTrue(result.getFutures().get(0).isCancelled());
+        Assert.assertFalse(result.getFutures().get(1).isCancelled());
+        Assert.assertFalse(result.getFutures().get(2).isCancelled());
+        Assert.assertEquals(3, admissionControl.getAdmittedCount());
+        Assert.assertEquals(1, admissionControl.getShedCount());
+        Assert.assertEquals(2, admissionControl.getInFlightCount());
+    }
+
+    @Test
+    public void neverShedRunningExecutions() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AdmissionControl admissionControl = AdmissionControl
+                .newBuilder()
+                .setConcurrencyLimit(1)
+                .setPolicy(AdmissionPolicy.SHED_OLDEST)
+                .build();
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> {
+                    started.countDown();
+                    await(latch);
+                })
+                .start();
+
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        try {
+            ThreadBuilder.newBuilder(engine).setAdmissionControl(admissionControl).setExecution(() -> {}).start();
+            Assert.fail("The execution should not be admitted");
+        } catch (final RejectedExecutionException e) {
+            Assert.assertFalse(result.getFutures().get(0).isCancelled());
+        }
+
+        latch.countDown();
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(0, admissionControl.getShedCount());
+        Assert.assertEquals(1, result.getCompletedCount());
+    }
+
+    @Test
+    public void unlinkDoneExecutionsLazily() throws Exception {
+        final AdmissionControl admissionControl = AdmissionControl
+                .newBuilder()
+                .setConcurrencyLimit(4)
+                .setPolicy(AdmissionPolicy.SHED_OLDEST)
+                .build();
+        final ThreadBuilder builder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> {});
+
+        for (int i = 0; i < 1000; i++) {
+            builder.start().allDone().get(5, TimeUnit.SECONDS);
+        }
+
+        Assert.assertThat(admissionControl.getTrackedFutureCount(), Matchers.lessThanOrEqualTo(2 * 4));
+        Assert.assertEquals(0, admissionControl.getShedCount());
+        Assert.assertEquals(0, admissionControl.getInFlightCount());
+    }
+
+    @Test
+    public void limitRate() {
+        final AdmissionControl admissionControl = AdmissionControl.newBuilder().setRateLimit(1, 3).build();
+        final ThreadBuilder builder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> {});
+        int admitted = 0;
+
+        for (int i = 0; i < 10; i++) {
+            try {
+                builder.start();
+                admitted++;
+            } catch (final RejectedExecutionException e) {
+                // Expected once the burst is taken.
+            }
+        }
+
+        Assert.assertEquals(3, admitted);
+        Assert.assertEquals(3, admissionControl.getAdmittedCount());
+        Assert.assertEquals(7, admissionControl.getRejectedCount());
+    }
+
+    @Test
+    public void blockUntilTokenIsAvailable() {
+        final AdmissionControl admissionControl = AdmissionControl
+                .newBuilder()
+                .setRateLimit(20, 1)
+                .setPolicy(AdmissionPolicy.BLOCK)
+                .build();
+        final ThreadBuilder builder = ThreadBuilder
+                .newBuilder(engine)
+                .setAdmissionControl(admissionControl)
+                .setExecution(() -> {});
+        final long startTime = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            builder.start();
+        }
+
+        Assert.assertThat(System.nanoTime() - startTime,
+                Matchers.greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200)));
+        Assert.assertEquals(5, admissionControl.getAdmittedCount());
+    }
+
+    @Test
+    public void admitEveryExecutionOfBatch() {
+        final AdmissionControl admissionControl = AdmissionControl.newBuilder().setConcurrencyLimit(3).build();
+
+        try {
+            ThreadBuilder
+                    .newBuilder(engine)
+                    .setAdmissionControl(admissionControl)
+                    .setDelay(TimeUnit.DAYS.toMillis(1))
+                    .startAll(Collections.nCopies(5, () -> {}));
+            Assert.fail("The fourth execution should not be admitted");
+        } catch (final RejectedExecutionException e) {
+            Assert.assertEquals(3, admissionControl.getAdmittedCount());
+            Assert.assertEquals(3, engine.getExecutor().getQueue().size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidRate() {
+        AdmissionControl.newBuilder().setRateLimit(0, 1);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
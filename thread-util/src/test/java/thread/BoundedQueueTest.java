@@ -0,0 +1,255 @@
+package thread;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class BoundedQueueTest {
+    private ScheduledCaughtExecutorService executor;
+
+    @After
+    public void afterTests() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private ScheduledCaughtExecutorService newExecutor(final BackpressurePolicy policy) {
+        return newExecutor(policy, Duration.ofMillis(50));
+    }
+
+    private ScheduledCaughtExecutorService newExecutor(final BackpressurePolicy policy, final Duration blockTimeout) {
+        executor = new ScheduledCaughtExecutorService(1, Executors.defaultThreadFactory(), 2, policy, blockTimeout);
+
+        return executor;
+    }
+
+    @Test
+    public void dropNewest() {
+        newExecutor(BackpressurePolicy.DROP_NEWEST);
+
+        final ScheduledFuture<?> first = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        final ScheduledFuture<?> second = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        final ScheduledFuture<?> third = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+
+        Assert.assertFalse(first.isCancelled());
+        Assert.assertFalse(second.isCancelled());
+        Assert.assertTrue(third.isCancelled());
+        Assert.assertEquals(1, executor.getDroppedCount());
+        Assert.assertEquals(2, executor.getQueuedCount());
+    }
+
+    @Test
+    public void dropOldest() {
+        newExecutor(BackpressurePolicy.DROP_OLDEST);
+
+        final ScheduledFuture<?> first = executor.schedule(() -> {}, 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> second = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        final ScheduledFuture<?> third = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+
+        Assert.assertTrue(first.isCancelled());
+        Assert.assertFalse(second.isCancelled());
+        Assert.assertFalse(third.isCancelled());
+        Assert.assertEquals(1, executor.getDroppedCount());
+        Assert.assertEquals(2, executor.getQueuedCount());
+    }
+
+    @Test
+    public void callerRuns() throws Exception {
+        final AtomicReference<Thread> executionThread = new AtomicReference<>();
+
+        newExecutor(BackpressurePolicy.CALLER_RUNS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+
+        final ScheduledFuture<?> third = executor.schedule(() -> executionThread.set(Thread.currentThread()), 1,
+                TimeUnit.DAYS);
+
+        Assert.assertTrue(third.isDone());
+        Assert.assertNull(third.get());
+        Assert.assertSame(Thread.currentThread(), executionThread.get());
+        Assert.assertEquals(1, executor.getCallerRunsCount());
+    }
+
+    @Test
+    public void callerRunsDropRepeatingTasks() {
+        newExecutor(BackpressurePolicy.CALLER_RUNS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+
+        final ScheduledFuture<?> repeating = executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.DAYS);
+
+        Assert.assertTrue(repeating.isCancelled());
+        Assert.assertEquals(2, executor.getQueue().size());
+        Assert.assertEquals(0, executor.getCallerRunsCount());
+        Assert.assertEquals(1, executor.getDroppedCount());
+    }
+
+    @Test
+    public void dropOldestOneShotTasksOnly() {
+        newExecutor(BackpressurePolicy.DROP_OLDEST);
+
+        final ScheduledFuture<?> repeating = executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> first = executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        final ScheduledFuture<?> second = executor.schedule(() -> {}, 2, TimeUnit.DAYS);
+        final ScheduledFuture<?> third = executor.scheduleWithFixedDelay(() -> {}, 1, 1, TimeUnit.HOURS);
+        final ScheduledFuture<?> fourth = executor.scheduleWithFixedDelay(() -> {}, 1, 1, TimeUnit.HOURS);
+
+        Assert.assertFalse(repeating.isCancelled());
+        Assert.assertTrue(first.isCancelled());
+        Assert.assertTrue(second.isCancelled());
+        Assert.assertFalse(third.isCancelled());
+        Assert.assertTrue(fourth.isCancelled());
+        Assert.assertEquals(3, executor.getDroppedCount());
+        Assert.assertEquals(2, executor.getQueuedCount());
+    }
+
+    @Test
+    public void blockUntilRoom() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        newExecutor(BackpressurePolicy.BLOCK, Duration.ofSeconds(5));
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.schedule(() -> {}, 20, TimeUnit.MILLISECONDS);
+
+        final ScheduledFuture<?> third = executor.schedule(release::countDown, 0, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(release.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(third.isCancelled());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void blockThenReject() {
+        newExecutor(BackpressurePolicy.BLOCK);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+    }
+
+    @Test
+    public void countRepeatingTasksUntilCancelled() {
+        newExecutor(BackpressurePolicy.DROP_NEWEST);
+
+        final ScheduledFuture<?> first = executor.scheduleWithFixedDelay(() -> {}, 1, 1, TimeUnit.DAYS);
+
+        executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.DAYS);
+
+        Assert.assertTrue(executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.DAYS).isCancelled());
+
+        first.cancel(false);
+
+        Assert.assertFalse(executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.DAYS).isCancelled());
+    }
+
+    @Test
+    public void recordHighWaterMark() {
+        newExecutor(BackpressurePolicy.DROP_NEWEST);
+
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS).cancel(false);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS);
+        executor.schedule(() -> {}, 1, TimeUnit.DAYS).cancel(false);
+
+        Assert.assertEquals(2, executor.getQueueHighWaterMark());
+        Assert.assertEquals(1, executor.getQueuedCount());
+        Assert.assertEquals(2, executor.getQueueCapacity());
+        Assert.assertTrue(executor.isBounded());
+    }
+
+    @Test
+    public void runBoundedEngine() throws Exception {
+        try (final SchedulerEngine engine = SchedulerEngine.newBoundedEngine(1, 4, BackpressurePolicy.BLOCK)) {
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder(engine)
+                    .setExecution(() -> {})
+                    .start();
+
+            result.allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(4, engine.getExecutor().getQueueCapacity());
+            Assert.assertThat(engine.getExecutor().getQueueHighWaterMark(), Matchers.greaterThan(0));
+        }
+    }
+
+    private static void retryInTheSlotOfTheFailedAttempt(final BackpressurePolicy policy) throws Exception {
+        try (final SchedulerEngine engine = SchedulerEngine.newBoundedEngine(1, 1, policy)) {
+            final AtomicInteger attempts = new AtomicInteger();
+            final long start = System.nanoTime();
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder(engine)
+                    .setRetryPolicy(RetryPolicy
+                            .newBuilder()
+                            .setMaxAttempts(3)
+                            .setBackoff(Duration.ofMillis(50), Duration.ofMillis(50))
+                            .build())
+                    .setExecution(() -> {
+                        attempts.incrementAndGet();
+                        throw new IllegalStateException("retry");
+                    })
+                    .start();
+
+            result.allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(3, attempts.get());
+            Assert.assertEquals(2, result.getRetryMetrics().getRetries());
+            Assert.assertEquals(0, engine.getExecutor().getCallerRunsCount());
+            Assert.assertThat(System.nanoTime() - start,
+                    Matchers.greaterThanOrEqualTo(result.getRetryMetrics().getTotalBackoff(TimeUnit.NANOSECONDS)));
+        }
+    }
+
+    @Test
+    public void retryOnBlockingEngines() throws Exception {
+        retryInTheSlotOfTheFailedAttempt(BackpressurePolicy.BLOCK);
+    }
+
+    @Test
+    public void retryOnCallerRunsEngines() throws Exception {
+        retryInTheSlotOfTheFailedAttempt(BackpressurePolicy.CALLER_RUNS);
+    }
+
+    @Test
+    public void notifyTimeoutsOutOfTheTimerThread() throws Exception {
+        try (final SchedulerEngine engine = SchedulerEngine.newBoundedEngine(1, 4, BackpressurePolicy.DROP_NEWEST)) {
+            final CompletableFuture<String> notifyingThread = new CompletableFuture<>();
+
+            ThreadBuilder
+                    .newBuilder(engine)
+                    .setDelay(60_000)
+                    .setTimeout(50)
+                    .setUncaughtExceptionConsumer(e -> notifyingThread.complete(Thread.currentThread().getName()))
+                    .setExecution(() -> {})
+                    .start();
+
+            Assert.assertThat(notifyingThread.get(5, TimeUnit.SECONDS),
+                    Matchers.startsWith("timeout-cancellation-notifier"));
+        }
+    }
+
+    @Test
+    public void keepUnboundedByDefault() {
+        executor = new ScheduledCaughtExecutorService(1);
+
+        Assert.assertFalse(executor.isBounded());
+        Assert.assertEquals(Integer.MAX_VALUE, executor.getQueueCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidCapacity() {
+        new ScheduledCaughtExecutorService(1, Executors.defaultThreadFactory(), 0, BackpressurePolicy.BLOCK);
+    }
+}
@@ -0,0 +1,181 @@
+package thread;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class CaughtExecutorThreadFactoryTest {
+    private static final String GROUP = "test";
+
+    @After
+    public void afterTests() {
+        PinningGroup.shutdownAll();
+    }
+
+    @Test
+    public void defaultThreadsAreNamedAndNotDaemon() {
+        final CaughtExecutorThreadFactory threadFactory = new CaughtExecutorThreadFactory(null);
+        final Thread thread = threadFactory.newThread(() -> {});
+
+        Assert.assertTrue(thread.getName().startsWith(CaughtExecutorThreadFactory.DEFAULT_NAME_PREFIX));
+        Assert.assertTrue(thread.getName().endsWith("-thread-1"));
+        Assert.assertFalse(thread.isDaemon());
+        Assert.assertEquals(Thread.NORM_PRIORITY, thread.getPriority());
+    }
+
+    @Test
+    public void configureThreads() {
+        final ThreadGroup threadGroup = new ThreadGroup("workers");
+        final CaughtExecutorThreadFactory threadFactory = CaughtExecutorThreadFactory
+                .newBuilder()
+                .setNamePattern("worker-%02d")
+                .setDaemon(true)
+                .setPriority(Thread.MAX_PRIORITY)
+                .setThreadGroup(threadGroup)
+                .setStackSize(1 << 20)
+                .build();
+
+        threadFactory.newThread(() -> {});
+
+        final Thread thread = threadFactory.newThread(() -> {});
+
+        Assert.assertEquals("worker-02", thread.getName());
+        Assert.assertTrue(thread.isDaemon());
+        Assert.assertEquals(Thread.MAX_PRIORITY, thread.getPriority());
+        Assert.assertSame(threadGroup, thread.getThreadGroup());
+        Assert.assertEquals(2, threadFactory.getCreatedCount());
+    }
+
+    @Test
+    public void namePrefixIsNotAPattern() {
+        final Thread thread = CaughtExecutorThreadFactory
+                .newBuilder()
+                .setNamePrefix("100%")
+                .build()
+                .newThread(() -> {});
+
+        Assert.assertEquals("100%-1", thread.getName());
+    }
+
+    @Test
+    public void nameThreadsByTheTextAroundTheNumber() {
+        final CaughtExecutorThreadFactory threadFactory = CaughtExecutorThreadFactory
+                .newBuilder()
+                .setNamePattern("pool-%d-%%-worker")
+                .build();
+
+        threadFactory.newThread(() -> {});
+
+        Assert.assertEquals("pool-2-%-worker", threadFactory.newThread(() -> {}).getName());
+        Assert.assertEquals("constant", CaughtExecutorThreadFactory
+                .newBuilder()
+                .setNamePattern("constant")
+                .build()
+                .newThread(() -> {})
+                .getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidNamePattern() {
+        CaughtExecutorThreadFactory.newBuilder().setNamePattern("worker-%s-%s");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidPriority() {
+        CaughtExecutorThreadFactory.newBuilder().setPriority(Thread.MAX_PRIORITY + 1);
+    }
+
+    @Test
+    public void countAliveThreads() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CaughtExecutorThreadFactory threadFactory = new CaughtExecutorThreadFactory(null);
+        final Thread thread = threadFactory.newThread(() -> await(latch));
+
+        Assert.assertEquals(0, threadFactory.getAliveCount());
+
+        thread.start();
+        waitFor(() -> threadFactory.getAliveCount() == 1);
+        latch.countDown();
+        thread.join(5000);
+
+        Assert.assertEquals(0, threadFactory.getAliveCount());
+        Assert.assertEquals(1, threadFactory.getCreatedCount());
+    }
+
+    @Test
+    public void builderNamesDaemonThreads() throws Exception {
+        final AtomicReference<Thread> executionThread = new AtomicReference<>();
+
+        ThreadBuilder
+                .newBuilder()
+                .setName("poller")
+                .setDaemon(true)
+                .setExecution(() -> executionThread.set(Thread.currentThread()))
+                .start()
+                .allDone()
+                .get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals("poller-1", executionThread.get().getName());
+        Assert.assertTrue(executionThread.get().isDaemon());
+    }
+
+    @Test
+    public void pinningGroupHasDedicatedThreads() throws Exception {
+        final SchedulerEngine engine = PinningGroup.getEngine(GROUP, 2);
+        final CaughtExecutorThreadFactory threadFactory =
+                (CaughtExecutorThreadFactory) engine.getExecutor().getThreadFactory();
+        final AtomicReference<Thread> executionThread = new AtomicReference<>();
+
+        Assert.assertSame(engine, PinningGroup.getEngine(GROUP));
+        Assert.assertEquals(2, threadFactory.getCreatedCount());
+
+        ThreadBuilder
+                .newBuilder(engine)
+                .setExecution(() -> executionThread.set(Thread.currentThread()))
+                .start()
+                .allDone()
+                .get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue(executionThread.get().getName().startsWith("pin-" + GROUP + "-"));
+        Assert.assertTrue(executionThread.get().isDaemon());
+        Assert.assertEquals(Thread.MAX_PRIORITY, executionThread.get().getPriority());
+        Assert.assertEquals(2, threadFactory.getCreatedCount());
+    }
+
+    @Test
+    public void shutdownPinningGroup() {
+        final SchedulerEngine engine = PinningGroup.getEngine(GROUP);
+
+        Assert.assertTrue(PinningGroup.getGroups().contains(GROUP));
+        Assert.assertTrue(PinningGroup.shutdown(GROUP));
+        Assert.assertTrue(engine.isShutdown());
+        Assert.assertFalse(PinningGroup.getGroups().contains(GROUP));
+        Assert.assertFalse(PinningGroup.shutdown(GROUP));
+        Assert.assertNotSame(engine, PinningGroup.getEngine(GROUP));
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
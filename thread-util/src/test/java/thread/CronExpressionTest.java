@@ -0,0 +1,149 @@
+package thread;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class CronExpressionTest {
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    private static ZonedDateTime at(final int year, final int month, final int day, final int hour, final int minute,
+            final int second) {
+        return ZonedDateTime.of(year, month, day, hour, minute, second, 0, UTC);
+    }
+
+    @Test
+    public void fireEveryFiveMinutesOnWeekdays() {
+        final CronExpression cron = CronExpression.parse("*/5 * * * MON-FRI");
+
+        //2026-10-16 is a Friday.
+        Assert.assertEquals(at(2026, 10, 16, 10, 5, 0), cron.next(at(2026, 10, 16, 10, 0, 0)));
+        Assert.assertEquals(at(2026, 10, 16, 10, 5, 0), cron.next(at(2026, 10, 16, 10, 3, 59)));
+        Assert.assertEquals(at(2026, 10, 19, 0, 0, 0), cron.next(at(2026, 10, 16, 23, 55, 0)));
+    }
+
+    @Test
+    public void fireBySeconds() {
+        final CronExpression cron = CronExpression.parse("15,45 30 9 * * *");
+
+        Assert.assertEquals(at(2026, 10, 15, 9, 30, 15), cron.next(at(2026, 10, 15, 8, 0, 0)));
+        Assert.assertEquals(at(2026, 10, 15, 9, 30, 45), cron.next(at(2026, 10, 15, 9, 30, 15)));
+        Assert.assertEquals(at(2026, 10, 16, 9, 30, 15), cron.next(at(2026, 10, 15, 9, 30, 45)));
+    }
+
+    @Test
+    public void fireOnDayOfMonthOrDayOfWeek() {
+        final CronExpression cron = CronExpression.parse("0 12 13 * FRI");
+
+        //2026-10-13 is a Tuesday and 2026-10-16 is a Friday.
+        Assert.assertEquals(at(2026, 10, 13, 12, 0, 0), cron.next(at(2026, 10, 12, 0, 0, 0)));
+        Assert.assertEquals(at(2026, 10, 16, 12, 0, 0), cron.next(at(2026, 10, 13, 12, 0, 0)));
+    }
+
+    @Test
+    public void fireOnMonthNamesAndMacros() {
+        Assert.assertEquals(at(2027, 1, 1, 0, 0, 0), CronExpression.parse("@yearly").next(at(2026, 10, 15, 0, 0, 0)));
+        Assert.assertEquals(at(2026, 12, 1, 0, 0, 0), CronExpression.parse("0 0 1 dec *")
+                .next(at(2026, 10, 15, 0, 0, 0)));
+        Assert.assertEquals(at(2026, 10, 18, 0, 0, 0), CronExpression.parse("0 0 * * 7")
+                .next(at(2026, 10, 15, 0, 0, 0)));
+    }
+
+    @Test
+    public void fireOnLeapDay() {
+        Assert.assertEquals(at(2028, 2, 29, 0, 0, 0), CronExpression.parse("0 0 29 2 *")
+                .next(at(2026, 10, 15, 0, 0, 0)));
+    }
+
+    @Test
+    public void neverFireOnMissingDay() {
+        Assert.assertNull(CronExpression.parse("0 0 30 2 *").next(at(2026, 10, 15, 0, 0, 0)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectOutOfRangeValue() {
+        CronExpression.parse("60 * * * *");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidFieldCount() {
+        CronExpression.parse("* * *");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidStep() {
+        CronExpression.parse("*/0 * * * *");
+    }
+
+    @Test
+    public void startByCronSchedule() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final CompletableFuture<Void> secondExecution = new CompletableFuture<>();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setCron("* * * * * *")
+                .setExecution(() -> {
+                    if (executions.incrementAndGet() == 2) {
+                        secondExecution.complete(null);
+                    }
+                })
+                .start();
+
+        secondExecution.get(5, TimeUnit.SECONDS);
+        result.shutdown(ExecutorResult.DEFAULT_SHUTDOWN_TIMEOUT);
+
+        Assert.assertThat(result.getIntervalMetrics().getExecutedTicks(), Matchers.greaterThanOrEqualTo(2L));
+        Assert.assertEquals(1, result.getCancelledCount());
+    }
+
+    @Test
+    public void stopCronScheduleByException() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final CompletableFuture<Throwable> exception = new CompletableFuture<>();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setCron("* * * * * *")
+                .setUncaughtExceptionConsumer(exception::complete)
+                .setExecution(() -> {
+                    executions.incrementAndGet();
+                    throw new IllegalStateException("cron");
+                })
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, executions.get());
+        Assert.assertEquals(1, result.getFailedCount());
+        Assert.assertThat(exception.get(5, TimeUnit.SECONDS), Matchers.instanceOf(ExecutionException.class));
+    }
+
+    @Test
+    public void cancelCronScheduleByTimeout() throws Exception {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setCron("0 0 1 1 *")
+                .setTimeout(100)
+                .setSilentInterruption(true)
+                .setExecution(() -> {})
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, result.getCancelledCount());
+        Assert.assertEquals(0, result.getIntervalMetrics().getExecutedTicks());
+    }
+}
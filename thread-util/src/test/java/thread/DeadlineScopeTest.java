@@ -0,0 +1,245 @@
+package thread;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class DeadlineScopeTest {
+    private static final long FAR_AWAY = TimeUnit.MINUTES.toMillis(1);
+
+    @Test
+    public void cancelChildrenByParentDeadline() throws Exception {
+        final CompletableFuture<ExecutorResult> childResult = new CompletableFuture<>();
+
+        try (final DeadlineScope scope = DeadlineScope.open(Duration.ofMillis(200))) {
+            final ExecutorResult parentResult = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(scope)
+                    .setMayInterruptIfRunning(true)
+                    .setSilentInterruption(true)
+                    .setExecution(() -> {
+                        childResult.complete(ThreadBuilder
+                                .newBuilder()
+                                .setDeadlineScope(scope.newChild())
+                                .setDelay(FAR_AWAY)
+                                .setSilentInterruption(true)
+                                .setExecution(() -> {})
+                                .start());
+
+                        ThreadUtil.sleepUnchecked(FAR_AWAY);
+                    })
+                    .start();
+
+            parentResult.allDone().get(5, TimeUnit.SECONDS);
+            childResult.get(5, TimeUnit.SECONDS).allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertTrue(scope.isCancelled());
+            Assert.assertEquals(1, parentResult.getCancelledCount());
+            Assert.assertEquals(1, childResult.get().getCancelledCount());
+        }
+    }
+
+    @Test
+    public void cancelSubTasksByParentTimeout() throws Exception {
+        final CompletableFuture<ExecutorResult> childResult = new CompletableFuture<>();
+
+        try (final DeadlineScope scope = DeadlineScope.open()) {
+            final ExecutorResult parentResult = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(scope)
+                    .setTimeout(200)
+                    .setMayInterruptIfRunning(true)
+                    .setSilentInterruption(true)
+                    .setExecution(() -> {
+                        childResult.complete(ThreadBuilder
+                                .newBuilder()
+                                .setDelay(FAR_AWAY)
+                                .setSilentInterruption(true)
+                                .setExecution(() -> {})
+                                .start());
+                        ThreadUtil.sleepUnchecked(FAR_AWAY);
+                    })
+                    .start();
+
+            parentResult.allDone().get(5, TimeUnit.SECONDS);
+            childResult.get(5, TimeUnit.SECONDS).allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(1, parentResult.getCancelledCount());
+            Assert.assertEquals(1, childResult.get().getCancelledCount());
+            Assert.assertFalse(scope.isCancelled());
+        }
+    }
+
+    @Test
+    public void exposeTheScopeOfTheRunningExecution() throws Exception {
+        final CompletableFuture<DeadlineScope> current = new CompletableFuture<>();
+        final CompletableFuture<ExecutorResult> unscopedResult = new CompletableFuture<>();
+
+        try (final DeadlineScope scope = DeadlineScope.open()) {
+            ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(scope)
+                    .setExecution(() -> {
+                        current.complete(DeadlineScope.current().orElse(null));
+                        unscopedResult.complete(ThreadBuilder
+                                .newBuilder()
+                                .setDeadlineScope(null)
+                                .setDelay(100)
+                                .setExecution(() -> {})
+                                .start());
+                    })
+                    .start();
+
+            Assert.assertSame(scope, current.get(5, TimeUnit.SECONDS));
+        }
+
+        unscopedResult.get(5, TimeUnit.SECONDS).allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, unscopedResult.get().getCompletedCount());
+        Assert.assertFalse(DeadlineScope.current().isPresent());
+    }
+
+    @Test
+    public void releaseTheScopesOfDoneStarts() throws Exception {
+        try (final DeadlineScope scope = DeadlineScope.open()) {
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(scope)
+                    .setTimeout(FAR_AWAY)
+                    .setExecution(() -> {})
+                    .startAndBuildOther()
+                    .start();
+
+            result.allDone().get(5, TimeUnit.SECONDS);
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (scope.getChildCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            Assert.assertEquals(0, scope.getChildCount());
+            Assert.assertEquals(2, result.getCompletedCount());
+        }
+    }
+
+    @Test
+    public void inheritRemainingDeadline() {
+        try (final DeadlineScope scope = DeadlineScope.open(Duration.ofSeconds(1))) {
+            final Duration inherited = scope.newChild(Duration.ofMinutes(1)).getRemaining().get();
+            final Duration shortened = scope.newChild(Duration.ofMillis(100)).getRemaining().get();
+
+            Assert.assertThat(inherited, Matchers.lessThanOrEqualTo(Duration.ofSeconds(1)));
+            Assert.assertThat(shortened, Matchers.lessThanOrEqualTo(Duration.ofMillis(100)));
+            Assert.assertFalse(DeadlineScope.open().getRemaining().isPresent());
+        }
+    }
+
+    @Test
+    public void neverCancelByHugeDeadlines() throws Exception {
+        try (final DeadlineScope scope = DeadlineScope.open(Duration.ofDays(400_000))) {
+            final DeadlineScope child = scope.newChild(Duration.ofDays(800_000));
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(child)
+                    .setTimeout(Long.MAX_VALUE)
+                    .setDelay(100)
+                    .setExecution(() -> {})
+                    .start();
+
+            result.allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(1, result.getCompletedCount());
+            Assert.assertFalse(scope.isCancelled());
+            Assert.assertFalse(child.isCancelled());
+            Assert.assertThat(child.getRemaining().get(), Matchers.greaterThan(Duration.ofDays(100)));
+        }
+    }
+
+    @Test
+    public void cancelChildDeadlineOnly() throws Exception {
+        try (final DeadlineScope scope = DeadlineScope.open()) {
+            final DeadlineScope child = scope.newChild(Duration.ofMillis(50));
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(child)
+                    .setDelay(FAR_AWAY)
+                    .setSilentInterruption(true)
+                    .setExecution(() -> {})
+                    .start();
+
+            result.allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertTrue(child.isCancelled());
+            Assert.assertFalse(scope.isCancelled());
+        }
+    }
+
+    @Test
+    public void cancelGroupByClosing() throws Exception {
+        final ExecutorResult result;
+
+        try (final DeadlineScope scope = DeadlineScope.open()) {
+            result = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(scope)
+                    .setDelay(FAR_AWAY)
+                    .setSilentInterruption(true)
+                    .setExecution(() -> {})
+                    .startAndBuildOther()
+                    .setDeadlineScope(scope.newChild())
+                    .start();
+        }
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(2, result.getCancelledCount());
+    }
+
+    @Test
+    public void cancelExecutionStartedAfterCancellation() throws Exception {
+        final DeadlineScope scope = DeadlineScope.open();
+
+        scope.cancel();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setDeadlineScope(scope.newChild())
+                .setDelay(FAR_AWAY)
+                .setSilentInterruption(true)
+                .setExecution(() -> {})
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, result.getCancelledCount());
+    }
+
+    @Test
+    public void observeScopesAsTree() {
+        try (final DeadlineScope scope = DeadlineScope.open()) {
+            final DeadlineScope child = scope.newChild();
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder()
+                    .setDeadlineScope(child)
+                    .setDelay(FAR_AWAY)
+                    .setTimeout(FAR_AWAY)
+                    .setExecution(() -> {})
+                    .startAndBuildOther()
+                    .start();
+
+            Assert.assertThat(result.getTimeoutExecutorResults(), Matchers.contains(child.getResult()));
+            Assert.assertThat(scope.getResult().getTimeoutExecutorResults(), Matchers.contains(child.getResult()));
+            Assert.assertEquals(2, child.getResult().getTimeoutExecutorResults().size());
+            Assert.assertEquals(2, child.getResult().getPendingCount());
+        }
+    }
+}
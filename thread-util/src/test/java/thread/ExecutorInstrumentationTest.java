@@ -0,0 +1,142 @@
+package thread;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ExecutorInstrumentationTest {
+    private SchedulerEngine engine;
+    private ExecutorInstrumentation instrumentation;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+        instrumentation = new ExecutorInstrumentation();
+        engine.getExecutor().setInstrumentation(instrumentation);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+        instrumentation.unregisterMBean();
+    }
+
+    @Test
+    public void recordLatenciesByTaskName() throws Exception {
+        ThreadBuilder
+            .newBuilder(engine)
+            .setName("sleeper")
+            .setExecution(() -> ThreadUtil.sleepUnchecked(50))
+            .start()
+            .allDone()
+            .get(5, TimeUnit.SECONDS);
+        ThreadBuilder.newBuilder(engine).setExecution(() -> {}).start().allDone().get(5, TimeUnit.SECONDS);
+
+        final ExecutorInstrumentation.TaskMetrics sleeper = instrumentation.getTaskMetrics("sleeper");
+
+        Assert.assertEquals(1, sleeper.getRunTime().getCount());
+        Assert.assertEquals(1, sleeper.getQueueWait().getCount());
+        Assert.assertEquals(0, sleeper.getSchedulingLag().getCount());
+        Assert.assertThat(sleeper.getRunTime().getValueAtPercentile(50, TimeUnit.MILLISECONDS),
+                Matchers.greaterThanOrEqualTo(48L));
+        Assert.assertEquals(1, instrumentation.getTaskMetrics(ExecutorInstrumentation.DEFAULT_TASK_NAME)
+                .getRunTime().getCount());
+    }
+
+    @Test
+    public void recordSchedulingLagOfPeriodicTasks() {
+        ThreadBuilder
+            .newBuilder(engine)
+            .setName("ticker")
+            .setInterval(10)
+            .setTimeout(200)
+            .setSilentInterruption(true)
+            .setExecution(() -> {})
+            .start();
+
+        ThreadUtil.sleepUnchecked(300);
+
+        final ExecutorInstrumentation.TaskMetrics ticker = instrumentation.getTaskMetrics("ticker");
+
+        Assert.assertThat(ticker.getSchedulingLag().getCount(), Matchers.greaterThan(5L));
+        Assert.assertEquals(ticker.getRunTime().getCount(), ticker.getSchedulingLag().getCount());
+        Assert.assertEquals(0, ticker.getQueueWait().getCount());
+    }
+
+    @Test
+    public void trackGaugesAndRejections() {
+        ThreadBuilder.newBuilder(engine).setDelay(60_000).setExecution(() -> {}).start();
+
+        Assert.assertEquals(1, instrumentation.snapshot().getQueueDepth());
+
+        engine.shutdown();
+
+        try {
+            engine.getExecutor().execute(() -> {});
+            Assert.fail("A rejected execution exception was expected");
+        } catch (final RejectedExecutionException e) {
+            Assert.assertEquals(1, instrumentation.snapshot().getRejectedCount());
+        }
+
+        Assert.assertThat(engine.getExecutor().getRejectedExecutionHandler(),
+                Matchers.instanceOf(ThreadPoolExecutor.AbortPolicy.class));
+    }
+
+    @Test
+    public void stopRecordingWhenRemoved() throws Exception {
+        engine.getExecutor().setInstrumentation(null);
+
+        ThreadBuilder.newBuilder(engine).setName("ignored").setExecution(() -> {}).start().allDone()
+            .get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(instrumentation.snapshot().getTasks(), Matchers.empty());
+    }
+
+    @Test
+    public void exposeMBean() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ThreadBuilder.newBuilder(engine).setName("jmx").setExecution(() -> {}).start().allDone()
+            .get(5, TimeUnit.SECONDS);
+
+        final ObjectName objectName = instrumentation.registerMBean("test-engine");
+
+        Assert.assertTrue(server.isRegistered(objectName));
+        Assert.assertEquals(0L, server.getAttribute(objectName, "RejectedCount"));
+        Assert.assertEquals(1, ((Object[]) server.getAttribute(objectName, "Tasks")).length);
+
+        instrumentation.unregisterMBean();
+
+        Assert.assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    public void recordHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1000, histogram.getMaximum(TimeUnit.MICROSECONDS));
+        Assert.assertThat((double) histogram.getValueAtPercentile(50, TimeUnit.MICROSECONDS),
+                Matchers.closeTo(500, 500 * 0.04));
+        Assert.assertThat((double) histogram.getValueAtPercentile(99, TimeUnit.MICROSECONDS),
+                Matchers.closeTo(990, 990 * 0.04));
+    }
+}
@@ -0,0 +1,334 @@
+package thread;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ExecutorResultTest {
+    private static final int STARTS = 10_000;
+
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void countFinishedFutures() throws Exception {
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+
+        result.addFuture(engine.getExecutor().schedule(() -> {}, 0, TimeUnit.MILLISECONDS));
+        result.addFuture(engine.getExecutor().schedule(() -> {
+            throw new IllegalStateException();
+        }, 0, TimeUnit.MILLISECONDS));
+        result.addFuture(cancelledFuture());
+
+        result.track().allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(3, result.getSubmittedCount());
+        Assert.assertEquals(0, result.getPendingCount());
+        Assert.assertEquals(1, result.getCompletedCount());
+        Assert.assertEquals(1, result.getFailedCount());
+        Assert.assertEquals(1, result.getCancelledCount());
+    }
+
+    @Test
+    public void cancelledScheduledFutureIsCounted() throws Exception {
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+
+        result.addFuture(engine.getExecutor().schedule(() -> {}, 1, TimeUnit.DAYS));
+        result.getFutures().get(0).cancel(false);
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, result.getCancelledCount());
+    }
+
+    @Test
+    public void allDoneWaitsForEveryFuture() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+
+        result.addFuture(engine.getExecutor().schedule(() -> {}, 0, TimeUnit.MILLISECONDS));
+        result.addFuture(engine.getExecutor().schedule(() -> await(latch), 0, TimeUnit.MILLISECONDS));
+
+        final CompletableFuture<?> anyDone = result.anyDone();
+
+        anyDone.get(5, TimeUnit.SECONDS);
+
+        Assert.assertFalse(result.allDone().isDone());
+
+        latch.countDown();
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(2, result.getCompletedCount());
+    }
+
+    @Test
+    public void aggregateFuturesAreReadOnly() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorResult idleResult = new ExecutorResult(engine.getExecutor());
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+
+        idleResult.allDone().obtrudeException(new IllegalStateException());
+        result.addFuture(engine.getExecutor().schedule(() -> await(latch), 0, TimeUnit.MILLISECONDS));
+        result.allDone().complete(null);
+        result.anyDone().cancel(false);
+
+        Assert.assertFalse(result.allDone().isDone());
+        Assert.assertFalse(result.anyDone().isDone());
+        Assert.assertFalse(new ExecutorResult(engine.getExecutor()).allDone().isCompletedExceptionally());
+
+        latch.countDown();
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertSame(result.getFutures().get(0), result.anyDone().get(5, TimeUnit.SECONDS));
+        Assert.assertNull(idleResult.allDone().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void trackCountsPlainFutures() {
+        final FutureTask<Void> future = new FutureTask<>(() -> {}, null);
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+
+        result.addFuture(future);
+        future.run();
+
+        Assert.assertEquals(1, result.getPendingCount());
+
+        result.track().track();
+
+        Assert.assertEquals(0, result.getPendingCount());
+        Assert.assertEquals(1, result.getCompletedCount());
+        Assert.assertTrue(result.allDone().isDone());
+    }
+
+    @Test
+    public void finishedFuturesAreBounded() throws Exception {
+        final ThreadBuilder builder = ThreadBuilder.newBuilder(engine);
+        ExecutorResult result = null;
+
+        for (int i = 0; i < STARTS; i++) {
+            result = builder.setTimeout(60_000).setExecution(() -> {}).startAndBuildOther().start();
+        }
+
+        result.allDone().get(30, TimeUnit.SECONDS);
+        awaitReleasedFutures(result);
+
+        Assert.assertEquals(2 * STARTS, result.getSubmittedCount());
+        Assert.assertEquals(2 * STARTS, result.getCompletedCount());
+        Assert.assertThat(result.getFutures().size(),
+                Matchers.lessThanOrEqualTo(2 * ExecutorResult.DEFAULT_FINISHED_FUTURES_RETENTION));
+        Assert.assertThat(result.getTimeoutExecutorResults().size(),
+                Matchers.lessThanOrEqualTo(2 * ExecutorResult.DEFAULT_FINISHED_FUTURES_RETENTION));
+    }
+
+    @Test
+    public void addFuturesConcurrently() throws Exception {
+        final int threads = 4;
+        final ExecutorService submitters = Executors.newFixedThreadPool(threads);
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+        final List<Future<?>> submissions = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            submissions.add(submitters.submit(() -> {
+                for (int j = 0; j < STARTS; j++) {
+                    result.addFuture(engine.getExecutor().schedule(() -> {}, 0, TimeUnit.MILLISECONDS));
+                }
+            }));
+        }
+
+        for (final Future<?> submission : submissions) {
+            submission.get(30, TimeUnit.SECONDS);
+        }
+
+        submitters.shutdown();
+        result.allDone().get(30, TimeUnit.SECONDS);
+
+        Assert.assertEquals(threads * STARTS, result.getSubmittedCount());
+        Assert.assertEquals(threads * STARTS, result.getCompletedCount());
+        Assert.assertEquals(0, result.getPendingCount());
+    }
+
+    @Test
+    public void allDoneIsPendingWhileAddedFutureIsPending() throws Exception {
+        final int threads = 4;
+        final ExecutorService submitters = Executors.newFixedThreadPool(threads);
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+        final List<Future<Integer>> submissions = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            submissions.add(submitters.submit(() -> {
+                int completedTooEarly = 0;
+
+                for (int j = 0; j < STARTS; j++) {
+                    final CompletableFuture<Void> future = new CompletableFuture<>();
+
+                    result.addFuture(future);
+                    //Lets a finish which saw no pending future complete the aggregate before the check.
+                    Thread.yield();
+
+                    if (result.allDone().isDone()) {
+                        completedTooEarly++;
+                    }
+
+                    future.complete(null);
+                }
+
+                return completedTooEarly;
+            }));
+        }
+
+        for (final Future<Integer> submission : submissions) {
+            Assert.assertEquals(Integer.valueOf(0), submission.get(30, TimeUnit.SECONDS));
+        }
+
+        submitters.shutdown();
+
+        Assert.assertTrue(result.allDone().isDone());
+        Assert.assertEquals(0, result.getPendingCount());
+        Assert.assertEquals(threads * STARTS, result.getCompletedCount());
+    }
+
+    @Test
+    public void pruneTerminatedOwnedExecutors() throws Exception {
+        final ExecutorResult result = new ExecutorResult(engine.getExecutor());
+        final ExecutorService running = Executors.newSingleThreadExecutor();
+
+        result.addOwnedExecutorService(running);
+
+        for (int i = 0; i < STARTS; i++) {
+            final ExecutorService terminated = Executors.newSingleThreadExecutor();
+
+            terminated.shutdown();
+            result.addOwnedExecutorService(terminated);
+        }
+
+        Assert.assertThat(result.getOwnedExecutorServiceCount(), Matchers.lessThanOrEqualTo(65));
+        Assert.assertFalse(result.isFinished());
+
+        running.shutdown();
+        Assert.assertTrue(running.awaitTermination(5, TimeUnit.SECONDS));
+
+        Assert.assertTrue(result.isFinished());
+        Assert.assertEquals(0, result.getOwnedExecutorServiceCount());
+    }
+
+    @Test
+    public void shutdownDrainsAndCancelsRepetitions() {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setDelay(50)
+                .setExecution(() -> {})
+                .startAndBuildOther()
+                .setInterval(10)
+                .setExecution(() -> {})
+                .start();
+
+        final ShutdownReport report = result.shutdown(Duration.ofSeconds(5));
+
+        Assert.assertTrue(report.isDrained());
+        Assert.assertEquals(1, report.getCompletedCount());
+        Assert.assertEquals(1, report.getCancelledCount());
+        Assert.assertEquals(0, report.getPendingCount());
+        Assert.assertTrue(result.getExecutorService().isTerminated());
+    }
+
+    @Test
+    public void shutdownCancelsAfterTimeout() throws Exception {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setExecution(() -> ThreadUtil.sleepUnchecked(TimeUnit.MINUTES.toMillis(1)))
+                .start();
+
+        final ShutdownReport report = result.shutdown(Duration.ofMillis(100));
+
+        Assert.assertFalse(report.isDrained());
+        Assert.assertEquals(1, report.getCancelledCount());
+        Assert.assertTrue(result.getExecutorService().awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shutdownKeepsSharedEngine() throws Exception {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(TimeUnit.DAYS.toMillis(1))
+                .setExecution(() -> {})
+                .start();
+
+        Assert.assertFalse(result.shutdown(Duration.ofMillis(50)).isDrained());
+        Assert.assertEquals(1, result.getCancelledCount());
+        Assert.assertFalse(engine.isShutdown());
+    }
+
+    @Test
+    public void closeDrainsFutures() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorResult result;
+
+        try (final ExecutorResult closeable = ThreadBuilder.newBuilder().setExecution(() -> await(latch)).start()) {
+            result = closeable;
+            latch.countDown();
+        }
+
+        Assert.assertEquals(1, result.getCompletedCount());
+        Assert.assertTrue(result.getExecutorService().isTerminated());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectNegativeRetention() {
+        new ExecutorResult(engine.getExecutor(), -1);
+    }
+
+    /**
+     * Waits for the thread releasing the finished futures, which may still be releasing when the last one is done.
+     */
+    private static void awaitReleasedFutures(final ExecutorResult result) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while ((result.getFutures().size() > 2 * ExecutorResult.DEFAULT_FINISHED_FUTURES_RETENTION
+                || result.getTimeoutExecutorResults().size() > 2 * ExecutorResult.DEFAULT_FINISHED_FUTURES_RETENTION)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static FutureTask<Void> cancelledFuture() {
+        final FutureTask<Void> future = new FutureTask<>(() -> {}, null);
+
+        future.cancel(false);
+
+        return future;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package thread;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ForkJoinBackendTest {
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newForkJoinEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void runInForkJoinPool() throws Exception {
+        final AtomicReference<Thread> executionThread = new AtomicReference<>();
+
+        Assert.assertTrue(engine.getExecutor().isHandingOff());
+
+        ThreadBuilder
+                .newBuilder(engine)
+                .setExecution(() -> executionThread.set(Thread.currentThread()))
+                .start()
+                .allDone()
+                .get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(executionThread.get(), Matchers.instanceOf(ForkJoinWorkerThread.class));
+        Assert.assertEquals(0, engine.getExecutor().getPoolSize());
+    }
+
+    @Test
+    public void keepDelaySemantics() throws Exception {
+        final long startTime = System.nanoTime();
+        final AtomicReference<Thread> executionThread = new AtomicReference<>();
+
+        ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(100)
+                .setExecution(() -> executionThread.set(Thread.currentThread()))
+                .start()
+                .allDone()
+                .get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(System.nanoTime() - startTime,
+                Matchers.greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100)));
+        Assert.assertThat(executionThread.get(), Matchers.instanceOf(ForkJoinWorkerThread.class));
+    }
+
+    @Test
+    public void callUncaughtExceptionConsumer() throws Exception {
+        final CompletableFuture<Throwable> exception = new CompletableFuture<>();
+
+        ThreadBuilder
+                .newBuilder(2)
+                .setForkJoin(true)
+                .setUncaughtExceptionConsumer(exception::complete)
+                .setExecution(() -> {
+                    throw new IllegalStateException("fork-join");
+                })
+                .start();
+
+        final Throwable throwable = exception.get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(throwable.getCause(), Matchers.instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void repeatWithIntervalUntilTimeout() throws Exception {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setInterval(10)
+                .setTimeout(200)
+                .setSilentInterruption(true)
+                .setExecution(() -> {})
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertThat(result.getIntervalMetrics().getExecutedTicks(), Matchers.greaterThan(1L));
+        Assert.assertEquals(1, result.getCancelledCount());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void rejectAfterShutdown() {
+        engine.shutdown();
+        engine.getExecutor().execute(() -> {});
+    }
+
+    @Test
+    public void awaitHandedOffExecutions() throws Exception {
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+
+        engine.getExecutor().execute(() -> {
+            ThreadUtil.sleepUnchecked(100);
+            finished.complete(null);
+        });
+        engine.shutdown();
+
+        Assert.assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertTrue(finished.isDone());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidParallelism() {
+        SchedulerEngine.newForkJoinEngine(0);
+    }
+}
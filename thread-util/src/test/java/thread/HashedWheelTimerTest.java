@@ -0,0 +1,148 @@
+package thread;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+
+    @Before
+    public void beforeTests() {
+        timer = new HashedWheelTimer(5, TimeUnit.MILLISECONDS, 64);
+    }
+
+    @After
+    public void afterTests() {
+        timer.stop();
+    }
+
+    @Test
+    public void expireAfterDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                Matchers.greaterThanOrEqualTo(200L));
+        Assert.assertTrue(timeout.isExpired());
+        Assert.assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void expireAfterManyRounds() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        timer.newTimeout(latch::countDown, 700, TimeUnit.MILLISECONDS);
+
+        Assert.assertFalse(latch.await(600, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void neverExpireHugeDelays() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        timer.newTimeout(latch::countDown, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        timer.newTimeout(latch::countDown, 400_000, TimeUnit.DAYS);
+
+        Assert.assertFalse(latch.await(200, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(2, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void cancelBeforeExpiring() {
+        final AtomicInteger executions = new AtomicInteger();
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(executions::incrementAndGet, 100,
+                TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+
+        ThreadUtil.sleepUnchecked(300);
+
+        Assert.assertEquals(0, executions.get());
+        Assert.assertTrue(timeout.isCancelled());
+        Assert.assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void expireManyTimeoutsWithSingleTicker() throws InterruptedException {
+        final int timeouts = 50_000;
+        final CountDownLatch latch = new CountDownLatch(timeouts);
+        final int threadCount = Thread.activeCount();
+
+        for (int i = 0; i < timeouts; i++) {
+            timer.newTimeout(latch::countDown, i % 500, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals(threadCount, Thread.activeCount());
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void configurableResolution() {
+        Assert.assertEquals(5, timer.getTickDuration(TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectAfterStopping() {
+        timer.stop();
+
+        Assert.assertTrue(timer.isStopped());
+
+        timer.newTimeout(() -> {}, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void cancelBuilderTimeoutOnEngineTimer() {
+        final AtomicInteger cancellations = new AtomicInteger();
+
+        try (final SchedulerEngine engine = SchedulerEngine.newEngine(1, 5)) {
+            final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setTimeout(100)
+                .setMayInterruptIfRunning(true)
+                .setUncaughtExceptionConsumer(throwable -> cancellations.incrementAndGet())
+                .setExecution(() -> ThreadUtil.sleepUnchecked(2000))
+                .start();
+
+            ThreadUtil.sleepUnchecked(1500);
+
+            Assert.assertTrue(result.getFutures().get(0).isCancelled());
+            Assert.assertSame(result.getExecutorService(),
+                    result.getTimeoutExecutorResults().get(0).getExecutorService());
+            Assert.assertThat(cancellations.get(), Matchers.greaterThanOrEqualTo(1));
+            Assert.assertEquals(0, engine.getTimeoutTimer().getPendingTimeouts());
+        }
+    }
+
+    @Test
+    public void releaseBuilderTimeoutOfCancelledStart() {
+        try (final SchedulerEngine engine = SchedulerEngine.newEngine(1, 5)) {
+            final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(60_000)
+                .setTimeout(60_000)
+                .setExecution(() -> {})
+                .start();
+
+            Assert.assertEquals(1, engine.getTimeoutTimer().getPendingTimeouts());
+
+            result.getFutures().get(0).cancel(false);
+
+            Assert.assertEquals(0, engine.getTimeoutTimer().getPendingTimeouts());
+        }
+    }
+}
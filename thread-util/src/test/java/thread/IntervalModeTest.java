@@ -0,0 +1,157 @@
+package thread;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class IntervalModeTest {
+    private static final long INTERVAL = 50;
+    private static final long SLOW_RUN = 130;
+    private static final long TIMEOUT = 1000;
+
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(1);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void fixedRatePilesUpSlowExecutions() {
+        final List<Long> starts = new CopyOnWriteArrayList<>();
+        final ExecutorResult result = startSlowExecution(IntervalMode.FIXED_RATE, starts);
+
+        Assert.assertThat(minimumGap(starts), Matchers.lessThan(SLOW_RUN + INTERVAL));
+        Assert.assertThat(result.getIntervalMetrics().getLateTicks(), Matchers.greaterThan(0L));
+        Assert.assertEquals(0, result.getIntervalMetrics().getSkippedTicks());
+    }
+
+    @Test
+    public void fixedDelayWaitsAfterEachExecution() {
+        final List<Long> starts = new CopyOnWriteArrayList<>();
+        final ExecutorResult result = startSlowExecution(IntervalMode.FIXED_DELAY, starts);
+
+        Assert.assertThat(minimumGap(starts), Matchers.greaterThanOrEqualTo(SLOW_RUN + INTERVAL));
+        Assert.assertEquals(0, result.getIntervalMetrics().getSkippedTicks());
+        Assert.assertEquals(starts.size(), result.getIntervalMetrics().getExecutedTicks());
+    }
+
+    @Test
+    public void adaptiveSkipsMissedTicksAndStretchesInterval() {
+        final List<Long> starts = new CopyOnWriteArrayList<>();
+        final ExecutorResult result = startSlowExecution(IntervalMode.ADAPTIVE, starts);
+
+        Assert.assertThat(starts.size(), Matchers.greaterThan(2));
+        Assert.assertThat(minimumGap(starts.subList(1, starts.size())), Matchers.greaterThan(SLOW_RUN));
+        Assert.assertThat(result.getIntervalMetrics().getSkippedTicks(), Matchers.greaterThan(0L));
+        Assert.assertEquals(starts.size(), result.getIntervalMetrics().getExecutedTicks());
+    }
+
+    @Test
+    public void adaptiveKeepsRateOfFastExecutions() {
+        final List<Long> starts = new CopyOnWriteArrayList<>();
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setInterval(INTERVAL)
+                .setIntervalMode(IntervalMode.ADAPTIVE)
+                .setTimeout(TIMEOUT)
+                .setSilentInterruption(true)
+                .setExecution(() -> starts.add(System.nanoTime()))
+                .start();
+
+        ThreadUtil.sleepUnchecked(TIMEOUT + 200);
+
+        Assert.assertThat(starts.size(), Matchers.greaterThanOrEqualTo((int) (TIMEOUT / INTERVAL) - 2));
+        Assert.assertEquals(0, result.getIntervalMetrics().getSkippedTicks());
+    }
+
+    @Test
+    public void adaptiveNeverRunsSkippedTicks() {
+        final List<Long> starts = new CopyOnWriteArrayList<>();
+        final AtomicInteger afterExecutions = new AtomicInteger();
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setInterval(INTERVAL)
+                .setIntervalMode(IntervalMode.ADAPTIVE)
+                .setTimeout(TIMEOUT)
+                .setSilentInterruption(true)
+                .setAfterExecuteConsumer((runnable, throwable) -> afterExecutions.incrementAndGet())
+                .setExecution(() -> {
+                    starts.add(System.nanoTime());
+                    ThreadUtil.sleepUnchecked(SLOW_RUN);
+                })
+                .start();
+
+        ThreadUtil.sleepUnchecked(TIMEOUT + SLOW_RUN + 200);
+
+        Assert.assertThat(result.getIntervalMetrics().getSkippedTicks(), Matchers.greaterThan(0L));
+        Assert.assertThat(afterExecutions.get(), Matchers.lessThanOrEqualTo(starts.size()));
+        Assert.assertThat(afterExecutions.get(), Matchers.greaterThanOrEqualTo(starts.size() - 1));
+    }
+
+    @Test
+    public void adaptiveStopsSettledAsyncExecution() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<Integer> result = ThreadBuilder
+                .newBuilder(engine)
+                .setInterval(INTERVAL)
+                .setIntervalMode(IntervalMode.ADAPTIVE)
+                .callAsync(() -> calls.incrementAndGet() == 3 ? calls.get() : null);
+
+        Assert.assertEquals(Integer.valueOf(3), result.get(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        ThreadUtil.sleepUnchecked(INTERVAL * 3);
+
+        Assert.assertEquals(3, calls.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void rejectNullMode() {
+        ThreadBuilder.newBuilder(engine).setIntervalMode(null);
+    }
+
+    private ExecutorResult startSlowExecution(final IntervalMode mode, final List<Long> starts) {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setInterval(INTERVAL)
+                .setIntervalMode(mode)
+                .setTimeout(TIMEOUT)
+                .setSilentInterruption(true)
+                .setExecution(() -> {
+                    starts.add(System.nanoTime());
+                    ThreadUtil.sleepUnchecked(SLOW_RUN);
+                })
+                .start();
+
+        ThreadUtil.sleepUnchecked(TIMEOUT + SLOW_RUN + 200);
+
+        return result;
+    }
+
+    private static long minimumGap(final List<Long> starts) {
+        long minimumGap = Long.MAX_VALUE;
+
+        for (int i = 1; i < starts.size(); i++) {
+            minimumGap = Math.min(minimumGap, TimeUnit.NANOSECONDS.toMillis(starts.get(i) - starts.get(i - 1)));
+        }
+
+        return minimumGap;
+    }
+}
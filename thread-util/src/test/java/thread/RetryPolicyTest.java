@@ -0,0 +1,192 @@
+package thread;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class RetryPolicyTest {
+    private static RetryPolicy.Builder fastRetryPolicy() {
+        return RetryPolicy
+                .newBuilder()
+                .setBackoff(Duration.ofMillis(1), Duration.ofMillis(10));
+    }
+
+    @Test
+    public void recoverAfterRetries() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CompletableFuture<Throwable> exception = new CompletableFuture<>();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setRetryPolicy(fastRetryPolicy().setMaxAttempts(5).build())
+                .setUncaughtExceptionConsumer(exception::complete)
+                .setExecution(() -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw new IllegalStateException("retry");
+                    }
+                })
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertEquals(1, result.getCompletedCount());
+        Assert.assertEquals(1, result.getSubmittedCount());
+        Assert.assertEquals(3, result.getRetryMetrics().getAttempts());
+        Assert.assertEquals(2, result.getRetryMetrics().getRetries());
+        Assert.assertEquals(1, result.getRetryMetrics().getRecoveredCount());
+        Assert.assertEquals(1, result.getRetryMetrics().getLatency().getCount());
+        Assert.assertFalse(exception.isDone());
+    }
+
+    @Test
+    public void failAfterMaxAttempts() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CompletableFuture<Throwable> exception = new CompletableFuture<>();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setRetryPolicy(fastRetryPolicy().setMaxAttempts(3).build())
+                .setUncaughtExceptionConsumer(exception::complete)
+                .setExecution(() -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("exhausted");
+                })
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertEquals(1, result.getFailedCount());
+        Assert.assertEquals(1, result.getRetryMetrics().getExhaustedCount());
+        Assert.assertThat(exception.get(5, TimeUnit.SECONDS), Matchers.instanceOf(ExecutionException.class));
+        Assert.assertThat(exception.get().getCause(), Matchers.instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void notRetryUnexpectedExceptions() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setRetryPolicy(fastRetryPolicy()
+                        .setRetryOn(throwable -> throwable instanceof IllegalStateException)
+                        .build())
+                .setExecution(() -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalArgumentException("unexpected");
+                })
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, attempts.get());
+        Assert.assertEquals(1, result.getFailedCount());
+        Assert.assertEquals(0, result.getRetryMetrics().getRetries());
+        Assert.assertEquals(0, result.getRetryMetrics().getExhaustedCount());
+    }
+
+    @Test
+    public void retryOnSameExecutor() throws Exception {
+        try (final SchedulerEngine engine = SchedulerEngine.newEngine(1)) {
+            final AtomicInteger attempts = new AtomicInteger();
+
+            final ExecutorResult result = ThreadBuilder
+                    .newBuilder(engine)
+                    .setRetryPolicy(fastRetryPolicy().build())
+                    .setExecution(() -> {
+                        if (attempts.incrementAndGet() < 2) {
+                            throw new IllegalStateException("retry");
+                        }
+                    })
+                    .start();
+
+            result.allDone().get(5, TimeUnit.SECONDS);
+
+            Assert.assertSame(engine.getExecutor(), result.getExecutorService());
+            Assert.assertEquals(2, engine.getExecutor().getTaskCount());
+        }
+    }
+
+    @Test
+    public void cancelPendingAttemptByTimeout() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setRetryPolicy(RetryPolicy
+                        .newBuilder()
+                        .setBackoff(Duration.ofSeconds(10), Duration.ofSeconds(10))
+                        .setMultiplier(1)
+                        .build())
+                .setTimeout(100)
+                .setSilentInterruption(true)
+                .setExecution(() -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("retry");
+                })
+                .start();
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, result.getCancelledCount());
+        Assert.assertThat(attempts.get(), Matchers.lessThanOrEqualTo(2));
+    }
+
+    @Test
+    public void retryEveryExecutionOfStartAll() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(2)
+                .setRetryPolicy(fastRetryPolicy().setMaxAttempts(2).build())
+                .startAll(Arrays.<Runnable>asList(
+                        () -> attempts.incrementAndGet(),
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw new IllegalStateException("retry");
+                        }));
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertEquals(1, result.getCompletedCount());
+        Assert.assertEquals(1, result.getFailedCount());
+    }
+
+    @Test
+    public void boundBackoffByCeiling() {
+        final RetryPolicy retryPolicy = RetryPolicy
+                .newBuilder()
+                .setBackoff(Duration.ofMillis(10), Duration.ofMillis(50))
+                .build();
+
+        for (int retry = 1; retry <= 10; retry++) {
+            final long ceiling = TimeUnit.MILLISECONDS.toNanos(Math.min(50, 10L << (retry - 1)));
+
+            Assert.assertThat(retryPolicy.nextBackoff(retry), Matchers.lessThanOrEqualTo(ceiling));
+            Assert.assertThat(retryPolicy.nextBackoff(retry), Matchers.greaterThanOrEqualTo(0L));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidMaxAttempts() {
+        RetryPolicy.newBuilder().setMaxAttempts(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidBackoff() {
+        RetryPolicy.newBuilder().setBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,137 @@
+package thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ScheduledCaughtExecutorServiceTest {
+    private ScheduledCaughtExecutorService executor;
+
+    @Before
+    public void beforeTests() {
+        executor = new ScheduledCaughtExecutorService(2);
+    }
+
+    @After
+    public void afterTests() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void dispatchOnlyToOwnTask() throws Exception {
+        final AtomicInteger firstCalls = new AtomicInteger();
+        final AtomicInteger secondCalls = new AtomicInteger();
+        final ScheduledFuture<?> first = executor.schedule(() -> {}, 0, TimeUnit.MILLISECONDS,
+                (runnable, throwable) -> firstCalls.incrementAndGet());
+        final ScheduledFuture<?> second = executor.schedule(() -> {}, 0, TimeUnit.MILLISECONDS,
+                (runnable, throwable) -> secondCalls.incrementAndGet());
+
+        first.get();
+        second.get();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, firstCalls.get());
+        Assert.assertEquals(1, secondCalls.get());
+    }
+
+    @Test
+    public void dispatchEveryPeriodicExecution() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ScheduledFuture<?> future = executor.scheduleAtFixedRate(() -> {}, 0, 10, TimeUnit.MILLISECONDS,
+                (runnable, throwable) -> calls.incrementAndGet());
+
+        ThreadUtil.sleepUnchecked(200);
+        future.cancel(false);
+
+        final int callsAfterCancelling = calls.get();
+
+        ThreadUtil.sleepUnchecked(100);
+
+        Assert.assertTrue(callsAfterCancelling > 1);
+        Assert.assertTrue(calls.get() <= callsAfterCancelling + 1);
+        Assert.assertEquals(0, executor.getQueue().size());
+    }
+
+    @Test
+    public void removeCancelledTasksReachingTheHead() {
+        final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+        executor.setRemoveOnCancelPolicy(true);
+
+        for (int i = 0; i < 1000; i++) {
+            futures.add(executor.schedule(() -> {}, i + 1, TimeUnit.MINUTES));
+        }
+
+        futures.subList(1, futures.size()).forEach(future -> future.cancel(false));
+
+        Assert.assertEquals(1000, executor.getQueue().size());
+
+        futures.get(0).cancel(false);
+
+        Assert.assertEquals(0, executor.getQueue().size());
+    }
+
+    @Test
+    public void passTaskToConsumer() throws Exception {
+        final CompletableFuture<Runnable> consumedTask = new CompletableFuture<>();
+        final ScheduledFuture<?> future = executor.schedule(() -> {}, 0, TimeUnit.MILLISECONDS,
+                (runnable, throwable) -> consumedTask.complete(runnable));
+
+        Assert.assertSame(future, consumedTask.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void addConsumerToScheduledTask() throws Exception {
+        final CompletableFuture<Runnable> consumedTask = new CompletableFuture<>();
+        final ScheduledFuture<?> future = executor.schedule(() -> {}, 100, TimeUnit.MILLISECONDS);
+
+        executor.addAfterExecuteConsumer(future, (runnable, throwable) -> consumedTask.complete(runnable));
+
+        Assert.assertSame(future, consumedTask.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void removeConsumersBeforeExecution() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ScheduledFuture<?> future = executor.schedule(() -> {}, 100, TimeUnit.MILLISECONDS,
+                (runnable, throwable) -> calls.incrementAndGet());
+
+        executor.removeAfterExecuteConsumers(future);
+
+        ThreadUtil.sleepUnchecked(300);
+
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals(0, calls.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectForeignTask() {
+        executor.addAfterExecuteConsumer(new CompletableFuture<>(), (runnable, throwable) -> {});
+    }
+
+    @Test
+    public void callGlobalConsumersForEveryTask() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        executor.addAfterExecuteConsumer((runnable, throwable) -> calls.incrementAndGet());
+        executor.schedule(() -> {}, 0, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> {}, 0, TimeUnit.MILLISECONDS);
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(2, calls.get());
+    }
+}
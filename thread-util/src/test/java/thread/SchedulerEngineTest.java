@@ -0,0 +1,144 @@
+package thread;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class SchedulerEngineTest {
+    private static final int STARTS = 100_000;
+
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void threadCountStaysFlatAcrossStarts() {
+        final AtomicInteger executions = new AtomicInteger();
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        warmUp();
+        threadMXBean.resetPeakThreadCount();
+
+        final int threadCount = threadMXBean.getThreadCount();
+
+        for (int i = 0; i < STARTS; i++) {
+            ThreadBuilder
+                .newBuilder(engine)
+                .setExecution(executions::incrementAndGet)
+                .start();
+        }
+
+        waitFor(executions, STARTS);
+
+        Assert.assertEquals(STARTS, executions.get());
+        Assert.assertThat(threadMXBean.getPeakThreadCount(), Matchers.lessThanOrEqualTo(threadCount));
+    }
+
+    @Test
+    public void resultsShareEngineExecutor() {
+        final ExecutorResult first = ThreadBuilder.newBuilder(engine).setExecution(() -> {}).start();
+        final ExecutorResult second = ThreadBuilder.newBuilder(engine).setTimeout(1000).setExecution(() -> {}).start();
+
+        Assert.assertSame(engine.getExecutor(), first.getExecutorService());
+        Assert.assertSame(engine.getExecutor(), second.getExecutorService());
+        Assert.assertSame(engine.getExecutor(), second.getTimeoutExecutorResults().get(0).getExecutorService());
+    }
+
+    @Test
+    public void afterExecuteConsumerIsCalledOnlyForItsOwnBuilder() {
+        final AtomicInteger firstCalls = new AtomicInteger();
+        final AtomicInteger secondCalls = new AtomicInteger();
+
+        ThreadBuilder
+            .newBuilder(engine)
+            .setAfterExecuteConsumer((runnable, throwable) -> firstCalls.incrementAndGet())
+            .setExecution(() -> {})
+            .start();
+        ThreadBuilder
+            .newBuilder(engine)
+            .setAfterExecuteConsumer((runnable, throwable) -> secondCalls.incrementAndGet())
+            .setExecution(() -> {})
+            .start();
+
+        waitFor(firstCalls, 1);
+        waitFor(secondCalls, 1);
+
+        Assert.assertEquals(1, firstCalls.get());
+        Assert.assertEquals(1, secondCalls.get());
+    }
+
+    @Test
+    public void closeFinishesEngine() {
+        final AtomicInteger executions = new AtomicInteger();
+
+        ThreadBuilder.newBuilder(engine).setExecution(executions::incrementAndGet).start();
+        engine.close();
+
+        Assert.assertEquals(1, executions.get());
+        Assert.assertTrue(engine.isTerminated());
+    }
+
+    @Test
+    public void shutdownStopsTimerWhenTerminated() throws Exception {
+        ThreadBuilder
+                .newBuilder(engine)
+                .setTimeout(50)
+                .setMayInterruptIfRunning(true)
+                .setSilentInterruption(true)
+                .setExecution(() -> ThreadUtil.sleepUnchecked(TimeUnit.MINUTES.toMillis(1)))
+                .start();
+        engine.shutdown();
+
+        Assert.assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (!engine.getTimeoutTimer().isStopped() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assert.assertTrue(engine.getTimeoutTimer().isStopped());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectInvalidPoolSize() {
+        SchedulerEngine.newEngine(0);
+    }
+
+    private void warmUp() {
+        final AtomicInteger executions = new AtomicInteger();
+
+        for (int i = 0; i < engine.getCorePoolSize(); i++) {
+            ThreadBuilder.newBuilder(engine).setExecution(executions::incrementAndGet).start();
+        }
+
+        waitFor(executions, engine.getCorePoolSize());
+    }
+
+    private static void waitFor(final AtomicInteger counter, final int expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            ThreadUtil.sleepUnchecked(10);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package thread;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ShutdownRegistryTest {
+
+    @Test
+    public void registerStartedResults() {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder()
+                .setShutdownOnExit(true)
+                .setInterval(10)
+                .setExecution(() -> {})
+                .start();
+
+        Assert.assertTrue(ShutdownRegistry.isRegistered(result));
+
+        result.shutdown(Duration.ofSeconds(5));
+
+        Assert.assertFalse(ShutdownRegistry.isRegistered(result));
+    }
+
+    @Test
+    public void shutdownEveryResult() throws Exception {
+        final ExecutorResult repeatingResult = ThreadBuilder
+                .newBuilder()
+                .setShutdownOnExit(true)
+                .setInterval(10)
+                .setExecution(() -> {})
+                .start();
+        final ExecutorResult delayedResult = ThreadBuilder
+                .newBuilder()
+                .setShutdownOnExit(true)
+                .setDelay(50)
+                .setExecution(() -> {})
+                .start();
+
+        final ShutdownReport report = ShutdownRegistry.shutdownAll(Duration.ofSeconds(5));
+
+        Assert.assertTrue(report.isDrained());
+        Assert.assertEquals(1, report.getCompletedCount());
+        Assert.assertEquals(1, report.getCancelledCount());
+        Assert.assertFalse(ShutdownRegistry.isRegistered(repeatingResult));
+        Assert.assertFalse(ShutdownRegistry.isRegistered(delayedResult));
+        Assert.assertTrue(repeatingResult.getExecutorService().awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertTrue(delayedResult.getExecutorService().isTerminated());
+    }
+
+    @Test
+    public void keepUnregisteredResults() {
+        final ExecutorResult result = ThreadBuilder.newBuilder().setExecution(() -> {}).start();
+
+        Assert.assertFalse(ShutdownRegistry.isRegistered(result));
+        Assert.assertFalse(ShutdownRegistry.unregister(result));
+
+        result.close();
+    }
+}
@@ -0,0 +1,186 @@
+package thread;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ThreadBuilderAsyncTest {
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void supplyValue() throws Exception {
+        final CompletableFuture<String> future = ThreadBuilder.newBuilder().supplyAsync(() -> "value");
+
+        Assert.assertEquals("value", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void composeWithoutBlocking() throws Exception {
+        final CompletableFuture<Integer> future = ThreadBuilder
+                .newBuilder(engine)
+                .supplyAsync(() -> 20)
+                .thenCombine(ThreadBuilder.newBuilder(engine).callAsync(() -> 22), Integer::sum);
+
+        Assert.assertEquals(Integer.valueOf(42), future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void applyDelay() throws Exception {
+        final long start = System.nanoTime();
+        final CompletableFuture<Long> future = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(300)
+                .supplyAsync(System::nanoTime);
+
+        Assert.assertThat(TimeUnit.NANOSECONDS.toMillis(future.get(5, TimeUnit.SECONDS) - start),
+                Matchers.greaterThanOrEqualTo(300L));
+    }
+
+    @Test
+    public void failWithSupplierException() throws Exception {
+        final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        final CompletableFuture<Object> future = ThreadBuilder
+                .newBuilder(engine)
+                .setUncaughtExceptionConsumer(uncaught::set)
+                .supplyAsync(() -> {
+                    throw new IllegalStateException("failure");
+                });
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("An execution exception was expected");
+        } catch (final ExecutionException e) {
+            Assert.assertThat(e.getCause(), Matchers.instanceOf(IllegalStateException.class));
+        }
+
+        waitFor(() -> uncaught.get() != null);
+
+        Assert.assertThat(uncaught.get(), Matchers.instanceOf(ExecutionException.class));
+    }
+
+    @Test
+    public void cancelOnTimeout() throws Exception {
+        final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        final CompletableFuture<String> future = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(10_000)
+                .setTimeout(100)
+                .setUncaughtExceptionConsumer(uncaught::set)
+                .supplyAsync(() -> "late");
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("A cancellation exception was expected");
+        } catch (final CancellationException e) {
+            Assert.assertTrue(future.isCancelled());
+        }
+
+        waitFor(() -> uncaught.get() != null);
+
+        Assert.assertThat(uncaught.get(), Matchers.instanceOf(CancellationException.class));
+    }
+
+    @Test
+    public void cancelSilentlyOnTimeout() throws Exception {
+        final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        final CompletableFuture<String> future = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(10_000)
+                .setTimeout(100)
+                .setSilentInterruption(true)
+                .setUncaughtExceptionConsumer(uncaught::set)
+                .supplyAsync(() -> "late");
+
+        waitFor(future::isDone);
+        ThreadUtil.sleepUnchecked(100);
+
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertNull(uncaught.get());
+    }
+
+    @Test
+    public void repeatUntilValue() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final CompletableFuture<Integer> future = ThreadBuilder
+                .newBuilder(engine)
+                .setInterval(20)
+                .supplyAsync(() -> executions.incrementAndGet() < 3 ? null : executions.get());
+
+        Assert.assertEquals(Integer.valueOf(3), future.get(5, TimeUnit.SECONDS));
+
+        ThreadUtil.sleepUnchecked(200);
+
+        Assert.assertEquals(3, executions.get());
+    }
+
+    @Test
+    public void cancelThreadByFuture() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final ThreadBuilder builder = ThreadBuilder.newBuilder(engine).setInterval(20);
+        final CompletableFuture<Object> future = builder.supplyAsync(() -> {
+            executions.incrementAndGet();
+            return null;
+        });
+
+        waitFor(() -> executions.get() > 0);
+        future.cancel(false);
+        ThreadUtil.sleepUnchecked(100);
+
+        final int executionsAfterCancel = executions.get();
+
+        ThreadUtil.sleepUnchecked(200);
+
+        Assert.assertEquals(executionsAfterCancel, executions.get());
+    }
+
+    @Test
+    public void shutdownOwnExecutorWhenDone() throws Exception {
+        final ThreadBuilder builder = ThreadBuilder.newBuilder();
+
+        builder.supplyAsync(() -> "value").get(5, TimeUnit.SECONDS);
+
+        final ExecutorResult result = builder.setExecution(() -> {}).start();
+
+        waitFor(result.getExecutorService()::isShutdown);
+
+        Assert.assertThat(result.getFutures(), Matchers.hasSize(2));
+        Assert.assertTrue(result.getExecutorService().isShutdown());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void rejectNullSupplier() {
+        ThreadBuilder.newBuilder(engine).supplyAsync(null);
+    }
+
+    private static void waitFor(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            ThreadUtil.sleepUnchecked(10);
+        }
+    }
+}
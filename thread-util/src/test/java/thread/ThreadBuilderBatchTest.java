@@ -0,0 +1,154 @@
+package thread;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ThreadBuilderBatchTest {
+    private static final int EXECUTIONS = 10_000;
+
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void startEveryExecution() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final AtomicInteger afterExecutions = new AtomicInteger();
+        final List<Runnable> batch = Collections.nCopies(EXECUTIONS, executions::incrementAndGet);
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setAfterExecuteConsumer((runnable, throwable) -> afterExecutions.incrementAndGet())
+                .startAll(batch);
+
+        result.allDone().get(30, TimeUnit.SECONDS);
+
+        Assert.assertEquals(EXECUTIONS, executions.get());
+        Assert.assertEquals(EXECUTIONS, result.getSubmittedCount());
+        Assert.assertEquals(EXECUTIONS, result.getCompletedCount());
+        Assert.assertSame(engine.getExecutor(), result.getExecutorService());
+        waitFor(afterExecutions, EXECUTIONS);
+        Assert.assertEquals(EXECUTIONS, afterExecutions.get());
+    }
+
+    @Test
+    public void startStreamOfExecutions() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .startAll(IntStream.range(0, EXECUTIONS).mapToObj(i -> (Runnable) executions::incrementAndGet));
+
+        result.allDone().get(30, TimeUnit.SECONDS);
+
+        Assert.assertEquals(EXECUTIONS, executions.get());
+    }
+
+    @Test
+    public void shareOneTimeout() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setDelay(10_000)
+                .setTimeout(100)
+                .setSilentInterruption(true)
+                .startAll(Collections.nCopies(EXECUTIONS, executions::incrementAndGet));
+
+        Assert.assertEquals(1, engine.getTimeoutTimer().getPendingTimeouts());
+        Assert.assertThat(result.getTimeoutExecutorResults(), Matchers.hasSize(1));
+
+        result.allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(0, executions.get());
+        Assert.assertEquals(EXECUTIONS, result.getCancelledCount());
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        // The cancellation notifications are queued into the engine as well.
+        while (!engine.getExecutor().getQueue().isEmpty() && System.nanoTime() < deadline) {
+            ThreadUtil.sleepUnchecked(10);
+        }
+
+        Assert.assertEquals(0, engine.getExecutor().getQueue().size());
+    }
+
+    @Test
+    public void releaseTimeoutWhenEveryExecutionIsDone() throws Exception {
+        final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setTimeout(60_000)
+                .startAll(Collections.nCopies(EXECUTIONS, () -> {}));
+
+        result.allDone().get(30, TimeUnit.SECONDS);
+        result.getTimeoutExecutorResults().get(0).allDone().get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(0, engine.getTimeoutTimer().getPendingTimeouts());
+    }
+
+    @Test
+    public void applyIntervalToEveryExecution() {
+        final List<AtomicInteger> counters = new ArrayList<>();
+        final List<Runnable> batch = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            final AtomicInteger counter = new AtomicInteger();
+
+            counters.add(counter);
+            batch.add(counter::incrementAndGet);
+        }
+
+        ThreadBuilder
+            .newBuilder(engine)
+            .setInterval(50)
+            .setTimeout(500)
+            .setSilentInterruption(true)
+            .startAll(batch);
+
+        ThreadUtil.sleepUnchecked(700);
+
+        for (final AtomicInteger counter : counters) {
+            Assert.assertThat(counter.get(), Matchers.greaterThan(1));
+        }
+    }
+
+    @Test
+    public void startEmptyBatch() {
+        final ExecutorResult result = ThreadBuilder.newBuilder(engine).setTimeout(100).startAll(new ArrayList<>());
+
+        Assert.assertEquals(0, result.getSubmittedCount());
+        Assert.assertThat(result.getTimeoutExecutorResults(), Matchers.empty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void rejectNullExecution() {
+        ThreadBuilder.newBuilder(engine).startAll(Collections.singletonList(null));
+    }
+
+    private static void waitFor(final AtomicInteger counter, final int expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            ThreadUtil.sleepUnchecked(10);
+        }
+    }
+}
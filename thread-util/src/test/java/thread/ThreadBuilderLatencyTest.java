@@ -0,0 +1,87 @@
+package thread;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class ThreadBuilderLatencyTest {
+    private static final int STARTS = 2_000;
+
+    private SchedulerEngine engine;
+
+    @Before
+    public void beforeTests() {
+        engine = SchedulerEngine.newEngine(2);
+    }
+
+    @After
+    public void afterTests() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    public void startWithoutDelayWhenConsumersArePresent() throws InterruptedException {
+        final long[] latencies = new long[STARTS];
+        final AtomicInteger afterExecuteCalls = new AtomicInteger();
+        final AtomicInteger exceptionCalls = new AtomicInteger();
+
+        for (int i = 0; i < STARTS; i++) {
+            final CountDownLatch latch = new CountDownLatch(1);
+            final long start = System.nanoTime();
+            final int index = i;
+
+            ThreadBuilder
+                .newBuilder(engine)
+                .setAfterExecuteConsumer((runnable, throwable) -> afterExecuteCalls.incrementAndGet())
+                .setUncaughtExceptionConsumer(throwable -> exceptionCalls.incrementAndGet())
+                .setExecution(() -> {
+                        latencies[index] = System.nanoTime() - start;
+                        latch.countDown();
+                    })
+                .start();
+
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+
+        Arrays.sort(latencies);
+
+        Assert.assertThat(latencies[STARTS / 2], Matchers.lessThan(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void callConsumersOfExecutionsDoneBeforeStartReturns() {
+        final AtomicInteger afterExecuteCalls = new AtomicInteger();
+        final AtomicInteger exceptionCalls = new AtomicInteger();
+
+        for (int i = 0; i < STARTS; i++) {
+            ThreadBuilder
+                .newBuilder(engine)
+                .setAfterExecuteConsumer((runnable, throwable) -> afterExecuteCalls.incrementAndGet())
+                .setUncaughtExceptionConsumer(throwable -> exceptionCalls.incrementAndGet())
+                .setExecution(() -> {
+                        throw new IllegalStateException();
+                    })
+                .start();
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (afterExecuteCalls.get() < STARTS && System.nanoTime() < deadline) {
+            ThreadUtil.sleepUnchecked(10);
+        }
+
+        Assert.assertEquals(STARTS, afterExecuteCalls.get());
+        Assert.assertEquals(STARTS, exceptionCalls.get());
+    }
+}
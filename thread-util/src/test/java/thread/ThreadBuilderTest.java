@@ -271,7 +271,7 @@ public class ThreadBuilderTest {
             .setSilentInterruption(true)
             .start();
         
-        ThreadUtil.sleepUnchecked(1500);
+        ThreadUtil.sleepUnchecked(500);
         
         Mockito.verify(lazyRunnableWithException, Mockito.times(1)).run();
         
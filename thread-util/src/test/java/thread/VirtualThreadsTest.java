@@ -0,0 +1,157 @@
+package thread;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * @author Diego Armange Costa
+ * @since 2026-10-15 V1.0.0 (JDK 1.8)
+ */
+public class VirtualThreadsTest {
+    private static final int SLEEPING_TASKS = 100_000;
+
+    @Test
+    public void probeRuntimeSupport() {
+        Assert.assertEquals(isJava21OrLater(), ThreadUtil.isVirtualThreadSupported());
+        Assert.assertEquals(isJava21OrLater(), new CaughtExecutorThreadFactory(null, true).isVirtual());
+        Assert.assertFalse(new CaughtExecutorThreadFactory(null).isVirtual());
+    }
+
+    @Test
+    public void createVirtualThreads() {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+
+        final Thread thread = new CaughtExecutorThreadFactory((t, e) -> {}, true).newThread(() -> {});
+
+        Assert.assertThat(thread.getClass().getName(), Matchers.containsString("Virtual"));
+        Assert.assertNotNull(thread.getUncaughtExceptionHandler());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void rejectVirtualThreadsWithoutSupport() {
+        Assume.assumeFalse(VirtualThreads.isSupported());
+
+        VirtualThreads.newThread(() -> {});
+    }
+
+    @Test
+    public void fallBackToPlatformThreadsWithoutSupport() throws Exception {
+        final CompletableFuture<Thread> executionThread = new CompletableFuture<>();
+
+        try (final SchedulerEngine engine = SchedulerEngine.newVirtualThreadEngine()) {
+            ThreadBuilder
+                .newBuilder(engine)
+                .setExecution(() -> executionThread.complete(Thread.currentThread()))
+                .start();
+
+            Assert.assertEquals(VirtualThreads.isSupported(), engine.isVirtual());
+            Assert.assertEquals(VirtualThreads.isSupported(),
+                    executionThread.get(5, TimeUnit.SECONDS).getClass().getName().contains("Virtual"));
+        }
+    }
+
+    @Test
+    public void keepDelayAndIntervalSemantics() {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+
+        final AtomicInteger executions = new AtomicInteger();
+        final ExecutorResult result = ThreadBuilder
+            .newBuilder()
+            .setVirtualThreads(true)
+            .setDelay(200)
+            .setInterval(100)
+            .setExecution(executions::incrementAndGet)
+            .start();
+
+        ThreadUtil.sleepUnchecked(100);
+
+        Assert.assertEquals(0, executions.get());
+
+        ThreadUtil.sleepUnchecked(450);
+        result.getExecutorService().shutdownNow();
+
+        Assert.assertThat(executions.get(), Matchers.allOf(Matchers.greaterThanOrEqualTo(3),
+                Matchers.lessThanOrEqualTo(5)));
+    }
+
+    @Test
+    public void keepTimeoutSemantics() {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+
+        final AtomicInteger exceptions = new AtomicInteger();
+        final AtomicInteger executions = new AtomicInteger();
+
+        try (final SchedulerEngine engine = SchedulerEngine.newVirtualThreadEngine(5)) {
+            final ExecutorResult result = ThreadBuilder
+                .newBuilder(engine)
+                .setTimeout(100)
+                .setMayInterruptIfRunning(true)
+                .setUncaughtExceptionConsumer(throwable -> exceptions.incrementAndGet())
+                .setExecution(() -> {
+                        ThreadUtil.sleepUnchecked(1000);
+                        executions.incrementAndGet();
+                    })
+                .start();
+
+            ThreadUtil.sleepUnchecked(500);
+
+            Assert.assertTrue(result.getFutures().get(0).isCancelled());
+            Assert.assertEquals(0, executions.get());
+            Assert.assertThat(exceptions.get(), Matchers.greaterThanOrEqualTo(1));
+        }
+    }
+
+    @Test
+    public void callUncaughtExceptionConsumer() throws Exception {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+
+        final CompletableFuture<Throwable> exception = new CompletableFuture<>();
+
+        try (final SchedulerEngine engine = SchedulerEngine.newVirtualThreadEngine()) {
+            ThreadBuilder
+                .newBuilder(engine)
+                .setUncaughtExceptionConsumer(exception::complete)
+                .setExecution(() -> {
+                        throw new IllegalStateException();
+                    })
+                .start();
+
+            Assert.assertThat(exception.get(5, TimeUnit.SECONDS).getCause(),
+                    Matchers.instanceOf(IllegalStateException.class));
+        }
+    }
+
+    @Test
+    public void runManySleepingTasksConcurrently() throws InterruptedException {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+
+        final CountDownLatch latch = new CountDownLatch(SLEEPING_TASKS);
+
+        try (final SchedulerEngine engine = SchedulerEngine.newVirtualThreadEngine()) {
+            for (int i = 0; i < SLEEPING_TASKS; i++) {
+                ThreadBuilder
+                    .newBuilder(engine)
+                    .setExecution(() -> {
+                            ThreadUtil.sleepUnchecked(1000);
+                            latch.countDown();
+                        })
+                    .start();
+            }
+
+            Assert.assertTrue(latch.await(20, TimeUnit.SECONDS));
+        }
+    }
+
+    private static boolean isJava21OrLater() {
+        final String version = System.getProperty("java.specification.version");
+
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+    }
+}